@@ -21,6 +21,7 @@ import org.jboss.hal.client.bootstrap.tasks.BootstrapTasks;
 import org.jboss.hal.client.bootstrap.tasks.CheckForUpdate;
 import org.jboss.hal.client.bootstrap.tasks.CheckTargetVersion;
 import org.jboss.hal.client.bootstrap.tasks.InitializationTasks;
+import org.jboss.hal.client.bootstrap.tasks.LoadMetadataSnapshot;
 import org.jboss.hal.client.bootstrap.tasks.LoadSettings;
 import org.jboss.hal.client.bootstrap.tasks.ReadAuthentication;
 import org.jboss.hal.client.bootstrap.tasks.ReadEnvironment;
@@ -45,6 +46,7 @@ public class BootstrapModule extends AbstractGinModule {
         bind(EndpointStorage.class).in(Singleton.class);
         bind(ReadHostNames.class).in(Singleton.class);
         bind(InitializationTasks.class).in(Singleton.class);
+        bind(LoadMetadataSnapshot.class).in(Singleton.class);
         bind(LoadSettings.class).in(Singleton.class);
         bind(ReadAuthentication.class).in(Singleton.class);
         bind(ReadEnvironment.class).in(Singleton.class);
@@ -38,6 +38,7 @@ public class BootstrapTasks {
             ReadStabilityLevel readStabilityLevel,
             RegisterStaticCapabilities registerStaticCapabilities,
             LoadSettings loadSettings,
+            LoadMetadataSnapshot loadMetadataSnapshot,
             SetTitle setTitle,
             StartAnalytics startAnalytics) {
         this.tasks = asList(
@@ -48,6 +49,7 @@ public class BootstrapTasks {
                 readStabilityLevel,
                 registerStaticCapabilities,
                 loadSettings,
+                loadMetadataSnapshot,
                 setTitle,
                 startAnalytics);
     }
@@ -0,0 +1,43 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.bootstrap.tasks;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.flow.FlowContext;
+import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.processing.MetadataSnapshot;
+
+import elemental2.promise.Promise;
+
+/**
+ * Warms the metadata registries using the last {@linkplain MetadataSnapshot metadata snapshot}. Depends on
+ * {@link LoadSettings}, since the snapshot is keyed by the locale and run-as roles.
+ */
+public final class LoadMetadataSnapshot implements Task<FlowContext> {
+
+    private final MetadataSnapshot metadataSnapshot;
+
+    @Inject
+    public LoadMetadataSnapshot(MetadataSnapshot metadataSnapshot) {
+        this.metadataSnapshot = metadataSnapshot;
+    }
+
+    @Override
+    public Promise<FlowContext> apply(final FlowContext context) {
+        return metadataSnapshot.load().then(__ -> Promise.resolve(context));
+    }
+}
@@ -30,6 +30,7 @@ import elemental2.promise.Promise;
 
 import static org.jboss.hal.config.Settings.Key.COLLECT_USER_DATA;
 import static org.jboss.hal.config.Settings.Key.LOCALE;
+import static org.jboss.hal.config.Settings.Key.METADATA_CACHE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.POLL;
 import static org.jboss.hal.config.Settings.Key.POLL_TIME;
@@ -61,6 +62,7 @@ public final class LoadSettings implements Task<FlowContext> {
         settings.load(PAGE_SIZE, Settings.DEFAULT_PAGE_SIZE);
         settings.load(POLL, true);
         settings.load(POLL_TIME, Settings.DEFAULT_POLL_TIME);
+        settings.load(METADATA_CACHE_SIZE, Settings.DEFAULT_METADATA_CACHE_SIZE);
         settings.load(RUN_AS, null);
         logger.debug("Load settings: {}", settings);
         return Promise.resolve(context);
@@ -95,6 +95,7 @@ public class ContentColumn extends AbstractDeploymentColumn<Content> {
                 .pinnable()
                 .showCount()
                 .withFilter()
+                .virtualScroll()
                 .filterDescription(resources.messages().contentFilterDescription()),
                 columnActionFactory, crud, dispatcher, environment, eventBus, itemActionFactory,
                 metadataRegistry, securityContextRegistry, progress, resources, statementContext);
@@ -93,7 +93,8 @@ public class ServerGroupDeploymentColumn extends AbstractDeploymentColumn<Server
                 .useFirstActionAsBreadcrumbHandler()
                 .pinnable()
                 .showCount()
-                .withFilter(),
+                .withFilter()
+                .virtualScroll(),
                 columnActionFactory, crud, dispatcher, environment, eventBus, itemActionFactory,
                 metadataRegistry, securityContextRegistry, progress, resources, statementContext);
 
@@ -103,6 +103,7 @@ public class StandaloneDeploymentColumn extends AbstractDeploymentColumn<Deploym
                 .pinnable()
                 .showCount()
                 .withFilter()
+                .virtualScroll()
                 .filterDescription(resources.messages().deploymentStandaloneColumnFilterDescription()),
                 columnActionFactory, crud, dispatcher, environment, eventBus, itemActionFactory,
                 metadataRegistry, securityContextRegistry, progress, resources, statementContext);
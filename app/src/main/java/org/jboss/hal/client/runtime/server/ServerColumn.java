@@ -222,6 +222,7 @@ public class ServerColumn extends FinderColumn<Server> implements ServerActionHa
                 .pinnable()
                 .showCount()
                 .withFilter()
+                .virtualScroll()
                 .filterDescription(resources.messages().serverFilterDescription())
                 .onPreview(item -> new ServerPreview(serverActions, item, dispatcher, progress,
                         statementContext, placeManager, places, finderPathFactory, resources)));
@@ -18,6 +18,7 @@ package org.jboss.hal.client.runtime.server;
 import org.jboss.hal.ballroom.Format;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
@@ -43,7 +44,23 @@ import static org.jboss.hal.resources.CSS.lead;
 
 public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
 
+    private static final AddressTemplate MBEAN_TEMPLATE = AddressTemplate.of(SELECTED_HOST, SELECTED_SERVER,
+            "core-service=platform-mbean");
+    private static final AddressTemplate OS_TEMPLATE = MBEAN_TEMPLATE.append("type=operating-system");
+    private static final AddressTemplate RUNTIME_TEMPLATE = MBEAN_TEMPLATE.append("type=runtime");
+    private static final AddressTemplate MEMORY_TEMPLATE = MBEAN_TEMPLATE.append("type=memory");
+    private static final AddressTemplate THREADING_TEMPLATE = MBEAN_TEMPLATE.append("type=threading");
+
+    private static final String COMMITTED = "committed";
+    private static final String DAEMON_THREAD_COUNT = "daemon-thread-count";
+    private static final String HEAP_MEMORY_USAGE = "heap-memory-usage";
+    private static final String NON_HEAP_MEMORY_USAGE = "non-heap-memory-usage";
+    private static final String THREAD_COUNT = "thread-count";
+    private static final String USED = "used";
+    private static final long MB = 1024 * 1024;
+
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final Resources resources;
     private final HTMLElement osName;
@@ -58,10 +75,15 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
     private final Utilization committedHeap;
     private final Utilization committedNonHeap;
     private final Utilization threads;
+    private Metrics.Subscription uptimeMetrics;
+    private Metrics.Subscription memoryMetrics;
+    private Metrics.Subscription threadingMetrics;
 
-    public ServerRuntimePreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public ServerRuntimePreview(Dispatcher dispatcher, Metrics metrics, StatementContext statementContext,
+            Resources resources) {
         super(resources.constants().status());
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         this.resources = resources;
 
@@ -97,28 +119,48 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
                 .add(threads);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        uptimeMetrics = metrics.subscribeAttribute(RUNTIME_TEMPLATE.resolve(statementContext), UPTIME,
+                value -> updateUptime(value.asLong()));
+        memoryMetrics = metrics.subscribe(MEMORY_TEMPLATE.resolve(statementContext), this::updateMemory,
+                HEAP_MEMORY_USAGE + "/" + USED, HEAP_MEMORY_USAGE + "/" + COMMITTED,
+                NON_HEAP_MEMORY_USAGE + "/" + USED, NON_HEAP_MEMORY_USAGE + "/" + COMMITTED);
+        threadingMetrics = metrics.subscribe(THREADING_TEMPLATE.resolve(statementContext), this::updateThreads,
+                DAEMON_THREAD_COUNT);
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (uptimeMetrics != null) {
+            uptimeMetrics.cancel();
+            memoryMetrics.cancel();
+            threadingMetrics.cancel();
+            uptimeMetrics = null;
+            memoryMetrics = null;
+            threadingMetrics = null;
+        }
+    }
+
     @Override
     @SuppressWarnings("HardCodedStringLiteral")
     public void update(SubsystemMetadata item) {
-        AddressTemplate mbean = AddressTemplate.of(SELECTED_HOST, SELECTED_SERVER, "core-service=platform-mbean");
-        AddressTemplate osTmpl = mbean.append("type=operating-system");
-        AddressTemplate runtimeTmpl = mbean.append("type=runtime");
-        AddressTemplate memoryTmpl = mbean.append("type=memory");
-        AddressTemplate threadingTmpl = mbean.append("type=threading");
-
-        Operation osOp = new Operation.Builder(osTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
+        Operation osOp = new Operation.Builder(OS_TEMPLATE.resolve(statementContext), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
                 .param(INCLUDE_RUNTIME, true)
                 .build();
-        Operation runtimeOp = new Operation.Builder(runtimeTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
+        Operation runtimeOp = new Operation.Builder(RUNTIME_TEMPLATE.resolve(statementContext), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
                 .param(INCLUDE_RUNTIME, true)
                 .build();
-        Operation memoryOp = new Operation.Builder(memoryTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
+        Operation memoryOp = new Operation.Builder(MEMORY_TEMPLATE.resolve(statementContext), READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
                 .param(INCLUDE_RUNTIME, true)
                 .build();
-        Operation threadingOp = new Operation.Builder(threadingTmpl.resolve(statementContext), READ_RESOURCE_OPERATION)
+        Operation threadingOp = new Operation.Builder(THREADING_TEMPLATE.resolve(statementContext),
+                READ_RESOURCE_OPERATION)
                 .param(ATTRIBUTES_ONLY, true)
                 .param(INCLUDE_RUNTIME, true)
                 .build();
@@ -134,34 +176,59 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
             ModelNode runtimeNode = result.step(1).get(RESULT);
             jvm.textContent = runtimeNode.get("vm-name").asString();
             jvmVersion.textContent = " " + runtimeNode.get("spec-version").asString();
-            uptime.textContent = resources.messages().uptime(
-                    Format.humanReadableDuration(runtimeNode.get("uptime").asLong()));
-
-            // memory
-            ModelNode heapMemoryNode = result.step(2).get(RESULT).get("heap-memory-usage");
-            long used = heapMemoryNode.get("used").asLong() / 1024 / 1024;
-            long committed = heapMemoryNode.get("committed").asLong() / 1024 / 1024;
-            long max = heapMemoryNode.get("max").asLong() / 1024 / 1024;
-            usedHeap.update(used, max);
-            committedHeap.update(committed, max);
-
-            ModelNode nonHeapMemoryNode = result.step(2).get(RESULT).get("non-heap-memory-usage");
-            used = nonHeapMemoryNode.get("used").asLong() / 1024 / 1024;
-            committed = nonHeapMemoryNode.get("committed").asLong() / 1024 / 1024;
-            long nonHeapMax = nonHeapMemoryNode.get("max").asLong() / 1024 / 1024;
-            nonHeapTitle.textContent = Names.NON_HEAP;
-            if (nonHeapMax == 0) {
-                nonHeapMax = committed * 2;
-                nonHeapTitle.textContent += " (unlimited)";
-            }
-            usedNonHeap.update(used, nonHeapMax);
-            committedNonHeap.update(committed, nonHeapMax);
-
-            // threads
-            ModelNode threadsNode = result.step(3).get(RESULT);
-            long threadCount = threadsNode.get("thread-count").asLong();
-            long daemonCount = threadsNode.get("daemon-thread-count").asLong();
-            threads.update(daemonCount, threadCount);
+            updateUptime(runtimeNode.get(UPTIME).asLong());
+
+            updateMemory(result.step(2).get(RESULT));
+            updateThreads(result.step(3).get(RESULT));
         });
     }
+
+    private void updateUptime(long value) {
+        uptime.textContent = resources.messages().uptime(Format.humanReadableDuration(value));
+    }
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void updateMemory(ModelNode memoryNode) {
+        ModelNode heapMemoryNode = memoryNode.get(HEAP_MEMORY_USAGE);
+        long used = heapMemoryNode.get(USED).asLong() / MB;
+        long committed = heapMemoryNode.get(COMMITTED).asLong() / MB;
+        long max = heapMemoryNode.get("max").asLong() / MB;
+        usedHeap.update(used, max);
+        committedHeap.update(committed, max);
+
+        ModelNode nonHeapMemoryNode = memoryNode.get(NON_HEAP_MEMORY_USAGE);
+        used = nonHeapMemoryNode.get(USED).asLong() / MB;
+        committed = nonHeapMemoryNode.get(COMMITTED).asLong() / MB;
+        long nonHeapMax = nonHeapMemoryNode.get("max").asLong() / MB;
+        nonHeapTitle.textContent = Names.NON_HEAP;
+        if (nonHeapMax == 0) {
+            nonHeapMax = committed * 2;
+            nonHeapTitle.textContent += " (unlimited)";
+        }
+        usedNonHeap.update(used, nonHeapMax);
+        committedNonHeap.update(committed, nonHeapMax);
+
+        if (memoryMetrics != null) {
+            usedHeap.history(megabytes(memoryMetrics.history(HEAP_MEMORY_USAGE + "/" + USED)));
+            committedHeap.history(megabytes(memoryMetrics.history(HEAP_MEMORY_USAGE + "/" + COMMITTED)));
+            usedNonHeap.history(megabytes(memoryMetrics.history(NON_HEAP_MEMORY_USAGE + "/" + USED)));
+            committedNonHeap.history(megabytes(memoryMetrics.history(NON_HEAP_MEMORY_USAGE + "/" + COMMITTED)));
+        }
+    }
+
+    private void updateThreads(ModelNode threadsNode) {
+        long threadCount = threadsNode.get(THREAD_COUNT).asLong();
+        long daemonCount = threadsNode.get(DAEMON_THREAD_COUNT).asLong();
+        threads.update(daemonCount, threadCount);
+        if (threadingMetrics != null) {
+            threads.history(threadingMetrics.history(DAEMON_THREAD_COUNT));
+        }
+    }
+
+    private double[] megabytes(double[] values) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i] / MB;
+        }
+        return values;
+    }
 }
@@ -38,6 +38,7 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.core.subsystem.Subsystems;
@@ -90,6 +91,7 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
     @Inject
     public SubsystemColumn(Finder finder,
             Dispatcher dispatcher,
+            Metrics metrics,
             Places places,
             StatementContext statementContext,
             ItemActionFactory itemActionFactory,
@@ -101,10 +103,10 @@ public class SubsystemColumn extends FinderColumn<SubsystemMetadata> {
 
         customPreviews = new HashMap<>();
         customPreviews.put(Ids.SERVER_RUNTIME_STATUS,
-                new ServerRuntimePreview(dispatcher, statementContext, resources));
+                new ServerRuntimePreview(dispatcher, metrics, statementContext, resources));
         customPreviews.put(BATCH_JBERET, new BatchPreview(dispatcher, statementContext, resources));
-        customPreviews.put(EJB3, new ThreadPoolPreview(dispatcher, statementContext, resources));
-        customPreviews.put(TRANSACTIONS, new TransactionsPreview(dispatcher, statementContext, resources));
+        customPreviews.put(EJB3, new ThreadPoolPreview(dispatcher, metrics, statementContext, resources));
+        customPreviews.put(TRANSACTIONS, new TransactionsPreview(dispatcher, metrics, statementContext, resources));
         customPreviews.put(UNDERTOW, new UndertowPreview(resources));
         customPreviews.put(WEBSERVICES, new WebservicesPreview(dispatcher, statementContext, resources));
 
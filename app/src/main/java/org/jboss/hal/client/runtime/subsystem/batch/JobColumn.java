@@ -17,8 +17,8 @@ package org.jboss.hal.client.runtime.subsystem.batch;
 
 import java.util.ArrayList;
 import java.util.EnumSet;
-import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -39,6 +39,8 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -62,6 +64,7 @@ import elemental2.dom.HTMLElement;
 import elemental2.promise.Promise;
 
 import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.setInterval;
@@ -72,14 +75,16 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ALLOWED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.BATCH_JBERET;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.JOB;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.JOB_XML_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.JOB_XML_NAMES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PROPERTIES;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ONLY;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.RUNNING_EXECUTIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.START_JOB;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBDEPLOYMENT;
 import static org.jboss.hal.resources.UIConstants.POLLING_INTERVAL;
@@ -92,7 +97,10 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final Map<String, JobNode> runningJobs;
+    private double intervalHandle;
+    private boolean polling;
+    private boolean pending;
 
     @Inject
     public JobColumn(Finder finder,
@@ -117,27 +125,32 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.runningJobs = new LinkedHashMap<>();
 
         setItemsProvider(context -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new).then(jobs -> {
             // turn progress animation on/off
-            clearIntervals();
+            runningJobs.clear();
             for (JobNode job : jobs) {
-                String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
+                String jobId = jobId(job);
                 if (job.getRunningExecutions() > 0) {
                     ItemMonitor.startProgress(jobId);
-                    intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                    runningJobs.put(jobId, job);
                 } else {
                     ItemMonitor.stopProgress(jobId);
                 }
             }
+            if (runningJobs.isEmpty()) {
+                stopPolling();
+            } else {
+                startPolling();
+            }
             return Promise.resolve(jobs);
         }));
 
         setItemRenderer(item -> new ItemDisplay<JobNode>() {
             @Override
             public String getId() {
-                return Ids.job(item.getDeployment(), item.getSubdeployment(), item.getName());
+                return jobId(item);
             }
 
             @Override
@@ -210,22 +223,71 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
-        Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
-                .param(NAME, RUNNING_EXECUTIONS)
-                .build();
-        String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
-                result -> {
-                    if (result.asInt() == 0) {
-                        ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
-                        }
-                        JobColumn.this.refresh(RESTORE_SELECTION);
-                    }
-                }, (o, failure) -> ItemMonitor.stopProgress(jobId));
+    private String jobId(JobNode job) {
+        return Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
+    }
+
+    // ------------------------------------------------------ polling
+
+    private void startPolling() {
+        if (!polling) {
+            polling = true;
+            intervalHandle = setInterval(o -> poll(), POLLING_INTERVAL);
+        }
+    }
+
+    private void stopPolling() {
+        if (polling) {
+            polling = false;
+            clearInterval(intervalHandle);
+        }
+    }
+
+    /** Reads all jobs with running executions in one composite and redraws the jobs which have changed. */
+    private void poll() {
+        if (pending || runningJobs.isEmpty()) {
+            return;
+        }
+
+        pending = true;
+        List<JobNode> jobs = new ArrayList<>(runningJobs.values());
+        List<Operation> operations = jobs.stream()
+                .map(job -> new Operation.Builder(job.getAddress(), READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .param(RECURSIVE, true)
+                        .build())
+                .collect(toList());
+        dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
+            pending = false;
+            for (int i = 0; i < jobs.size(); i++) {
+                JobNode job = jobs.get(i);
+                JobNode update = new JobNode(job.getAddress(), result.step(i).get(RESULT));
+                String jobId = jobId(job);
+                if (!update.equals(job) && !updateItem(update)) {
+                    // the job is no longer part of this column
+                    runningJobs.remove(jobId);
+                    continue;
+                }
+                if (update.getRunningExecutions() > 0) {
+                    runningJobs.put(jobId, update);
+                    // a redrawn row has lost the progress animation
+                    ItemMonitor.startProgress(jobId);
+                } else {
+                    runningJobs.remove(jobId);
+                    ItemMonitor.stopProgress(jobId);
+                }
+            }
+            if (runningJobs.isEmpty()) {
+                stopPolling();
+            }
+        }, (operation, failure) -> {
+            // most likely a deployment has been removed: read the jobs again
+            pending = false;
+            runningJobs.keySet().forEach(ItemMonitor::stopProgress);
+            runningJobs.clear();
+            stopPolling();
+            refresh(RESTORE_SELECTION);
+        });
     }
 
     private void startJob(JobNode job) {
@@ -282,13 +344,7 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
-    }
-
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
-        }
-        intervalHandles.clear();
+        runningJobs.clear();
+        stopPolling();
     }
 }
@@ -29,6 +29,7 @@ import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -107,6 +108,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
     private static final String EQ_WILDCARD = "=*";
 
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final EventBus eventBus;
     private final StatementContext statementContext;
     private final Environment environment;
@@ -117,6 +119,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
     @Inject
     public DataSourceColumn(ServerActions serverActions,
             Dispatcher dispatcher,
+            Metrics metrics,
             EventBus eventBus,
             StatementContext statementContext,
             Environment environment,
@@ -132,6 +135,7 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
                 .useFirstActionAsBreadcrumbHandler());
 
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.eventBus = eventBus;
         this.statementContext = statementContext;
         this.environment = environment;
@@ -348,8 +352,8 @@ public class DataSourceColumn extends FinderColumn<DataSource> {
             }
         });
 
-        setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, statementContext,
-                serverActions, finderPathFactory, places, resources));
+        setPreviewCallback(item -> new DataSourcePreview(this, server, item, environment, dispatcher, metrics,
+                statementContext, serverActions, finderPathFactory, places, resources));
     }
 
     private void testConnection(DataSource dataSource) {
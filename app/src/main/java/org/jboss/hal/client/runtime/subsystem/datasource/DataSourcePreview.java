@@ -27,6 +27,7 @@ import org.jboss.hal.core.datasource.DataSource;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -58,6 +59,8 @@ import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ENABLED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.JDBC;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.POOL;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
@@ -77,10 +80,18 @@ import static org.jboss.hal.resources.CSS.underline;
  */
 class DataSourcePreview extends PreviewContent<DataSource> {
 
+    private static final String ACTIVE_COUNT = "ActiveCount";
+    private static final String AVAILABLE_COUNT = "AvailableCount";
+    private static final String MAX_USED_COUNT = "MaxUsedCount";
+    private static final String CACHE_ACCESS_COUNT = "PreparedStatementCacheAccessCount";
+    private static final String CACHE_HIT_COUNT = "PreparedStatementCacheHitCount";
+    private static final String CACHE_MISS_COUNT = "PreparedStatementCacheMissCount";
+
     private final Server server;
     private final DataSource dataSource;
     private final Environment environment;
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final ResourceAddress dataSourceAddress;
 
@@ -96,12 +107,16 @@ class DataSourcePreview extends PreviewContent<DataSource> {
     private final HTMLElement cacheHeader;
     private final Utilization hitCount;
     private final Utilization missCount;
+    private Metrics.Subscription poolMetrics;
+    private Metrics.Subscription jdbcMetrics;
+    private boolean statisticsEnabled;
 
     DataSourcePreview(DataSourceColumn column,
             Server server,
             DataSource dataSource,
             Environment environment,
             Dispatcher dispatcher,
+            Metrics metrics,
             StatementContext statementContext,
             ServerActions serverActions,
             FinderPathFactory finderPathFactory,
@@ -113,6 +128,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         this.dataSource = dataSource;
         this.environment = environment;
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         this.dataSourceAddress = column.dataSourceAddress(dataSource);
 
@@ -202,6 +218,28 @@ class DataSourcePreview extends PreviewContent<DataSource> {
         disabledWarning.element().classList.add(hidden);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        if (!dataSource.fromDeployment()) {
+            poolMetrics = metrics.subscribe(statisticsAddress(POOL), this::updatePool,
+                    ACTIVE_COUNT, MAX_USED_COUNT, AVAILABLE_COUNT);
+            jdbcMetrics = metrics.subscribe(statisticsAddress(JDBC), this::updateJdbc,
+                    CACHE_ACCESS_COUNT, CACHE_HIT_COUNT, CACHE_MISS_COUNT);
+        }
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (poolMetrics != null) {
+            poolMetrics.cancel();
+            jdbcMetrics.cancel();
+            poolMetrics = null;
+            jdbcMetrics = null;
+        }
+    }
+
     @Override
     @SuppressWarnings("HardCodedStringLiteral")
     public void update(DataSource ds) {
@@ -249,7 +287,7 @@ class DataSourcePreview extends PreviewContent<DataSource> {
 
                 // if the statistics are not available (ds is disabled or enabled but not reloaded)
                 // treat it as if statistics are enabled so that we display warnings
-                boolean statisticsEnabled = !dataSource.hasDefined(STATISTICS) || dataSource.isStatisticsEnabled();
+                statisticsEnabled = !dataSource.hasDefined(STATISTICS) || dataSource.isStatisticsEnabled();
                 setVisible(noStatistics.element(), !statisticsEnabled);
                 setVisible(refresh, statisticsEnabled);
                 setVisible(poolHeader, statisticsEnabled);
@@ -272,33 +310,54 @@ class DataSourcePreview extends PreviewContent<DataSource> {
                         Elements.toggle(needsRestartWarning.element(), hidden, !server.needsRestart());
                     }
 
-                    // pool statistics
-                    ModelNode pool = ModelNodeHelper.failSafeGet(dataSource, "statistics/pool");
-                    if (pool.isDefined()) {
-                        int available = pool.get("AvailableCount").asInt(0);
-                        int active = pool.get("ActiveCount").asInt(0);
-                        int maxUsed = pool.get("MaxUsedCount").asInt(0);
-                        activeConnections.update(active, available);
-                        maxUsedConnections.update(maxUsed, available);
-                    } else {
-                        activeConnections.update(0, 0);
-                        maxUsedConnections.update(0, 0);
-                    }
-
-                    // jdbc statistics
-                    ModelNode jdbc = ModelNodeHelper.failSafeGet(dataSource, "statistics/jdbc");
-                    if (jdbc.isDefined()) {
-                        long accessed = jdbc.get("PreparedStatementCacheAccessCount").asLong(0);
-                        long hit = jdbc.get("PreparedStatementCacheHitCount").asLong(0);
-                        long missed = jdbc.get("PreparedStatementCacheMissCount").asLong(0);
-                        hitCount.update(hit, accessed);
-                        missCount.update(missed, accessed);
-                    } else {
-                        hitCount.update(0, 0);
-                        missCount.update(0, 0);
-                    }
+                    updatePool(ModelNodeHelper.failSafeGet(dataSource, "statistics/pool"));
+                    updateJdbc(ModelNodeHelper.failSafeGet(dataSource, "statistics/jdbc"));
                 }
             });
         }
     }
+
+    private ResourceAddress statisticsAddress(String type) {
+        return new ResourceAddress(dataSourceAddress).add(STATISTICS, type);
+    }
+
+    private void updatePool(ModelNode pool) {
+        if (!statisticsEnabled) {
+            return;
+        }
+        if (pool.isDefined()) {
+            int available = pool.get(AVAILABLE_COUNT).asInt(0);
+            int active = pool.get(ACTIVE_COUNT).asInt(0);
+            int maxUsed = pool.get(MAX_USED_COUNT).asInt(0);
+            activeConnections.update(active, available);
+            maxUsedConnections.update(maxUsed, available);
+        } else {
+            activeConnections.update(0, 0);
+            maxUsedConnections.update(0, 0);
+        }
+        if (poolMetrics != null) {
+            activeConnections.history(poolMetrics.history(ACTIVE_COUNT));
+            maxUsedConnections.history(poolMetrics.history(MAX_USED_COUNT));
+        }
+    }
+
+    private void updateJdbc(ModelNode jdbc) {
+        if (!statisticsEnabled) {
+            return;
+        }
+        if (jdbc.isDefined()) {
+            long accessed = jdbc.get(CACHE_ACCESS_COUNT).asLong(0);
+            long hit = jdbc.get(CACHE_HIT_COUNT).asLong(0);
+            long missed = jdbc.get(CACHE_MISS_COUNT).asLong(0);
+            hitCount.update(hit, accessed);
+            missCount.update(missed, accessed);
+        } else {
+            hitCount.update(0, 0);
+            missCount.update(0, 0);
+        }
+        if (jdbcMetrics != null) {
+            hitCount.history(jdbcMetrics.history(CACHE_HIT_COUNT));
+            missCount.history(jdbcMetrics.history(CACHE_MISS_COUNT));
+        }
+    }
 }
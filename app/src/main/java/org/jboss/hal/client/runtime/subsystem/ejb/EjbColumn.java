@@ -27,6 +27,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelNode;
@@ -91,6 +92,7 @@ public class EjbColumn extends FinderColumn<EjbNode> {
             EventBus eventBus,
             Places places,
             Dispatcher dispatcher,
+            Metrics metrics,
             StatementContext statementContext,
             Resources resources) {
         super(new Builder<EjbNode>(finder, Ids.EJB3, Names.EJB3)
@@ -134,7 +136,8 @@ public class EjbColumn extends FinderColumn<EjbNode> {
                         return Promise.resolve(ejbs);
                     });
                 })
-                .onPreview(item -> new EjbPreview(item, finderPathFactory, places, dispatcher, statementContext, resources))
+                .onPreview(item -> new EjbPreview(item, finderPathFactory, places, dispatcher, metrics, statementContext,
+                        resources))
                 .useFirstActionAsBreadcrumbHandler()
                 .withFilter()
                 .filterDescription(resources.messages().ejbFilterDescription())
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewAttributes.PreviewAttribute;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
@@ -95,6 +96,7 @@ class EjbPreview extends PreviewContent<EjbNode> {
     private static double intervalHandle = 0; // one handle for all previews!
 
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final ResourceAddress address;
     private final LabelBuilder labelBuilder;
@@ -109,11 +111,16 @@ class EjbPreview extends PreviewContent<EjbNode> {
     private HTMLElement nextTimeoutElement;
     private ProgressElement remainingElement;
     private int maxRemaining;
+    private long timeRemaining;
+    private long timeRemainingTimestamp;
+    private boolean statsEnabled;
+    private Metrics.Subscription subscription;
 
-    EjbPreview(EjbNode ejb, FinderPathFactory finderPathFactory, Places places, Dispatcher dispatcher,
+    EjbPreview(EjbNode ejb, FinderPathFactory finderPathFactory, Places places, Dispatcher dispatcher, Metrics metrics,
             StatementContext statementContext, Resources resources) {
         super(ejb.getName(), ejb.type.type);
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         this.address = ejb.getAddress();
         this.labelBuilder = new LabelBuilder();
@@ -173,10 +180,24 @@ class EjbPreview extends PreviewContent<EjbNode> {
         previewBuilder().add(timerSection = timerContent.element());
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        subscription = metrics.subscribe(address, attributes -> {
+            if (statsEnabled) {
+                updateInternal(new EjbNode(address, attributes), true);
+            }
+        }, POOL_CURRENT_SIZE);
+    }
+
     @Override
     public void detach() {
         super.detach();
         clearInterval(intervalHandle);
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
     }
 
     @Override
@@ -195,7 +216,7 @@ class EjbPreview extends PreviewContent<EjbNode> {
             ModelNode statisticsResult = compositeResult.step(1).get(RESULT);
 
             boolean statsAvailable = nodeResult.get(INVOCATIONS).asLong() > 0;
-            boolean statsEnabled = statisticsResult.asBoolean(statsAvailable);
+            statsEnabled = statisticsResult.asBoolean(statsAvailable);
 
             updateInternal(new EjbNode(address, nodeResult), statsEnabled);
         });
@@ -211,6 +232,9 @@ class EjbPreview extends PreviewContent<EjbNode> {
                 case MDB:
                 case STATELESS:
                     poolUtilization.update(ejb.get(POOL_CURRENT_SIZE).asLong(), ejb.get(POOL_MAX_SIZE).asLong());
+                    if (subscription != null) {
+                        poolUtilization.history(subscription.history(POOL_CURRENT_SIZE));
+                    }
                     break;
                 case STATEFUL:
                     statefulAttributes.refresh(ejb);
@@ -219,8 +243,9 @@ class EjbPreview extends PreviewContent<EjbNode> {
                     break;
             }
             ModelNode firstTimer = firstTimer(ejb);
-            if (firstTimer.isDefined()) {
+            if (firstTimer.isDefined() && timer != null) {
                 timer.refresh(firstTimer);
+                updateTimer(firstTimer);
                 clearInterval(intervalHandle);
                 intervalHandle = setInterval(o -> updateRemaining(), 1000);
             }
@@ -231,29 +256,32 @@ class EjbPreview extends PreviewContent<EjbNode> {
         Elements.setVisible(timerSection, statsEnabled);
     }
 
-    private void updateRemaining() {
-        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                .param(INCLUDE_RUNTIME, true)
-                .param(RECURSIVE, true)
-                .build();
-        dispatcher.execute(operation, result -> {
-            ModelNode firstTimer = firstTimer(result);
-            if (firstTimer.isDefined() && nextTimeoutElement != null && remainingElement != null) {
-                nextTimeoutElement.textContent = Format.mediumDateTime(new Date(firstTimer.get(NEXT_TIMEOUT).asLong()));
+    private void updateTimer(ModelNode firstTimer) {
+        if (nextTimeoutElement != null) {
+            nextTimeoutElement.textContent = Format.mediumDateTime(new Date(firstTimer.get(NEXT_TIMEOUT).asLong()));
+        }
+        timeRemaining = firstTimer.get(TIME_REMAINING).asLong();
+        timeRemainingTimestamp = System.currentTimeMillis();
+    }
 
-                long timeRemaining = firstTimer.get(TIME_REMAINING).asLong();
-                int timeRemainingInSeconds = (int) round((timeRemaining / 1000.0));
-                String humanReadableDuration = Format.humanReadableDuration(timeRemaining);
-                if (maxRemaining < timeRemainingInSeconds) {
-                    maxRemaining = timeRemainingInSeconds;
-                }
-                if (maxRemaining == timeRemainingInSeconds) {
-                    remainingElement.reset(maxRemaining, humanReadableDuration);
-                } else {
-                    remainingElement.tick(humanReadableDuration);
-                }
+    /**
+     * Counts down the remaining time of the first timer. The remaining time is read by the metrics subscription, so the
+     * countdown doesn't need a request per second.
+     */
+    private void updateRemaining() {
+        if (remainingElement != null) {
+            long remaining = Math.max(0, timeRemaining - (System.currentTimeMillis() - timeRemainingTimestamp));
+            int timeRemainingInSeconds = (int) round((remaining / 1000.0));
+            String humanReadableDuration = Format.humanReadableDuration(remaining);
+            if (maxRemaining < timeRemainingInSeconds) {
+                maxRemaining = timeRemainingInSeconds;
             }
-        });
+            if (maxRemaining == timeRemainingInSeconds) {
+                remainingElement.reset(maxRemaining, humanReadableDuration);
+            } else {
+                remainingElement.tick(humanReadableDuration);
+            }
+        }
     }
 
     private ModelNode firstTimer(ModelNode ejb) {
@@ -25,6 +25,7 @@ import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.chart.Donut;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
@@ -53,15 +54,20 @@ import static org.jboss.hal.resources.CSS.fontAwesome;
 public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
 
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final EmptyState noStatistics;
     private final HTMLElement statSection;
     private final Donut tasks;
     private final Utilization threads;
+    private boolean attached;
+    private Metrics.Subscription subscription;
 
-    public ThreadPoolPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public ThreadPoolPreview(Dispatcher dispatcher, Metrics metrics, StatementContext statementContext,
+            Resources resources) {
         super(Names.EJB3);
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
 
         noStatistics = new EmptyState.Builder(Ids.EJB3_STATISTICS_DISABLED,
@@ -97,6 +103,19 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
         Elements.setVisible(statSection, false);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        attached = true;
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        attached = false;
+        unsubscribe();
+    }
+
     @Override
     public void update(SubsystemMetadata item) {
         ResourceAddress address = EJB3_SUBSYSTEM_TEMPLATE.resolve(statementContext);
@@ -113,20 +132,15 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
                 boolean statsAvailable = threadPool.get("task-count").asLong() > 0;
                 boolean statsEnabled = result.get(STATISTICS_ENABLED).asBoolean(statsAvailable);
 
+                unsubscribe();
                 if (statsEnabled) {
-                    long active = threadPool.get(ACTIVE_COUNT).asLong();
-                    long completed = threadPool.get(COMPLETED_TASK_COUNT).asLong();
-                    long queue = threadPool.get(QUEUE_SIZE).asLong();
-                    long rejected = threadPool.get(REJECTED_COUNT).asLong();
-                    tasks.update(ImmutableMap.of(
-                            Ids.TASKS_ACTIVE, active,
-                            Ids.TASKS_COMPLETED, completed,
-                            Ids.TASKS_QUEUE, queue,
-                            Ids.TASKS_REJECTED, rejected));
-
-                    int currentThreads = threadPool.get(CURRENT_THREAD_COUNT).asInt();
-                    int maxThreads = threadPool.get(MAX_THREADS).asInt();
-                    threads.update(currentThreads, maxThreads);
+                    updateThreadPool(threadPool);
+                    if (attached) {
+                        ResourceAddress threadPoolAddress = new ResourceAddress(address)
+                                .add(THREAD_POOL, properties.get(0).getName());
+                        subscription = metrics.subscribe(threadPoolAddress, this::updateThreadPool,
+                                CURRENT_THREAD_COUNT);
+                    }
                 }
                 Elements.setVisible(noStatistics, !statsEnabled);
                 Elements.setVisible(statSection, statsEnabled);
@@ -134,6 +148,32 @@ public class ThreadPoolPreview extends PreviewContent<SubsystemMetadata> {
         });
     }
 
+    private void updateThreadPool(ModelNode threadPool) {
+        long active = threadPool.get(ACTIVE_COUNT).asLong();
+        long completed = threadPool.get(COMPLETED_TASK_COUNT).asLong();
+        long queue = threadPool.get(QUEUE_SIZE).asLong();
+        long rejected = threadPool.get(REJECTED_COUNT).asLong();
+        tasks.update(ImmutableMap.of(
+                Ids.TASKS_ACTIVE, active,
+                Ids.TASKS_COMPLETED, completed,
+                Ids.TASKS_QUEUE, queue,
+                Ids.TASKS_REJECTED, rejected));
+
+        int currentThreads = threadPool.get(CURRENT_THREAD_COUNT).asInt();
+        int maxThreads = threadPool.get(MAX_THREADS).asInt();
+        threads.update(currentThreads, maxThreads);
+        if (subscription != null) {
+            threads.history(subscription.history(CURRENT_THREAD_COUNT));
+        }
+    }
+
+    private void unsubscribe() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
     private void enableStatistics() {
         ResourceAddress address = EJB3_SUBSYSTEM_TEMPLATE.resolve(statementContext);
         Operation operation = new Operation.Builder(address, WRITE_ATTRIBUTE_OPERATION)
@@ -21,6 +21,7 @@ import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.core.finder.Finder;
 import org.jboss.hal.core.finder.FinderColumn;
 import org.jboss.hal.core.finder.ItemDisplay;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -59,6 +60,7 @@ public class WorkerColumn extends FinderColumn<NamedNode> {
     @Inject
     public WorkerColumn(Finder finder,
             Dispatcher dispatcher,
+            Metrics metrics,
             StatementContext statementContext) {
 
         super(new FinderColumn.Builder<NamedNode>(finder, Ids.WORKER, Names.WORKER)
@@ -93,6 +95,6 @@ public class WorkerColumn extends FinderColumn<NamedNode> {
                                 .element();
                     }
                 })
-                .onPreview(item -> new WorkerPreview(item, dispatcher, statementContext)));
+                .onPreview(item -> new WorkerPreview(item, dispatcher, metrics, statementContext)));
     }
 }
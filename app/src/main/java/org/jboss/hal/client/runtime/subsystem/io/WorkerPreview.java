@@ -24,6 +24,7 @@ import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewAttributes.PreviewAttribute;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
@@ -44,7 +45,9 @@ import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
 
 class WorkerPreview extends PreviewContent<NamedNode> {
 
+    private final NamedNode worker;
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final LabelBuilder labelBuilder;
     private final Utilization corePoolSize;
@@ -52,10 +55,13 @@ class WorkerPreview extends PreviewContent<NamedNode> {
     private final Utilization ioThreadCount;
     private final Utilization busyWorkerThreadCount;
     private final HTMLElement connectionsContainer;
+    private Metrics.Subscription subscription;
 
-    WorkerPreview(NamedNode worker, Dispatcher dispatcher, StatementContext statementContext) {
+    WorkerPreview(NamedNode worker, Dispatcher dispatcher, Metrics metrics, StatementContext statementContext) {
         super(worker.getName());
+        this.worker = worker;
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         this.labelBuilder = new LabelBuilder();
         this.corePoolSize = new Utilization(labelBuilder.label(CORE_POOL_SIZE), Names.THREAD_POOLS, false, false);
@@ -70,6 +76,22 @@ class WorkerPreview extends PreviewContent<NamedNode> {
                 .add(connectionsContainer = div().element());
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        subscription = metrics.subscribe(WORKER_TEMPLATE.resolve(statementContext, worker.getName()),
+                this::updateThreads, BUSY_WORKER_THREAD_COUNT);
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
     @Override
     public void update(NamedNode worker) {
         ResourceAddress address = WORKER_TEMPLATE.resolve(statementContext, worker.getName());
@@ -78,10 +100,7 @@ class WorkerPreview extends PreviewContent<NamedNode> {
                 .param(RECURSIVE, true)
                 .build();
         dispatcher.execute(operation, result -> {
-            corePoolSize.update(result.get(CORE_POOL_SIZE).asLong(), result.get(TASK_MAX_THREADS).asLong());
-            maxPoolSize.update(result.get(MAX_POOL_SIZE).asLong(), result.get(TASK_MAX_THREADS).asLong());
-            busyWorkerThreadCount.update(result.get(BUSY_WORKER_THREAD_COUNT).asLong(), result.get(TASK_MAX_THREADS).asLong());
-            ioThreadCount.update(result.get(IO_THREAD_COUNT).asLong(), result.get(IO_THREADS).asLong());
+            updateThreads(result);
 
             List<Property> serverConnections = failSafePropertyList(result, SERVER);
             Elements.removeChildrenFrom(connectionsContainer);
@@ -116,4 +135,14 @@ class WorkerPreview extends PreviewContent<NamedNode> {
             }
         });
     }
+
+    private void updateThreads(ModelNode result) {
+        corePoolSize.update(result.get(CORE_POOL_SIZE).asLong(), result.get(TASK_MAX_THREADS).asLong());
+        maxPoolSize.update(result.get(MAX_POOL_SIZE).asLong(), result.get(TASK_MAX_THREADS).asLong());
+        busyWorkerThreadCount.update(result.get(BUSY_WORKER_THREAD_COUNT).asLong(), result.get(TASK_MAX_THREADS).asLong());
+        ioThreadCount.update(result.get(IO_THREAD_COUNT).asLong(), result.get(IO_THREADS).asLong());
+        if (subscription != null) {
+            busyWorkerThreadCount.history(subscription.history(BUSY_WORKER_THREAD_COUNT));
+        }
+    }
 }
@@ -34,8 +34,6 @@ import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
 import org.jboss.hal.spi.AsyncColumn;
 
-import com.google.common.collect.Sets;
-
 import elemental2.dom.HTMLElement;
 import elemental2.promise.Promise;
 
@@ -62,7 +60,7 @@ public class RestResourceColumn extends FinderColumn<RestResource> {
 
                 .columnAction(columnActionFactory.refresh(Ids.REST_RESOURCE_REFRESH))
 
-                .itemsProvider(context -> deploymentResources.readChildren(JAX_RS, REST_RESOURCE, RestResource::new)
+                .itemsProvider(context -> deploymentResources.readChildNames(JAX_RS, REST_RESOURCE, RestResource::new)
                         .then(restResources -> {
                             restResources.sort(Comparator.comparing(RestResource::getName));
                             return Promise.resolve(restResources);
@@ -89,10 +87,7 @@ public class RestResourceColumn extends FinderColumn<RestResource> {
 
                     @Override
                     public String getFilterData() {
-                        String resourceMethods = String.join(" ", item.getResourceMethods());
-                        String mediaTypes = String.join(" ",
-                                Sets.union(item.getConsumes(), item.getProduces()).immutableCopy());
-                        return String.join(" ", item.getName(), resourceMethods, mediaTypes);
+                        return String.join(" ", item.getName(), item.getPath());
                     }
 
                     @Override
@@ -101,8 +96,8 @@ public class RestResourceColumn extends FinderColumn<RestResource> {
                     }
                 })
 
-                .onPreview(item -> new RestResourcePreview(item, environment, finderPathFactory, places, serverActions,
-                        statementContext, resources))
+                .onPreview(item -> new RestResourcePreview(item, deploymentResources, environment, finderPathFactory,
+                        places, serverActions, statementContext, resources))
                 .useFirstActionAsBreadcrumbHandler()
                 .withFilter()
                 .filterDescription(resources.messages().restColumnFilterDescription())
@@ -21,12 +21,14 @@ import java.util.List;
 
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.HtmlContentBuilder;
+import org.jboss.hal.ballroom.Alert;
 import org.jboss.hal.ballroom.PatternFly;
 import org.jboss.hal.ballroom.dialog.Dialog;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
 import org.jboss.hal.ballroom.form.TextBoxItem;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.deployment.DeploymentResources;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
@@ -40,6 +42,7 @@ import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.CSS;
+import org.jboss.hal.resources.Icons;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
@@ -99,12 +102,15 @@ class RestResourcePreview extends PreviewContent<RestResource> {
     private static final String LINK = "link";
     private static final JsRegExp REGEX = new JsRegExp("\\{(.+)\\}", "g"); // NON-NLS
 
+    private final DeploymentResources deploymentResources;
     private final Environment environment;
     private final ServerActions serverActions;
     private final StatementContext statementContext;
     private final Resources resources;
+    private final HTMLElement details;
 
     RestResourcePreview(RestResource restResource,
+            DeploymentResources deploymentResources,
             Environment environment,
             FinderPathFactory finderPathFactory,
             Places places,
@@ -112,6 +118,7 @@ class RestResourcePreview extends PreviewContent<RestResource> {
             StatementContext statementContext,
             Resources r) {
         super(abbreviateFqClassName(restResource.getName()), restResource.getPath());
+        this.deploymentResources = deploymentResources;
         this.environment = environment;
         this.serverActions = serverActions;
         this.statementContext = statementContext;
@@ -128,18 +135,38 @@ class RestResourcePreview extends PreviewContent<RestResource> {
                 .title(r.messages().goTo(Names.DEPLOYMENTS)).element());
         getLeadElement().style.marginBottom = MarginBottomUnionType.of(0);
 
+        details = div().element();
+        previewBuilder().add(details);
+    }
+
+    @Override
+    public void update(RestResource item) {
+        // the column reads only the names of the REST resources
+        deploymentResources.readDetails(item, RestResource::new).then(restResource -> {
+            showDetails(restResource);
+            return null;
+        }).catch_(error -> {
+            Elements.removeChildrenFrom(details);
+            details.appendChild(new Alert(Icons.ERROR,
+                    resources.messages().readResourceError(item.getName(), String.valueOf(error))).element());
+            return null;
+        });
+    }
+
+    private void showDetails(RestResource restResource) {
+        Elements.removeChildrenFrom(details);
         List<ModelNode> resourcePaths = failSafeList(restResource, REST_RESOURCE_PATHS);
         if (!resourcePaths.isEmpty()) {
-            previewBuilder().add(h(2, Names.RESOURCE_PATHS));
+            details.appendChild(h(2, Names.RESOURCE_PATHS).element());
             resourcePaths.stream()
                     .collect(groupingBy(node -> node.get(RESOURCE_PATH).asString()))
                     .forEach((resourcePath, resources) -> {
                         HTMLElement body;
-                        previewBuilder().add(
-                                div().css(CSS.panel, panelDefault)
-                                        .add(div().css(panelHeading)
-                                                .add(h(3, resourcePath).css(panelTitle)))
-                                        .add(body = div().css(panelBody, restResources).element()));
+                        details.appendChild(div().css(CSS.panel, panelDefault)
+                                .add(div().css(panelHeading)
+                                        .add(h(3, resourcePath).css(panelTitle)))
+                                .add(body = div().css(panelBody, restResources).element())
+                                .element());
                         for (Iterator<ModelNode> iterator = resources.iterator(); iterator.hasNext();) {
                             ModelNode resource = iterator.next();
                             if (resource.hasDefined(CONSUMES)) {
@@ -193,9 +220,11 @@ class RestResourcePreview extends PreviewContent<RestResource> {
 
         List<ModelNode> subResourceLocators = failSafeList(restResource, SUB_RESOURCE_LOCATORS);
         if (!subResourceLocators.isEmpty()) {
-            previewBuilder().add(h(2, Names.SUB_RESOURCE_LOCATORS));
+            details.appendChild(h(2, Names.SUB_RESOURCE_LOCATORS).element());
             // TODO Process sub resource locators
         }
+        PatternFly.prettyPrint();
+        injectLinks();
     }
 
     @SuppressWarnings("HardCodedStringLiteral")
@@ -222,10 +251,7 @@ class RestResourcePreview extends PreviewContent<RestResource> {
         return params;
     }
 
-    @Override
-    public void attach() {
-        super.attach();
-        PatternFly.prettyPrint();
+    private void injectLinks() {
         List<HTMLElement> linkContainers = new ArrayList<>();
         forEach(e -> {
             List<HTMLElement> elements = stream(e.querySelectorAll("[data-" + LINK + "]")) // NON-NLS
@@ -30,6 +30,7 @@ import org.jboss.hal.core.finder.ItemAction;
 import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemsProvider;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.token.NameTokens;
@@ -62,6 +63,7 @@ public class JpaColumn extends FinderColumn<JpaStatistic> {
             ItemActionFactory itemActionFactory,
             Environment environment,
             Dispatcher dispatcher,
+            Metrics metrics,
             DeploymentResources deploymentResources,
             FinderPathFactory finderPathFactory,
             PlaceManager placeManager,
@@ -122,8 +124,8 @@ public class JpaColumn extends FinderColumn<JpaStatistic> {
                 .filterDescription(resources.messages().jpaColumnFilterDescription())
                 .useFirstActionAsBreadcrumbHandler()
                 .onPreview(
-                        item -> new JpaPreview(item, environment, dispatcher, finderPathFactory, placeManager, places,
-                                resources)));
+                        item -> new JpaPreview(item, environment, dispatcher, metrics, finderPathFactory, placeManager,
+                                places, resources)));
 
         ItemsProvider<JpaStatistic> itemsProvider = context -> deploymentResources
                 .readChildren(JPA, HIBERNATE_PERSISTENCE_UNIT, JpaStatistic::new).then(Promise::resolve);
@@ -22,6 +22,7 @@ import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.finder.FinderPath;
 import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -44,19 +45,28 @@ import static org.jboss.hal.resources.CSS.fontAwesome;
 
 class JpaPreview extends PreviewContent<JpaStatistic> {
 
+    private static final String CONNECT_COUNT = "connect-count";
+    private static final String SESSION_OPEN_COUNT = "session-open-count";
+    private static final String SESSION_CLOSE_COUNT = "session-close-count";
+
+    private final JpaStatistic jpaStatistic;
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final EmptyState noStatistics;
     private final HTMLElement refresh;
     private final HTMLElement header;
     private final Utilization openedSessions;
     private final Utilization closedSessions;
+    private Metrics.Subscription subscription;
 
     @SuppressWarnings("HardCodedStringLiteral")
-    JpaPreview(JpaStatistic jpaStatistic, Environment environment, Dispatcher dispatcher,
+    JpaPreview(JpaStatistic jpaStatistic, Environment environment, Dispatcher dispatcher, Metrics metrics,
             FinderPathFactory finderPathFactory, PlaceManager placeManager, Places places, Resources resources) {
 
         super(jpaStatistic.getPersistenceUnit(), jpaStatistic.getPath());
+        this.jpaStatistic = jpaStatistic;
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
 
         FinderPath path = finderPathFactory.deployment(jpaStatistic.getDeployment());
         PlaceRequest placeRequest = places.finderPlace(NameTokens.DEPLOYMENTS, path).build();
@@ -88,6 +98,23 @@ class JpaPreview extends PreviewContent<JpaStatistic> {
         Elements.setVisible(noStatistics.element(), false);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        subscription = metrics.subscribe(jpaStatistic.getAddress(),
+                attributes -> internalUpdate(new JpaStatistic(jpaStatistic.getAddress(), attributes)),
+                CONNECT_COUNT, SESSION_OPEN_COUNT, SESSION_CLOSE_COUNT);
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
     @Override
     public void update(JpaStatistic jpaStatistics) {
         Operation operation = new Operation.Builder(jpaStatistics.getAddress(), READ_RESOURCE_OPERATION)
@@ -97,7 +124,6 @@ class JpaPreview extends PreviewContent<JpaStatistic> {
         dispatcher.execute(operation, result -> internalUpdate(new JpaStatistic(jpaStatistics.getAddress(), result)));
     }
 
-    @SuppressWarnings("HardCodedStringLiteral")
     private void internalUpdate(JpaStatistic statistic) {
         boolean statisticsEnabled = statistic.isStatisticsEnabled();
 
@@ -108,11 +134,15 @@ class JpaPreview extends PreviewContent<JpaStatistic> {
         Elements.setVisible(closedSessions.element(), statisticsEnabled);
 
         if (statisticsEnabled) {
-            long sessions = statistic.get("connect-count").asLong();
-            long opened = statistic.get("session-open-count").asLong();
-            long closed = statistic.get("session-close-count").asLong();
+            long sessions = statistic.get(CONNECT_COUNT).asLong();
+            long opened = statistic.get(SESSION_OPEN_COUNT).asLong();
+            long closed = statistic.get(SESSION_CLOSE_COUNT).asLong();
             openedSessions.update(opened, sessions);
             closedSessions.update(closed, sessions);
+            if (subscription != null) {
+                openedSessions.history(subscription.history(SESSION_OPEN_COUNT));
+                closedSessions.history(subscription.history(SESSION_CLOSE_COUNT));
+            }
         }
     }
 }
@@ -0,0 +1,175 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Client side copy of the lines shown in the log file viewer. Used in tail mode to append only the lines written since the
+ * last poll.
+ * <p>
+ * The buffer remembers the size and the last modified timestamp of the log file. If they change, the presenter reads a
+ * window of lines from the end of the log file which is big enough to contain the new lines plus some of the known lines.
+ * The known lines are used to find where the new lines start. The buffer holds at most {@code capacity} lines. If it's full,
+ * the oldest lines are dropped.
+ */
+class LogBuffer {
+
+    /** Number of known lines which are read in addition to the estimated number of new lines. */
+    static final int OVERLAP = 10;
+
+    /** Average line length used until the buffer contains lines. */
+    private static final int DEFAULT_LINE_LENGTH = 120;
+
+    enum Change {
+        /** The log file wasn't modified. */
+        NONE,
+
+        /** The log file was appended to. */
+        GROWN,
+
+        /** The log file was truncated or rotated. The buffer has to be replaced. */
+        REPLACED
+    }
+
+    private final int capacity;
+    private final List<String> lines;
+    private long characters;
+    private long size;
+    private long lastModified;
+
+    LogBuffer(int capacity) {
+        this.capacity = capacity;
+        this.lines = new ArrayList<>();
+        this.size = -1;
+        this.lastModified = -1;
+    }
+
+    /** Replaces the buffer with the specified lines. */
+    void reset(List<String> lines, long size, long lastModified) {
+        this.lines.clear();
+        this.characters = 0;
+        int from = Math.max(0, lines.size() - capacity);
+        for (String line : lines.subList(from, lines.size())) {
+            this.lines.add(line);
+            this.characters += line.length() + 1;
+        }
+        this.size = size;
+        this.lastModified = lastModified;
+    }
+
+    Change change(long size, long lastModified) {
+        if (this.size < 0 || size < this.size) {
+            return Change.REPLACED;
+        } else if (size == this.size && lastModified == this.lastModified) {
+            return Change.NONE;
+        }
+        return Change.GROWN;
+    }
+
+    /**
+     * @return the number of lines to read from the end of the log file, so that the result contains the lines written since
+     *         the last poll plus {@link #OVERLAP} known lines. The estimation is based on the average line length.
+     */
+    int window(long size) {
+        long averageLength = lines.isEmpty() ? DEFAULT_LINE_LENGTH : Math.max(1, characters / lines.size());
+        long estimate = Math.max(0, size - this.size) / averageLength + 1;
+        return (int) Math.min(capacity, estimate + OVERLAP);
+    }
+
+    /**
+     * Aligns the lines read from the end of the log file with the lines in this buffer and appends the new lines.
+     *
+     * @param window lines read from the end of the log file
+     * @return the appended lines and the number of lines dropped from the start of the buffer or {@code null} if the window
+     *         doesn't overlap with the buffer or the overlap is ambiguous. In that case the buffer is unchanged and has to be
+     *         {@linkplain #reset reset}.
+     */
+    Delta append(List<String> window, long size, long lastModified) {
+        int known = overlap(window);
+        if (known < 0) {
+            return null;
+        }
+        if (known == window.size() && size > this.size) {
+            // the file grew, but all lines seem to be known: repeated lines (heartbeats, retries) matched a wrong overlap
+            return null;
+        }
+        List<String> appended = known == window.size()
+                ? emptyList()
+                : new ArrayList<>(window.subList(known, window.size()));
+        for (String line : appended) {
+            lines.add(line);
+            characters += line.length() + 1;
+        }
+        int removed = Math.max(0, lines.size() - capacity);
+        if (removed > 0) {
+            List<String> dropped = lines.subList(0, removed);
+            for (String line : dropped) {
+                characters -= line.length() + 1;
+            }
+            dropped.clear();
+        }
+        this.size = size;
+        this.lastModified = lastModified;
+        return new Delta(appended, removed);
+    }
+
+    /**
+     * @return the length of the longest prefix of {@code window} which equals the end of this buffer or -1 if there's no such
+     *         prefix. Ambiguities caused by repeated lines are resolved in favour of fewer new lines. If that leaves no new
+     *         lines although the file grew, {@link #append(List, long, long)} gives up.
+     */
+    private int overlap(List<String> window) {
+        if (lines.isEmpty()) {
+            return window.isEmpty() ? 0 : -1;
+        }
+        String last = lines.get(lines.size() - 1);
+        for (int length = Math.min(window.size(), lines.size()); length > 0; length--) {
+            if (last.equals(window.get(length - 1)) && endsWith(window, length)) {
+                return length;
+            }
+        }
+        return -1;
+    }
+
+    private boolean endsWith(List<String> window, int length) {
+        int offset = lines.size() - length;
+        for (int i = 0; i < length; i++) {
+            if (!lines.get(offset + i).equals(window.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int size() {
+        return lines.size();
+    }
+
+    static class Delta {
+
+        final List<String> appended;
+        final int removed;
+
+        private Delta(List<String> appended, int removed) {
+            this.appended = appended;
+            this.removed = removed;
+        }
+    }
+}
@@ -57,6 +57,10 @@ class LogFile extends ModelNode {
         return failSafeDate(this, LAST_MODIFIED_TIMESTAMP);
     }
 
+    public long getLastModifiedTimestamp() {
+        return hasDefined(LAST_MODIFIED_TIMESTAMP) ? get(LAST_MODIFIED_TIMESTAMP).asLong() : 0;
+    }
+
     public String getFormattedLastModifiedDate() {
         Date lastModifiedDate = getLastModifiedDate();
         if (lastModifiedDate != null) {
@@ -16,6 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.logging;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 
 import javax.inject.Inject;
 
@@ -45,7 +46,7 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 
 import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
@@ -73,10 +74,12 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final Resources resources;
+    private final LogBuffer buffer;
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
     private double intervalHandle;
+    private boolean polling;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -97,6 +100,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         this.loggingProfile = null;
         this.logFile = null;
         this.intervalHandle = -1;
+        this.buffer = new LogBuffer(LogFiles.LINES);
     }
 
     @Override
@@ -123,39 +127,7 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     @Override
     protected void reload() {
         if (logFileName != null) {
-            double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
-            Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                    .param(INCLUDE_RUNTIME, true)
-                    .build();
-            // noinspection HardCodedStringLiteral
-            Operation contentOp = new Operation.Builder(address, "read-log-file")
-                    .param("lines", LogFiles.LINES)
-                    .param("tail", true)
-                    .build();
-            dispatcher.execute(new Composite(logFileOp, contentOp),
-                    (CompositeResult result) -> {
-                        clearTimeout(handle);
-                        if (loggingProfile == null) {
-                            logFile = new LogFile(logFileName, result.step(0).get(RESULT));
-                        } else {
-                            logFile = new LogFile(logFileName, loggingProfile, result.step(0).get(RESULT));
-                        }
-                        List<ModelNode> linesRead = result.step(1).get(RESULT).asList();
-                        String content = linesRead.stream().map(ModelNode::asString)
-                                .collect(joining("\n"));
-                        getView().show(logFile, linesRead.size(), content);
-                    },
-                    (operation, failure) -> {
-                        clearTimeout(handle);
-                        MessageEvent.fire(getEventBus(),
-                                Message.error(resources.messages().logFileError(logFileName), failure));
-                    });
+            readFile((linesRead, content) -> getView().show(logFile, linesRead, content));
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
         }
@@ -163,34 +135,98 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
-            double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+            if (inTailMode()) {
+                tail();
             } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+                readFile((linesRead, content) -> getView().refresh(linesRead, content));
             }
-            // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
-            }, (op, failure) -> {
-                clearTimeout(handle);
-                MessageEvent.fire(getEventBus(),
-                        Message.error(resources.messages().logFileError(logFileName), failure));
-            });
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
         }
     }
 
+    /** Reads the log file resource and the last {@link LogFiles#LINES} lines and replaces the buffer. */
+    private void readFile(BiConsumer<Integer, String> callback) {
+        double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
+        ResourceAddress address = address();
+        Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        Operation contentOp = new Operation.Builder(address, READ_LOG_FILE)
+                .param(LINES, LogFiles.LINES)
+                .param(TAIL, true)
+                .build();
+        dispatcher.execute(new Composite(logFileOp, contentOp),
+                (CompositeResult result) -> {
+                    clearTimeout(handle);
+                    logFile = logFile(result.step(0).get(RESULT));
+                    List<String> linesRead = lines(result.step(1).get(RESULT));
+                    buffer.reset(linesRead, logFile.getSize(), logFile.getLastModifiedTimestamp());
+                    callback.accept(linesRead.size(), String.join("\n", linesRead));
+                },
+                (operation, failure) -> {
+                    clearTimeout(handle);
+                    MessageEvent.fire(getEventBus(),
+                            Message.error(resources.messages().logFileError(logFileName), failure));
+                });
+    }
+
+    /**
+     * Polls the size and the last modified timestamp of the log file and reads only the lines written since the last poll.
+     * Falls back to {@link #readFile(BiConsumer)} if the log file was rotated or if the new lines can't be aligned with the
+     * buffer.
+     */
+    private void tail() {
+        if (polling) {
+            return;
+        }
+        polling = true;
+        ResourceAddress address = address();
+        Operation logFileOp = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        dispatcher.execute(logFileOp, result -> {
+            LogFile current = logFile(result);
+            long size = current.getSize();
+            long lastModified = current.getLastModifiedTimestamp();
+            switch (buffer.change(size, lastModified)) {
+                case NONE:
+                    polling = false;
+                    break;
+
+                case GROWN:
+                    Operation contentOp = new Operation.Builder(address, READ_LOG_FILE)
+                            .param(LINES, buffer.window(size))
+                            .param(TAIL, true)
+                            .build();
+                    dispatcher.execute(contentOp, content -> {
+                        polling = false;
+                        logFile = current;
+                        LogBuffer.Delta delta = buffer.append(lines(content), size, lastModified);
+                        if (delta == null) {
+                            readFile((linesRead, text) -> getView().refresh(linesRead, text));
+                        } else if (!delta.appended.isEmpty()) {
+                            getView().append(delta.appended, delta.removed, buffer.size());
+                        }
+                    }, this::tailFailed);
+                    break;
+
+                case REPLACED:
+                    polling = false;
+                    readFile((linesRead, text) -> getView().refresh(linesRead, text));
+                    break;
+
+                default:
+                    break;
+            }
+        }, this::tailFailed);
+    }
+
+    private void tailFailed(Operation operation, String failure) {
+        polling = false;
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
+    }
+
     void toggleTailMode(boolean on) {
         if (logFile != null) {
             if (on) {
@@ -207,6 +243,26 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         }
     }
 
+    private ResourceAddress address() {
+        if (loggingProfile == null) {
+            return LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            return PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+    }
+
+    private LogFile logFile(ModelNode node) {
+        if (loggingProfile == null) {
+            return new LogFile(logFileName, node);
+        } else {
+            return new LogFile(logFileName, loggingProfile, node);
+        }
+    }
+
+    private List<String> lines(ModelNode node) {
+        return node.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+
     private boolean inTailMode() {
         return intervalHandle != -1;
     }
@@ -225,7 +281,9 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
         void refresh(int lines, String content);
 
-        int visibleLines();
+        /** Appends lines in tail mode and removes {@code removed} lines from the start of the editor. */
+        void append(List<String> lines, int removed, int total);
+
     }
     // @formatter:on
 }
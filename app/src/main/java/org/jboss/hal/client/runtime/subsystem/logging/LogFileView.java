@@ -16,6 +16,7 @@
 package org.jboss.hal.client.runtime.subsystem.logging;
 
 import java.util.Date;
+import java.util.List;
 
 import javax.inject.Inject;
 
@@ -25,6 +26,7 @@ import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.Skeleton;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.ballroom.editor.AceEditor;
+import org.jboss.hal.ballroom.editor.Document;
 import org.jboss.hal.ballroom.editor.Options;
 import org.jboss.hal.ballroom.form.SwitchBridge;
 import org.jboss.hal.config.Environment;
@@ -42,7 +44,6 @@ import elemental2.dom.HTMLInputElement;
 
 import static java.lang.Math.max;
 
-import static elemental2.dom.DomGlobal.document;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static elemental2.dom.DomGlobal.window;
 import static org.jboss.elemento.Elements.a;
@@ -80,7 +81,6 @@ import static org.jboss.hal.resources.CSS.spinner;
 import static org.jboss.hal.resources.CSS.spinnerLg;
 import static org.jboss.hal.resources.UIConstants.BODY;
 import static org.jboss.hal.resources.UIConstants.CONTAINER;
-import static org.jboss.hal.resources.UIConstants.HASH;
 import static org.jboss.hal.resources.UIConstants.PLACEMENT;
 import static org.jboss.hal.resources.UIConstants.TOGGLE;
 import static org.jboss.hal.resources.UIConstants.TOOLTIP;
@@ -277,14 +277,15 @@ public class LogFileView extends HalViewImpl implements LogFilePresenter.MyView
     }
 
     @Override
-    public int visibleLines() {
-        int lineHeight = 15;
-        HTMLElement lineElement = (HTMLElement) document.querySelector(
-                HASH + Ids.LOG_FILE_EDITOR + " .ace_text-layer .ace_line"); // NON-NLS
-        if (lineElement != null) {
-            lineHeight = lineElement.offsetHeight;
+    public void append(List<String> lines, int removed, int total) {
+        statusUpdate(total);
+        Document document = editor.getEditor().getSession().getDocument();
+        if (removed > 0) {
+            document.removeFullLines(0, removed - 1);
         }
-        return editor.element().offsetHeight / lineHeight;
+        document.insertFullLines(document.getLength(), lines.toArray(new String[0]));
+        editor.getEditor().getSession().getUndoManager().reset();
+        editor.getEditor().gotoLine(total, 0, false);
     }
 
     private void statusUpdate(int lines) {
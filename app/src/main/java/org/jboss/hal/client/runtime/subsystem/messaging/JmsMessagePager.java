@@ -0,0 +1,266 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.lang.Math.max;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.JMS_TIMESTAMP;
+
+/**
+ * Splits the messages of a queue into pages of at most {@code pageSize} messages, newest messages first.
+ * <p>
+ * {@code list-messages} doesn't support paging. So each page is a window of message timestamps, expressed as JMS selector and
+ * combined with an optional user selector. The bounds of a window are found using {@code count-messages}: A {@link Round}
+ * holds candidate lower bounds below the upper bound of the window. The presenter reads the counts for all candidates in one
+ * composite operation and passes them to {@link #resolve(Round, List)}. That either returns the window of the page or a
+ * refined round. Only the bounds of visited pages are kept, not the messages.
+ */
+class JmsMessagePager {
+
+    /** Maximum number of candidates per round. */
+    static final int CANDIDATES = 16;
+
+    private static final long INITIAL_SPAN = 1_000; // ms
+    private static final int FACTOR = 4;
+
+    private final String selector;
+    private final int pageSize;
+    private final long now;
+    private final List<Window> pages;
+    private int page;
+
+    JmsMessagePager(String selector, int pageSize, long now) {
+        this.selector = selector == null || selector.trim().isEmpty() ? null : selector.trim();
+        this.pageSize = pageSize;
+        this.now = now;
+        this.pages = new ArrayList<>();
+        this.page = -1;
+    }
+
+    // ------------------------------------------------------ navigation
+
+    /** @return the round to find the first page. */
+    Round first() {
+        pages.clear();
+        page = -1;
+        List<Long> spans = new ArrayList<>();
+        spans.add(0L); // messages with timestamps in the future
+        spans.addAll(spans(now, INITIAL_SPAN));
+        return new Round(null, null, 0, lowerBounds(now, spans, true));
+    }
+
+    /** @return the round to find the next page or the known window of the next page */
+    Round next() {
+        if (page + 1 < pages.size()) {
+            page++;
+            return new Round(current());
+        }
+        Window current = current();
+        long to = current.from;
+        long span = (current.to != null ? current.to : now) - to;
+        return new Round(to, to, 0, lowerBounds(to, spans(to, max(1, span / (FACTOR * FACTOR))), true));
+    }
+
+    /** @return the known window of the previous page */
+    Round previous() {
+        page = max(0, page - 1);
+        return new Round(current());
+    }
+
+    boolean hasNext() {
+        return page >= 0 && (page + 1 < pages.size() || current().from != null);
+    }
+
+    boolean hasPrevious() {
+        return page > 0;
+    }
+
+    /** @return the zero based index of the current page */
+    int page() {
+        return page;
+    }
+
+    String selector() {
+        return selector;
+    }
+
+    Window current() {
+        return pages.get(page);
+    }
+
+    // ------------------------------------------------------ rounds
+
+    /**
+     * Resolves a round using the number of messages for each candidate of the round.
+     *
+     * @return a resolved round with the window of the page or a refined round
+     */
+    Round resolve(Round round, List<Long> counts) {
+        Long fit = round.fit;
+        long fitCount = round.fitCount;
+        boolean hasFit = round.fit != null || round.to != null;
+        boolean exceeded = false;
+        Long exceededBound = null;
+        for (int i = 0; i < round.bounds.size(); i++) {
+            long count = counts.get(i);
+            if (count <= pageSize) {
+                fit = round.bounds.get(i);
+                fitCount = count;
+                hasFit = true;
+            } else {
+                exceeded = true;
+                exceededBound = round.bounds.get(i);
+                break;
+            }
+        }
+
+        if (!exceeded) {
+            return page(fit, round.to);
+        } else if (!hasFit) {
+            // more than one page of messages with timestamps in the future
+            return page(exceededBound, round.to);
+        } else if (exceededBound == null || fit == null || fit - exceededBound <= 1 || fitCount >= pageSize / 2) {
+            // can't or don't need to split any further. Take the larger window if the smaller one is empty.
+            return page(fitCount > 0 || fit == null ? fit : exceededBound, round.to);
+        } else {
+            return new Round(round.to, fit, fitCount, between(fit, exceededBound));
+        }
+    }
+
+    private Round page(Long from, Long to) {
+        Window window = new Window(from, to);
+        pages.add(window);
+        page = pages.size() - 1;
+        return new Round(window);
+    }
+
+    /** @return geometrically growing spans below {@code top} which don't go beyond zero */
+    private List<Long> spans(long top, long start) {
+        List<Long> spans = new ArrayList<>();
+        long span = start;
+        while (spans.size() < CANDIDATES - 1 && span <= top) {
+            spans.add(span);
+            span *= FACTOR;
+        }
+        return spans;
+    }
+
+    private List<Long> lowerBounds(long top, List<Long> spans, boolean open) {
+        List<Long> bounds = new ArrayList<>();
+        for (Long span : spans) {
+            bounds.add(top - span);
+        }
+        if (open) {
+            bounds.add(null);
+        }
+        return bounds;
+    }
+
+    /** @return evenly distributed bounds between {@code top} (exclusive) and {@code bottom} (exclusive) */
+    private List<Long> between(long top, long bottom) {
+        List<Long> bounds = new ArrayList<>();
+        long distance = top - bottom;
+        long last = top;
+        for (int i = 1; i < CANDIDATES; i++) {
+            long bound = top - distance * i / CANDIDATES;
+            if (bound != last && bound != bottom) {
+                bounds.add(bound);
+                last = bound;
+            }
+        }
+        return bounds;
+    }
+
+    // ------------------------------------------------------ selectors
+
+    String filter(Long from, Long to) {
+        List<String> conditions = new ArrayList<>();
+        if (selector != null) {
+            conditions.add("(" + selector + ")");
+        }
+        if (from != null) {
+            conditions.add(JMS_TIMESTAMP + " >= " + from);
+        }
+        if (to != null) {
+            conditions.add(JMS_TIMESTAMP + " < " + to);
+        }
+        return conditions.isEmpty() ? null : String.join(" AND ", conditions); // NON-NLS
+    }
+
+    /**
+     * A step to find the window of a page. Either resolved and holding the {@link Window} or unresolved and holding the
+     * candidate lower bounds which need to be counted.
+     */
+    class Round {
+
+        private final Long to;
+        private final Long fit;
+        private final long fitCount;
+        private final List<Long> bounds;
+        private final Window window;
+
+        private Round(Long to, Long fit, long fitCount, List<Long> bounds) {
+            this.to = to;
+            this.fit = fit;
+            this.fitCount = fitCount;
+            this.bounds = bounds;
+            this.window = null;
+        }
+
+        private Round(Window window) {
+            this.to = window.to;
+            this.fit = window.from;
+            this.fitCount = 0;
+            this.bounds = new ArrayList<>();
+            this.window = window;
+        }
+
+        boolean isResolved() {
+            return window != null;
+        }
+
+        Window window() {
+            return window;
+        }
+
+        /** @return the selectors to count, one for each candidate */
+        List<String> filters() {
+            List<String> filters = new ArrayList<>();
+            for (Long bound : bounds) {
+                filters.add(filter(bound, to));
+            }
+            return filters;
+        }
+    }
+
+    /** The timestamps of a page. {@code null} means no bound. */
+    class Window {
+
+        final Long from;
+        final Long to;
+
+        private Window(Long from, Long to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        String filter() {
+            return JmsMessagePager.this.filter(from, to);
+        }
+    }
+}
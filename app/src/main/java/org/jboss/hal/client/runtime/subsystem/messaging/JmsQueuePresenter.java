@@ -35,6 +35,8 @@ import org.jboss.hal.core.mbui.form.OperationFormBuilder;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -95,6 +97,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.OTHER_QUEUE_NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REJECT_DUPLICATES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE_MESSAGE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE_MESSAGES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SEND_MESSAGES_TO_DEAD_LETTER_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SEND_MESSAGE_TO_DEAD_LETTER_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBDEPLOYMENT;
@@ -119,6 +122,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
     private String subdeployment;
     private String messageServer;
     private String queue;
+    private JmsMessagePager pager;
 
     @Inject
     public JmsQueuePresenter(EventBus eventBus,
@@ -154,6 +158,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         subdeployment = request.getParameter(SUBDEPLOYMENT, null);
         messageServer = request.getParameter(Ids.MESSAGING_SERVER, null);
         queue = request.getParameter(NAME, null);
+        pager = null;
     }
 
     @Override
@@ -171,6 +176,14 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         if (showAll()) {
             readAll();
 
+        } else if (pager != null) {
+            if (pager.page() < 0) {
+                // the first page is not yet known
+                browse(pager.selector());
+            } else {
+                page(pager.current());
+            }
+
         } else {
             ResourceAddress address = queueAddress();
             Task<FlowContext> count = context -> {
@@ -212,6 +225,7 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
             String id = Ids.destination(deployment, subdeployment, messageServer, Type.JMS_QUEUE.name(), queue);
             showAll.put(id, true);
         }
+        pager = null;
         readAll();
     }
 
@@ -222,6 +236,74 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
                 result -> getView().showAll(result.asList().stream().map(JmsMessage::new).collect(toList())));
     }
 
+    // ------------------------------------------------------ paged browsing
+
+    /**
+     * Browses the queue page by page, newest messages first. Each page holds at most {@link #MESSAGES_THRESHOLD} messages.
+     * Only the messages of the current page are read and kept.
+     *
+     * @param selector an optional JMS selector to filter the messages
+     */
+    void browse(String selector) {
+        pager = new JmsMessagePager(selector, (int) MESSAGES_THRESHOLD, System.currentTimeMillis());
+        page(pager.first());
+    }
+
+    void nextPage() {
+        if (pager != null && pager.hasNext()) {
+            page(pager.next());
+        }
+    }
+
+    void previousPage() {
+        if (pager != null && pager.hasPrevious()) {
+            page(pager.previous());
+        }
+    }
+
+    private void page(JmsMessagePager.Round round) {
+        if (round.isResolved()) {
+            page(round.window());
+        } else {
+            ResourceAddress address = queueAddress();
+            List<Operation> operations = round.filters().stream()
+                    .map(filter -> operation(address, COUNT_MESSAGES, filter))
+                    .collect(toList());
+            JmsMessagePager current = pager;
+            dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
+                if (current == pager) {
+                    List<Long> counts = result.stream().map(step -> step.get(RESULT).asLong()).collect(toList());
+                    page(pager.resolve(round, counts));
+                }
+            }, (op, failure) -> {
+                // e.g. an invalid selector: w/o a page, there's nothing to go back to
+                if (current == pager && pager.page() < 0) {
+                    pager = null;
+                }
+                MessageEvent.fire(getEventBus(), Message.error(resources.messages().lastOperationFailed(), failure));
+            });
+        }
+    }
+
+    private void page(JmsMessagePager.Window window) {
+        Operation operation = operation(queueAddress(), LIST_MESSAGES, window.filter());
+        JmsMessagePager current = pager;
+        dispatcher.execute(operation, result -> {
+            if (current == pager) {
+                List<JmsMessage> messages = result.asList().stream().map(JmsMessage::new).collect(toList());
+                getView().showPage(messages, pager.page(), pager.hasPrevious(), pager.hasNext(), pager.selector());
+            }
+        });
+    }
+
+    private Operation operation(ResourceAddress address, String name, String filter) {
+        Operation.Builder builder = new Operation.Builder(address, name);
+        if (filter != null) {
+            builder.param(FILTER, filter);
+        }
+        return builder.build();
+    }
+
     private boolean showAll() {
         String id = Ids.destination(deployment, subdeployment, messageServer, Type.JMS_QUEUE.name(), queue);
         return showAll.getOrDefault(id, false);
@@ -454,6 +536,8 @@ public class JmsQueuePresenter extends ApplicationFinderPresenter<JmsQueuePresen
         void showMany(long count);
 
         void showAll(List<JmsMessage> messages);
+
+        void showPage(List<JmsMessage> messages, int page, boolean hasPrevious, boolean hasNext, String selector);
     }
     // @formatter:on
 }
@@ -15,10 +15,13 @@
  */
 package org.jboss.hal.client.runtime.subsystem.messaging;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 
+import org.jboss.elemento.Elements;
+import org.jboss.elemento.Key;
 import org.jboss.hal.ballroom.EmptyState;
 import org.jboss.hal.ballroom.Toolbar;
 import org.jboss.hal.ballroom.Toolbar.Attribute;
@@ -32,10 +35,32 @@ import org.jboss.hal.resources.Icons;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Resources;
 
+import elemental2.dom.HTMLButtonElement;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
+
 import static java.util.Comparator.comparing;
 
+import static org.jboss.elemento.Elements.button;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.i;
+import static org.jboss.elemento.Elements.input;
+import static org.jboss.elemento.Elements.label;
+import static org.jboss.elemento.Elements.span;
+import static org.jboss.elemento.EventType.click;
+import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.InputType.text;
 import static org.jboss.hal.client.runtime.subsystem.messaging.AddressTemplates.MESSAGING_CORE_QUEUE_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.resources.CSS.btn;
+import static org.jboss.hal.resources.CSS.btnDefault;
+import static org.jboss.hal.resources.CSS.btnGroup;
+import static org.jboss.hal.resources.CSS.btnHal;
+import static org.jboss.hal.resources.CSS.fontAwesome;
+import static org.jboss.hal.resources.CSS.formControl;
+import static org.jboss.hal.resources.CSS.marginBottomLarge;
+import static org.jboss.hal.resources.CSS.marginRightLarge;
+import static org.jboss.hal.resources.CSS.messagePager;
 
 public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyView {
 
@@ -45,6 +70,11 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
     private final DataProvider<JmsMessage> dataProvider;
     private final EmptyState tooManyMessages;
     private final ModelNodeListView<JmsMessage> listView;
+    private final HTMLElement pager;
+    private final HTMLElement pageStatus;
+    private final HTMLButtonElement previousPage;
+    private final HTMLButtonElement nextPage;
+    private HTMLInputElement selector;
     private JmsQueuePresenter presenter;
 
     @Inject
@@ -55,8 +85,9 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
         Metadata metadata = metadataRegistry.lookup(MESSAGING_CORE_QUEUE_TEMPLATE);
         tooManyMessages = new EmptyState.Builder(Ids.JMS_MESSAGE_LIST_TOO_MANY, resources.constants().manyMessages())
                 .icon(Icons.WARNING)
-                .primaryAction(resources.constants().allMessagesAlways(), () -> presenter.readAllMessages(true))
+                .primaryAction(resources.constants().browseMessages(), () -> presenter.browse(null))
                 .secondaryAction(resources.constants().allMessagesOnce(), () -> presenter.readAllMessages(false))
+                .secondaryAction(resources.constants().allMessagesAlways(), () -> presenter.readAllMessages(true))
                 .build();
         listView = new ModelNodeListView.Builder<>(Ids.JMS_MESSAGE_LIST, metadata, dataProvider,
                 item -> new JmsMessageDisplay(item, presenter, resources))
@@ -106,8 +137,40 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
                 .multiSelect(true)
                 .build();
 
+        String selectorId = Ids.build(Ids.JMS_MESSAGE_LIST, FILTER);
+        pager = div().css(messagePager, marginBottomLarge)
+                .add(label().css(marginRightLarge)
+                        .textContent(resources.constants().jmsSelector())
+                        .apply(e -> e.htmlFor = selectorId))
+                .add(selector = input(text).css(formControl, marginRightLarge)
+                        .id(selectorId)
+                        .apply(e -> e.placeholder = JMS_PRIORITY + " > 4") // NON-NLS
+                        .on(keyup, event -> {
+                            if (Key.Enter.match(event)) {
+                                presenter.browse(selector.value);
+                            }
+                        }).element())
+                .add(button().css(btn, btnHal, btnDefault, marginRightLarge)
+                        .textContent(resources.constants().filter())
+                        .on(click, event -> presenter.browse(selector.value)))
+                .add(pageStatus = span().css(marginRightLarge).element())
+                .add(div().css(btnGroup)
+                        .add(previousPage = button().css(btn, btnDefault)
+                                .title(resources.constants().previousPage())
+                                .on(click, event -> presenter.previousPage())
+                                .add(i().css(fontAwesome("angle-left"))).element())
+                        .add(nextPage = button().css(btn, btnDefault)
+                                .title(resources.constants().nextPage())
+                                .on(click, event -> presenter.nextPage())
+                                .add(i().css(fontAwesome("angle-right"))).element()))
+                .element();
+        Elements.setVisible(pager, false);
+
         registerAttachable(listView);
-        initElements(listView);
+        List<HTMLElement> elements = new ArrayList<>();
+        elements.add(pager);
+        listView.forEach(elements::add);
+        initElements(elements);
     }
 
     @Override
@@ -117,12 +180,24 @@ public class JmsQueueView extends HalViewImpl implements JmsQueuePresenter.MyVie
 
     @Override
     public void showMany(long count) {
+        Elements.setVisible(pager, false);
         tooManyMessages.setDescription(resources.messages().manyMessages(count));
         listView.showEmptyState(TOO_MANY_MESSAGES);
     }
 
     @Override
     public void showAll(List<JmsMessage> messages) {
+        Elements.setVisible(pager, false);
+        dataProvider.update(messages);
+    }
+
+    @Override
+    public void showPage(List<JmsMessage> messages, int page, boolean hasPrevious, boolean hasNext, String selector) {
+        Elements.setVisible(pager, true);
+        this.selector.value = selector != null ? selector : "";
+        pageStatus.textContent = resources.messages().messagesPage(page + 1, messages.size());
+        previousPage.disabled = !hasPrevious;
+        nextPage.disabled = !hasNext;
         dataProvider.update(messages);
     }
 
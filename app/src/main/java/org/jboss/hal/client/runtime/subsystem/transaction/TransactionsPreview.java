@@ -26,6 +26,7 @@ import org.jboss.hal.ballroom.PatternFly;
 import org.jboss.hal.ballroom.chart.Donut;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
@@ -55,13 +56,17 @@ public class TransactionsPreview extends PreviewContent<SubsystemMetadata> {
     private Donut transactions;
     private EmptyState noStatistics;
     private Dispatcher dispatcher;
+    private Metrics metrics;
     private StatementContext statementContext;
     private HTMLElement attributesElement;
     private PreviewAttributes<ModelNode> attributes;
+    private Metrics.Subscription subscription;
 
-    public TransactionsPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public TransactionsPreview(Dispatcher dispatcher, Metrics metrics, StatementContext statementContext,
+            Resources resources) {
         super(Names.TRANSACTION);
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         Constants cons = resources.constants();
 
@@ -112,6 +117,21 @@ public class TransactionsPreview extends PreviewContent<SubsystemMetadata> {
                 .add(transactions);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        subscription = metrics.subscribe(TRANSACTION_RUNTIME_TEMPLATE.resolve(statementContext), this::updateStatistics);
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
     @Override
     public void update(SubsystemMetadata item) {
         ResourceAddress addressWeb = TRANSACTION_RUNTIME_TEMPLATE.resolve(statementContext);
@@ -119,35 +139,37 @@ public class TransactionsPreview extends PreviewContent<SubsystemMetadata> {
                 .param(INCLUDE_RUNTIME, true)
                 .param(RESOLVE_EXPRESSIONS, true)
                 .build();
-        dispatcher.execute(opWeb, result -> {
-            boolean statsAvailable = result.get(NUMBER_OF_TRANSACTIONS).asLong() > 0;
-            boolean statsEnabled = result.get(STATISTICS_ENABLED).asBoolean(statsAvailable);
-
-            if (statsEnabled) {
-                attributes.refresh(result);
-                long committed = result.get(NUMBER_OF_COMMITTED_TRANSACTIONS).asLong();
-                long aborted = result.get(NUMBER_OF_ABORTED_TRANSACTIONS).asLong();
-                long timedout = result.get(NUMBER_OF_TIMEDOUT_TRANSACTIONS).asLong();
-                long heuristics = result.get(NUMBER_OF_HEURISTICS_TRANSACTIONS).asLong();
-                long appRollbacks = result.get(NUMBER_OF_APPLICATION_ROLLBACKS).asLong();
-                long resourceRollbacks = result.get(NUMBER_OF_RESOURCE_ROLLBACKS).asLong();
-                long systemRollbacks = result.get(NUMBER_OF_SYSTEM_ROLLBACKS).asLong();
-
-                Map<String, Long> txUpdates = new HashMap<>(7);
-                txUpdates.put(TransactionStatus.COMMITTED.name(), committed);
-                txUpdates.put(TransactionStatus.ABORTED.name(), aborted);
-                // txUpdates.put(TransactionStatus.HEURISTICS.name(), heuristics);
-                txUpdates.put(TransactionStatus.TIMEDOUT_ROLLBACK.name(), timedout);
-                txUpdates.put(TransactionStatus.SYSTEM_ROLLBACK.name(), systemRollbacks);
-                txUpdates.put(TransactionStatus.RESOURCE_ROLLBACK.name(), resourceRollbacks);
-                txUpdates.put(TransactionStatus.APPLICATION_ROLLBACK.name(), appRollbacks);
-                transactions.update(txUpdates);
-            }
-
-            Elements.setVisible(noStatistics.element(), !statsEnabled);
-            Elements.setVisible(attributesElement, statsEnabled);
-            Elements.setVisible(transactions.element(), statsEnabled);
-        });
+        dispatcher.execute(opWeb, this::updateStatistics);
+    }
+
+    private void updateStatistics(ModelNode result) {
+        boolean statsAvailable = result.get(NUMBER_OF_TRANSACTIONS).asLong() > 0;
+        boolean statsEnabled = result.get(STATISTICS_ENABLED).asBoolean(statsAvailable);
+
+        if (statsEnabled) {
+            attributes.refresh(result);
+            long committed = result.get(NUMBER_OF_COMMITTED_TRANSACTIONS).asLong();
+            long aborted = result.get(NUMBER_OF_ABORTED_TRANSACTIONS).asLong();
+            long timedout = result.get(NUMBER_OF_TIMEDOUT_TRANSACTIONS).asLong();
+            long heuristics = result.get(NUMBER_OF_HEURISTICS_TRANSACTIONS).asLong();
+            long appRollbacks = result.get(NUMBER_OF_APPLICATION_ROLLBACKS).asLong();
+            long resourceRollbacks = result.get(NUMBER_OF_RESOURCE_ROLLBACKS).asLong();
+            long systemRollbacks = result.get(NUMBER_OF_SYSTEM_ROLLBACKS).asLong();
+
+            Map<String, Long> txUpdates = new HashMap<>(7);
+            txUpdates.put(TransactionStatus.COMMITTED.name(), committed);
+            txUpdates.put(TransactionStatus.ABORTED.name(), aborted);
+            // txUpdates.put(TransactionStatus.HEURISTICS.name(), heuristics);
+            txUpdates.put(TransactionStatus.TIMEDOUT_ROLLBACK.name(), timedout);
+            txUpdates.put(TransactionStatus.SYSTEM_ROLLBACK.name(), systemRollbacks);
+            txUpdates.put(TransactionStatus.RESOURCE_ROLLBACK.name(), resourceRollbacks);
+            txUpdates.put(TransactionStatus.APPLICATION_ROLLBACK.name(), appRollbacks);
+            transactions.update(txUpdates);
+        }
+
+        Elements.setVisible(noStatistics.element(), !statsEnabled);
+        Elements.setVisible(attributesElement, statsEnabled);
+        Elements.setVisible(transactions.element(), statsEnabled);
     }
 
     private void enableStatistics() {
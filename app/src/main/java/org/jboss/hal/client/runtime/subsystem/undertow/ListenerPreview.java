@@ -24,6 +24,8 @@ import org.jboss.hal.ballroom.chart.Donut;
 import org.jboss.hal.ballroom.chart.GroupedBar;
 import org.jboss.hal.core.finder.PreviewAttributes;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.metrics.Metrics;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.NamedNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -52,7 +54,9 @@ import static org.jboss.hal.resources.CSS.fontAwesome;
 
 class ListenerPreview extends PreviewContent<NamedNode> {
 
+    private final NamedNode listener;
     private final Dispatcher dispatcher;
+    private final Metrics metrics;
     private final StatementContext statementContext;
     private final Resources resources;
 
@@ -62,10 +66,14 @@ class ListenerPreview extends PreviewContent<NamedNode> {
     private final GroupedBar processingTime;
     private final HTMLElement requestsElement;
     private final Donut requests;
+    private Metrics.Subscription subscription;
 
-    ListenerPreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources, NamedNode server) {
+    ListenerPreview(Dispatcher dispatcher, Metrics metrics, StatementContext statementContext, Resources resources,
+            NamedNode server) {
         super(server.getName());
+        this.listener = server;
         this.dispatcher = dispatcher;
+        this.metrics = metrics;
         this.statementContext = statementContext;
         this.resources = resources;
 
@@ -112,54 +120,76 @@ class ListenerPreview extends PreviewContent<NamedNode> {
         setVisible(requestsElement, false);
     }
 
+    @Override
+    public void attach() {
+        super.attach();
+        subscription = metrics.subscribe(address(listener), this::updateStatistics);
+    }
+
+    @Override
+    public void detach() {
+        super.detach();
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
     @Override
     public void update(NamedNode item) {
+        Operation operation = new Operation.Builder(address(item), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .param(RESOLVE_EXPRESSIONS, true)
+                .build();
+        dispatcher.execute(operation, this::updateStatistics);
+    }
+
+    private ResourceAddress address(NamedNode item) {
         // the HAL_LISTENER_TYPE and HAL_WEB_SERVER is added to the model in ListenerColumn class.
         String listenerType = item.asModelNode().get(HAL_LISTENER_TYPE).asString();
         String webserver = item.asModelNode().get(HAL_WEB_SERVER).asString();
-        ResourceAddress address = AddressTemplate.of(WEB_SERVER_ADDRESS + "/" + listenerType + "=" + item.getName())
+        return AddressTemplate.of(WEB_SERVER_ADDRESS + "/" + listenerType + "=" + item.getName())
                 .resolve(statementContext, webserver);
-        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                .param(INCLUDE_RUNTIME, true)
-                .param(RESOLVE_EXPRESSIONS, true)
-                .build();
-        dispatcher.execute(operation, result -> {
-            NamedNode listenerResult = new NamedNode(result);
-            previewAttributes.refresh(listenerResult);
-            boolean statsAvailable = result.get(REQUEST_COUNT).asLong() > 0;
-            boolean statisticsEnabled = listenerResult.get(RECORD_REQUEST_START_TIME).asBoolean(statsAvailable);
-
-            if (statisticsEnabled) {
-                Map<String, Long> processingTimes = new HashMap<>();
-                long procTime = result.get(PROCESSING_TIME).asLong();
-                long maxProcTime = result.get(MAX_PROCESSING_TIME).asLong();
-                // convert nanoseconds to milliseconds
-                if (procTime > 0) {
-                    procTime = procTime / 1000000;
-                }
-                if (maxProcTime > 0) {
-                    maxProcTime = maxProcTime / 1000000;
-                }
-
-                // the order of rows is determined at update time.
-                processingTimes.put(MAX_PROCESSING_TIME, maxProcTime);
-                processingTimes.put(PROCESSING_TIME, procTime);
-                processingTime.update(processingTimes);
-
-                Map<String, Long> metricUpdates = new HashMap<>(7);
-                metricUpdates.put(REQUEST_COUNT, result.get(REQUEST_COUNT).asLong());
-                metricUpdates.put(ERROR_COUNT, result.get(ERROR_COUNT).asLong());
-                requests.update(metricUpdates);
-            } else {
-                SafeHtml desc = SafeHtmlUtils.fromTrustedString(
-                        resources.messages().undertowListenerProcessingDisabled(listenerType, webserver));
-                noStatistics.setDescription(desc);
+    }
+
+    private void updateStatistics(ModelNode result) {
+        NamedNode listenerResult = new NamedNode(result);
+        previewAttributes.refresh(listenerResult);
+        boolean statsAvailable = result.get(REQUEST_COUNT).asLong() > 0;
+        boolean statisticsEnabled = listenerResult.get(RECORD_REQUEST_START_TIME).asBoolean(statsAvailable);
+
+        if (statisticsEnabled) {
+            Map<String, Long> processingTimes = new HashMap<>();
+            long procTime = result.get(PROCESSING_TIME).asLong();
+            long maxProcTime = result.get(MAX_PROCESSING_TIME).asLong();
+            // convert nanoseconds to milliseconds
+            if (procTime > 0) {
+                procTime = procTime / 1000000;
+            }
+            if (maxProcTime > 0) {
+                maxProcTime = maxProcTime / 1000000;
             }
 
-            setVisible(noStatistics.element(), !statisticsEnabled);
-            setVisible(processingElement, statisticsEnabled);
-            setVisible(requestsElement, statisticsEnabled);
-        });
+            // the order of rows is determined at update time.
+            processingTimes.put(MAX_PROCESSING_TIME, maxProcTime);
+            processingTimes.put(PROCESSING_TIME, procTime);
+            processingTime.update(processingTimes);
+
+            Map<String, Long> metricUpdates = new HashMap<>(7);
+            metricUpdates.put(REQUEST_COUNT, result.get(REQUEST_COUNT).asLong());
+            metricUpdates.put(ERROR_COUNT, result.get(ERROR_COUNT).asLong());
+            requests.update(metricUpdates);
+        } else {
+            String listenerType = listener.asModelNode().get(HAL_LISTENER_TYPE).asString();
+            String webserver = listener.asModelNode().get(HAL_WEB_SERVER).asString();
+            SafeHtml desc = SafeHtmlUtils.fromTrustedString(
+                    resources.messages().undertowListenerProcessingDisabled(listenerType, webserver));
+            noStatistics.setDescription(desc);
+        }
+
+        setVisible(noStatistics.element(), !statisticsEnabled);
+        setVisible(processingElement, statisticsEnabled);
+        setVisible(requestsElement, statisticsEnabled);
     }
 
     private void recordProcessingTime(NamedNode listener) {
@@ -60,7 +60,8 @@ public class EndpointColumn extends FinderColumn<DeploymentResource> {
                 .itemsProvider(context -> {
                     ResourceAddress baseAddress = AddressTemplate.of("{selected.host}/{selected.server}")
                             .resolve(statementContext);
-                    return deploymentResources.readChildren(WEBSERVICES, ENDPOINT,
+                    // the preview reads the endpoint on its own
+                    return deploymentResources.readChildNames(WEBSERVICES, ENDPOINT,
                             (address, modelNode) -> {
                                 String name = address.lastValue().replaceAll("%3A", ":");
                                 ResourceAddress newAddress = baseAddress.isDefined() && !address.startsWith(baseAddress)
@@ -90,6 +90,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         HTMLElement showVersion;
         HTMLElement modelBrowser;
         HTMLElement expressionResolver;
+        HTMLElement metadataCache;
         HTMLElement settings;
         HTMLElement root = footer().css(footer).id(Ids.FOOTER_CONTAINER)
                 .add(nav().css(navbar, navbarFooter, navbarFixedBottom)
@@ -131,6 +132,10 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
                                                 .add(li()
                                                         .add(macroEditor = a().css(clickable)
                                                                 .textContent(resources.constants().macroEditor())
+                                                                .element()))
+                                                .add(li()
+                                                        .add(metadataCache = a().css(clickable)
+                                                                .textContent(resources.constants().metadataCache())
                                                                 .element()))))
                                 .add(li()
                                         .add(settings = a().css(tool, clickable)
@@ -149,6 +154,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         bind(expressionResolver, click, event -> presenter.onExpressionResolver());
         bind(macroRecorder, click, event -> presenter.onMacroRecording());
         bind(macroEditor, click, event -> presenter.onMacroEditor());
+        bind(metadataCache, click, event -> presenter.onMetadataCache());
         bind(settings, click, event -> presenter.onSettings());
     }
 
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.client.skeleton;
 
+import java.util.List;
+
 import javax.inject.Inject;
 
 import org.jboss.elemento.IsElement;
@@ -60,6 +62,8 @@ import org.jboss.hal.dmr.dispatch.ProcessStateEvent;
 import org.jboss.hal.dmr.dispatch.ProcessStateEvent.ProcessStateHandler;
 import org.jboss.hal.dmr.dispatch.ServerState;
 import org.jboss.hal.dmr.dispatch.ServerState.State;
+import org.jboss.hal.meta.search.SearchEngine;
+import org.jboss.hal.meta.search.SearchHit;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
@@ -123,6 +127,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         UserChangedHandler {
 
     static final int MAX_BREADCRUMB_VALUE_LENGTH = 20;
+    static final int MAX_SEARCH_HITS = 10;
+    private static final String WILDCARD = "*";
 
     private final PlaceManager placeManager;
     private final Places places;
@@ -131,6 +137,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
     private final Settings settings;
     private final User user;
     private final ServerActions serverActions;
+    private final SearchEngine searchEngine;
     private final Resources resources;
 
     private PresenterType presenterType;
@@ -150,6 +157,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
             Settings settings,
             User user,
             ServerActions serverActions,
+            SearchEngine searchEngine,
             Resources resources) {
         super(eventBus, view);
         this.placeManager = placeManager;
@@ -159,6 +167,7 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
         this.settings = settings;
         this.user = user;
         this.serverActions = serverActions;
+        this.searchEngine = searchEngine;
         this.resources = resources;
     }
 
@@ -394,6 +403,25 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
                 });
     }
 
+    // ------------------------------------------------------ search
+
+    void search(String query) {
+        searchEngine.search(query, MAX_SEARCH_HITS, hits -> getView().showSearchHits(hits));
+    }
+
+    /**
+     * Navigates to the page of the search hit. Attributes without a page are shown in the model browser if their address
+     * doesn't contain wildcards.
+     */
+    void goTo(SearchHit hit) {
+        if (hit.getToken() != null) {
+            goTo(hit.getToken());
+        } else if (hit.getAddress() != null && hit.getAddress().asPropertyList().stream()
+                .noneMatch(segment -> WILDCARD.equals(segment.getValue().asString()))) {
+            switchToExpertMode(hit.getAddress());
+        }
+    }
+
     // ------------------------------------------------------ place management
 
     void switchToExpertMode(ResourceAddress address) {
@@ -469,6 +497,8 @@ public class HeaderPresenter extends PresenterWidget<HeaderPresenter.MyView> imp
 
         void showExternal(PlaceRequest placeRequest);
 
+        void showSearchHits(List<SearchHit> hits);
+
         void hideExternal();
 
         void showRefresh();
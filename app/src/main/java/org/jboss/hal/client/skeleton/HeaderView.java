@@ -26,6 +26,7 @@ import javax.inject.Inject;
 
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.HtmlContentBuilder;
+import org.jboss.elemento.Key;
 import org.jboss.hal.ballroom.Tooltip;
 import org.jboss.hal.config.Build;
 import org.jboss.hal.config.Endpoints;
@@ -44,6 +45,7 @@ import org.jboss.hal.core.modelbrowser.ModelBrowserPath.Segment;
 import org.jboss.hal.core.mvp.HalViewImpl;
 import org.jboss.hal.core.mvp.Places;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.search.SearchHit;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.CSS;
 import org.jboss.hal.resources.Ids;
@@ -61,18 +63,22 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLInputElement;
 import elemental2.dom.HTMLLIElement;
+import elemental2.dom.KeyboardEvent;
 
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.StreamSupport.stream;
 
+import static elemental2.dom.DomGlobal.setTimeout;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.b;
 import static org.jboss.elemento.Elements.button;
 import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.failSafeRemoveFromParent;
 import static org.jboss.elemento.Elements.i;
+import static org.jboss.elemento.Elements.input;
 import static org.jboss.elemento.Elements.li;
 import static org.jboss.elemento.Elements.nav;
 import static org.jboss.elemento.Elements.ol;
@@ -80,7 +86,10 @@ import static org.jboss.elemento.Elements.setVisible;
 import static org.jboss.elemento.Elements.span;
 import static org.jboss.elemento.Elements.ul;
 import static org.jboss.elemento.EventType.bind;
+import static org.jboss.elemento.EventType.blur;
 import static org.jboss.elemento.EventType.click;
+import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.InputType.text;
 import static org.jboss.hal.client.skeleton.HeaderPresenter.MAX_BREADCRUMB_VALUE_LENGTH;
 import static org.jboss.hal.config.AccessControlProvider.RBAC;
 import static org.jboss.hal.config.Settings.Key.RUN_AS;
@@ -100,8 +109,10 @@ import static org.jboss.hal.resources.CSS.dropdown;
 import static org.jboss.hal.resources.CSS.dropdownMenu;
 import static org.jboss.hal.resources.CSS.dropdownToggle;
 import static org.jboss.hal.resources.CSS.fontAwesome;
+import static org.jboss.hal.resources.CSS.formControl;
 import static org.jboss.hal.resources.CSS.halBreadcrumb;
 import static org.jboss.hal.resources.CSS.halHeaderCollapse;
+import static org.jboss.hal.resources.CSS.headerSearch;
 import static org.jboss.hal.resources.CSS.iconBar;
 import static org.jboss.hal.resources.CSS.logo;
 import static org.jboss.hal.resources.CSS.logoText;
@@ -121,6 +132,7 @@ import static org.jboss.hal.resources.CSS.navbarPf;
 import static org.jboss.hal.resources.CSS.navbarPrimary;
 import static org.jboss.hal.resources.CSS.navbarToggle;
 import static org.jboss.hal.resources.CSS.navbarUtility;
+import static org.jboss.hal.resources.CSS.open;
 import static org.jboss.hal.resources.CSS.pfIcon;
 import static org.jboss.hal.resources.CSS.srOnly;
 import static org.jboss.hal.resources.CSS.static_;
@@ -147,6 +159,9 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
     private final Resources resources;
 
     private final HTMLElement logoFirst;
+    private final HTMLElement searchContainer;
+    private final HTMLInputElement searchBox;
+    private final HTMLElement searchHits;
     private final HTMLElement logoLast;
     private final HTMLElement reloadContainer;
     private final HTMLElement reloadLink;
@@ -215,6 +230,13 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                                 .element()))
                 .add(div().css(collapse, navbarCollapse, halHeaderCollapse)
                         .add(ul().css(nav, navbarNav, navbarUtility)
+                                .add(searchContainer = li().css(dropdown)
+                                        .add(searchBox = input(text).css(formControl, headerSearch)
+                                                .id(Ids.HEADER_SEARCH)
+                                                .attr(UIConstants.PLACEHOLDER, resources.constants().search())
+                                                .element())
+                                        .add(searchHits = ul().css(dropdownMenu).element())
+                                        .element())
                                 .add(nonProgressingOperationContainer = li()
                                         .add(nonProgressingOperationLink = a().css(clickable)
                                                 .id(Ids.NONE_PROGRESSING_LINK)
@@ -390,6 +412,8 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
                 bind(reloadLink, click, event -> presenter.reload()),
                 bind(messages, click, event -> notificationDrawer.toggle()),
                 bind(logout, click, event -> presenter.logout()),
+                bind(searchBox, keyup, this::onSearchKey),
+                bind(searchBox, blur, event -> setTimeout(o -> closeSearch(), UIConstants.MEDIUM_TIMEOUT)),
                 bind(reconnect, click, event -> presenter.reconnect())));
     }
 
@@ -436,6 +460,55 @@ public class HeaderView extends HalViewImpl implements HeaderPresenter.MyView {
         updateMessageElements();
     }
 
+    // ------------------------------------------------------ search
+
+    private void onSearchKey(KeyboardEvent event) {
+        if (Key.Escape.match(event)) {
+            searchBox.value = "";
+            closeSearch();
+        } else if (Key.Enter.match(event)) {
+            HTMLElement first = (HTMLElement) searchHits.querySelector("a"); // NON-NLS
+            if (first != null) {
+                first.click();
+            }
+        } else {
+            presenter.search(searchBox.value);
+        }
+    }
+
+    @Override
+    public void showSearchHits(List<SearchHit> hits) {
+        Elements.removeChildrenFrom(searchHits);
+        if (hits.isEmpty()) {
+            if (searchBox.value.trim().isEmpty()) {
+                closeSearch();
+                return;
+            }
+            searchHits.appendChild(li().css(static_).textContent(resources.constants().noMatchingItems()).element());
+        } else {
+            for (SearchHit hit : hits) {
+                String secondary = hit.getKind() == SearchHit.Kind.PAGE ? hit.getToken() : hit.getAddress().toString();
+                searchHits.appendChild(li()
+                        .add(a().css(clickable)
+                                .title(Strings.nullToEmpty(hit.getDescription()))
+                                .on(click, event -> {
+                                    searchBox.value = "";
+                                    closeSearch();
+                                    presenter.goTo(hit);
+                                })
+                                .add(span().textContent(hit.getTitle()))
+                                .add(span().css(CSS.subtitle).textContent(" " + secondary)))
+                        .element());
+            }
+        }
+        searchContainer.classList.add(open);
+    }
+
+    private void closeSearch() {
+        searchContainer.classList.remove(open);
+        Elements.removeChildrenFrom(searchHits);
+    }
+
     @Override
     public void updateRoles(Environment environment, Settings settings, User user) {
         for (Iterator<HTMLElement> iterator = Elements.iterator(userDropdown); iterator.hasNext();) {
@@ -0,0 +1,84 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.skeleton;
+
+import java.util.function.Function;
+
+import org.jboss.elemento.HtmlContentBuilder;
+import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.meta.CacheStatistics;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.security.SecurityContextRegistry;
+import org.jboss.hal.resources.Resources;
+
+import elemental2.dom.HTMLTableSectionElement;
+
+import static org.jboss.elemento.Elements.table;
+import static org.jboss.elemento.Elements.tbody;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.th;
+import static org.jboss.elemento.Elements.thead;
+import static org.jboss.elemento.Elements.tr;
+import static org.jboss.hal.resources.CSS.table;
+import static org.jboss.hal.resources.CSS.tableBordered;
+import static org.jboss.hal.resources.CSS.tableStriped;
+
+/** Shows the size, weight, hit rate and evictions of the metadata registries. */
+class MetadataCacheDialog {
+
+    private final Dialog dialog;
+
+    MetadataCacheDialog(ResourceDescriptionRegistry resourceDescriptionRegistry,
+            SecurityContextRegistry securityContextRegistry, Resources resources) {
+        CacheStatistics rd = resourceDescriptionRegistry.statistics();
+        CacheStatistics sc = securityContextRegistry.statistics();
+
+        HtmlContentBuilder<HTMLTableSectionElement> body = tbody();
+        row(body, resources.constants().entries(), rd, sc, stats -> String.valueOf(stats.size()));
+        row(body, resources.constants().weight(), rd, sc,
+                stats -> Format.humanReadableFileSize(stats.weight()) + " / "
+                        + Format.humanReadableFileSize(stats.maxWeight()));
+        row(body, resources.constants().hitRate(), rd, sc, stats -> Math.round(stats.hitRate() * 100) + " %");
+        row(body, resources.constants().hitCount(), rd, sc, stats -> String.valueOf(stats.hits()));
+        row(body, resources.constants().missCount(), rd, sc, stats -> String.valueOf(stats.misses()));
+        row(body, resources.constants().evictionCount(), rd, sc, stats -> String.valueOf(stats.evictions()));
+
+        dialog = new Dialog.Builder(resources.constants().metadataCache())
+                .closeOnly()
+                .add(table().css(table, tableBordered, tableStriped)
+                        .add(thead()
+                                .add(tr()
+                                        .add(th())
+                                        .add(th().textContent(resources.constants().resourceDescriptions()))
+                                        .add(th().textContent(resources.constants().securityContexts()))))
+                        .add(body)
+                        .element())
+                .build();
+    }
+
+    private void row(HtmlContentBuilder<HTMLTableSectionElement> body, String name, CacheStatistics rd,
+            CacheStatistics sc, Function<CacheStatistics, String> value) {
+        body.add(tr()
+                .add(th().textContent(name))
+                .add(td().textContent(value.apply(rd)))
+                .add(td().textContent(value.apply(sc))));
+    }
+
+    void show() {
+        dialog.show();
+    }
+}
@@ -83,6 +83,7 @@ class SettingsDialog {
         }
         attributes.add(POLL.key());
         attributes.add(POLL_TIME.key());
+        attributes.add(METADATA_CACHE_SIZE.key());
         ModelNodeForm<ModelNode> form = new ModelNodeForm.Builder<>(Ids.SETTINGS_FORM, metadata)
                 .include(attributes)
                 .customFormItem(PAGE_SIZE.key(),
@@ -116,6 +117,8 @@ class SettingsDialog {
             modelNode.get(LOCALE.key()).set(settings.get(LOCALE).value());
         }
         modelNode.get(PAGE_SIZE.key()).set(settings.get(PAGE_SIZE).asInt(Settings.DEFAULT_PAGE_SIZE));
+        modelNode.get(METADATA_CACHE_SIZE.key())
+                .set(settings.get(METADATA_CACHE_SIZE).asInt(Settings.DEFAULT_METADATA_CACHE_SIZE));
         dialog.show(modelNode);
     }
 
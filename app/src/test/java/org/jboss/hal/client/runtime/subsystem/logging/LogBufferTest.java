@@ -0,0 +1,134 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.logging;
+
+import org.jboss.hal.client.runtime.subsystem.logging.LogBuffer.Change;
+import org.jboss.hal.client.runtime.subsystem.logging.LogBuffer.Delta;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class LogBufferTest {
+
+    @Test
+    public void change() {
+        LogBuffer buffer = new LogBuffer(10);
+        assertEquals(Change.REPLACED, buffer.change(10, 1));
+
+        buffer.reset(asList("a", "b"), 10, 1);
+        assertEquals(Change.NONE, buffer.change(10, 1));
+        assertEquals(Change.GROWN, buffer.change(20, 2));
+        assertEquals(Change.GROWN, buffer.change(10, 2));
+    }
+
+    @Test
+    public void append() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("a", "b", "c"), 6, 1);
+
+        Delta delta = buffer.append(asList("b", "c", "d", "e"), 10, 2);
+        assertNotNull(delta);
+        assertEquals(asList("d", "e"), delta.appended);
+        assertEquals(0, delta.removed);
+        assertEquals(5, buffer.size());
+        assertEquals(Change.NONE, buffer.change(10, 2));
+    }
+
+    @Test
+    public void appendDropsOldestLines() {
+        LogBuffer buffer = new LogBuffer(3);
+        buffer.reset(asList("a", "b", "c", "d"), 8, 1);
+        assertEquals(3, buffer.size());
+
+        Delta delta = buffer.append(asList("c", "d", "e", "f"), 12, 2);
+        assertNotNull(delta);
+        assertEquals(asList("e", "f"), delta.appended);
+        assertEquals(2, delta.removed);
+        assertEquals(3, buffer.size());
+    }
+
+    @Test
+    public void touched() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("a", "b"), 4, 1);
+
+        // same size, but modified: nothing new
+        Delta delta = buffer.append(asList("a", "b"), 4, 2);
+        assertNotNull(delta);
+        assertTrue(delta.appended.isEmpty());
+        assertEquals(0, delta.removed);
+    }
+
+    @Test
+    public void repeatedLines() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("start", "heartbeat", "heartbeat", "heartbeat"), 36, 1);
+
+        // three more heartbeats were written, but the window looks like the end of the buffer
+        Delta delta = buffer.append(asList("heartbeat", "heartbeat", "heartbeat"), 66, 2);
+        assertNull(delta);
+        assertEquals(4, buffer.size());
+        assertEquals(Change.GROWN, buffer.change(66, 2));
+    }
+
+    @Test
+    public void repeatedLinesWithNewLine() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("start", "heartbeat", "heartbeat"), 26, 1);
+
+        Delta delta = buffer.append(asList("heartbeat", "heartbeat", "retry"), 32, 2);
+        assertNotNull(delta);
+        assertEquals(singletonList("retry"), delta.appended);
+    }
+
+    @Test
+    public void rotation() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("a", "b", "c"), 6, 1);
+        assertEquals(Change.REPLACED, buffer.change(2, 2));
+
+        buffer.reset(singletonList("x"), 2, 2);
+        assertEquals(1, buffer.size());
+        assertEquals(Change.NONE, buffer.change(2, 2));
+    }
+
+    @Test
+    public void noOverlap() {
+        LogBuffer buffer = new LogBuffer(10);
+        buffer.reset(asList("a", "b", "c"), 6, 1);
+
+        assertNull(buffer.append(asList("x", "y"), 10, 2));
+        assertEquals(3, buffer.size());
+        assertEquals(Change.GROWN, buffer.change(10, 2));
+    }
+
+    @Test
+    public void window() {
+        LogBuffer buffer = new LogBuffer(100);
+        buffer.reset(asList("1234", "1234"), 10, 1);
+
+        // average line length is five characters incl. the line break
+        assertEquals(4 + 1 + LogBuffer.OVERLAP, buffer.window(30));
+        assertEquals(100, buffer.window(10_000));
+    }
+}
@@ -0,0 +1,182 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.subsystem.messaging;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.jboss.hal.client.runtime.subsystem.messaging.JmsMessagePager.Round;
+import org.jboss.hal.client.runtime.subsystem.messaging.JmsMessagePager.Window;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class JmsMessagePagerTest {
+
+    private static final int PAGE_SIZE = 500;
+    private static final long NOW = 100_000_000L;
+    private static final Pattern FROM = Pattern.compile("JMSTimestamp >= (-?\\d+)");
+    private static final Pattern TO = Pattern.compile("JMSTimestamp < (-?\\d+)");
+
+    private List<Long> timestamps;
+
+    @Before
+    public void setUp() {
+        // 1200 messages, one per second, newest first
+        timestamps = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            timestamps.add(NOW - 1_000L * i);
+        }
+    }
+
+    @Test
+    public void first() {
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Window window = resolve(pager, pager.first());
+
+        long count = count(window.filter());
+        assertNull(window.to);
+        assertTrue(count > 0 && count <= PAGE_SIZE);
+        // the newest message is on the first page
+        assertTrue(window.from == null || window.from <= NOW);
+        assertEquals(0, pager.page());
+        assertFalse(pager.hasPrevious());
+        assertTrue(pager.hasNext());
+    }
+
+    @Test
+    public void next() {
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Window first = resolve(pager, pager.first());
+        Window second = resolve(pager, pager.next());
+
+        assertEquals(first.from, second.to);
+        assertTrue(count(second.filter()) > 0 && count(second.filter()) <= PAGE_SIZE);
+        assertEquals(1, pager.page());
+        assertTrue(pager.hasPrevious());
+    }
+
+    @Test
+    public void allPages() {
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Window window = resolve(pager, pager.first());
+        long total = count(window.filter());
+        int pages = 1;
+        while (pager.hasNext()) {
+            Window next = resolve(pager, pager.next());
+            assertEquals(window.from, next.to);
+            total += count(next.filter());
+            window = next;
+            pages++;
+        }
+
+        // the pages cover all messages w/o overlap
+        assertEquals(timestamps.size(), total);
+        assertNull(window.from);
+        assertEquals(pages - 1, pager.page());
+    }
+
+    @Test
+    public void previous() {
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Window first = resolve(pager, pager.first());
+        resolve(pager, pager.next());
+
+        Round round = pager.previous();
+        assertTrue(round.isResolved());
+        assertEquals(first.from, round.window().from);
+        assertEquals(first.to, round.window().to);
+        assertEquals(0, pager.page());
+        assertFalse(pager.hasPrevious());
+
+        // going forward again uses the known window
+        assertTrue(pager.next().isResolved());
+        assertEquals(1, pager.page());
+    }
+
+    @Test
+    public void unresolved() {
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Round round = pager.first();
+
+        assertFalse(round.isResolved());
+        assertTrue(round.filters().size() <= JmsMessagePager.CANDIDATES);
+        assertEquals(-1, pager.page());
+        assertFalse(pager.hasNext());
+        assertFalse(pager.hasPrevious());
+    }
+
+    @Test
+    public void emptyQueue() {
+        timestamps.clear();
+        JmsMessagePager pager = new JmsMessagePager(null, PAGE_SIZE, NOW);
+        Window window = resolve(pager, pager.first());
+
+        assertEquals(0, count(window.filter()));
+        assertEquals(0, pager.page());
+        assertFalse(pager.hasNext());
+        assertFalse(pager.hasPrevious());
+    }
+
+    @Test
+    public void selector() {
+        JmsMessagePager pager = new JmsMessagePager(" JMSPriority > 4 ", PAGE_SIZE, NOW);
+
+        assertEquals("JMSPriority > 4", pager.selector());
+        assertEquals("(JMSPriority > 4) AND JMSTimestamp >= 1 AND JMSTimestamp < 2", pager.filter(1L, 2L));
+        assertEquals("(JMSPriority > 4)", pager.filter(null, null));
+        assertNull(new JmsMessagePager("  ", PAGE_SIZE, NOW).filter(null, null));
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private Window resolve(JmsMessagePager pager, Round round) {
+        int rounds = 0;
+        while (!round.isResolved()) {
+            assertTrue("Too many rounds", ++rounds < 20);
+            round = pager.resolve(round, round.filters().stream().map(this::count).collect(toList()));
+        }
+        return round.window();
+    }
+
+    /** Counts the messages matching a timestamp filter like {@code count-messages} would do. */
+    private long count(String filter) {
+        Long from = bound(FROM, filter);
+        Long to = bound(TO, filter);
+        return timestamps.stream()
+                .filter(timestamp -> (from == null || timestamp >= from) && (to == null || timestamp < to))
+                .count();
+    }
+
+    private Long bound(Pattern pattern, String filter) {
+        if (filter != null) {
+            Matcher matcher = pattern.matcher(filter);
+            if (matcher.find()) {
+                return Long.parseLong(matcher.group(1));
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+// Inverted index with prefix matching used by org.jboss.hal.meta.search.SearchEngine.
+//
+// Messages:
+//   {type: "add", documents: [{id, kind, title, description, token, address, keywords}]}
+//     adds the documents to the index, documents with the same id are replaced
+//   {type: "remove", ids}
+//     removes the documents with the specified ids from the index
+//   {type: "search", request, query, limit}
+//     posts {request, took, hits} back, where hits are the best matching documents
+
+const TITLE_WEIGHT = 10;
+const KEYWORD_WEIGHT = 5;
+const DESCRIPTION_WEIGHT = 1;
+
+self.documents = new Map(); // id -> document
+self.postings = new Map(); // term -> Map(id -> weight)
+self.terms = null; // sorted terms, null if invalidated
+
+self.addEventListener("message", function (e) {
+    if (e.data.type === "add") {
+        let start = performance.now();
+        e.data.documents.forEach(add);
+        terms = null;
+        info("Indexed " + e.data.documents.length + " documents in " + Math.round(performance.now() - start) + " ms");
+    } else if (e.data.type === "remove") {
+        e.data.ids.forEach(function (id) {
+            if (documents.has(id)) {
+                remove(documents.get(id));
+            }
+        });
+        terms = null;
+    } else if (e.data.type === "search") {
+        let start = performance.now();
+        let hits = search(e.data.query, e.data.limit);
+        postMessage({request: e.data.request, took: performance.now() - start, hits: hits});
+    }
+}, false);
+
+self.tokenize = function (text) {
+    if (!text) {
+        return [];
+    }
+    return text.toLowerCase().split(/[^a-z0-9]+/).filter(function (term) {
+        return term.length > 1;
+    });
+};
+
+self.add = function (document) {
+    if (documents.has(document.id)) {
+        remove(documents.get(document.id));
+    }
+    let weights = new Map();
+    let collect = function (text, weight) {
+        tokenize(text).forEach(function (term) {
+            weights.set(term, Math.max(weights.get(term) || 0, weight));
+        });
+    };
+    collect(document.title, TITLE_WEIGHT);
+    (document.keywords || []).forEach(function (keyword) {
+        collect(keyword, KEYWORD_WEIGHT);
+    });
+    collect(document.description, DESCRIPTION_WEIGHT);
+
+    document.terms = Array.from(weights.keys());
+    weights.forEach(function (weight, term) {
+        let posting = postings.get(term);
+        if (!posting) {
+            posting = new Map();
+            postings.set(term, posting);
+        }
+        posting.set(document.id, weight);
+    });
+    documents.set(document.id, document);
+};
+
+self.remove = function (document) {
+    document.terms.forEach(function (term) {
+        let posting = postings.get(term);
+        if (posting) {
+            posting.delete(document.id);
+            if (posting.size === 0) {
+                postings.delete(term);
+            }
+        }
+    });
+    documents.delete(document.id);
+};
+
+// Returns the scores of all documents which contain a term starting with the specified prefix.
+self.matches = function (prefix) {
+    if (terms === null) {
+        terms = Array.from(postings.keys()).sort();
+    }
+    let low = 0;
+    let high = terms.length;
+    while (low < high) {
+        let mid = (low + high) >>> 1;
+        if (terms[mid] < prefix) {
+            low = mid + 1;
+        } else {
+            high = mid;
+        }
+    }
+    let scores = new Map();
+    for (let i = low; i < terms.length && terms[i].startsWith(prefix); i++) {
+        let exact = terms[i] === prefix ? 2 : 1;
+        postings.get(terms[i]).forEach(function (weight, id) {
+            scores.set(id, Math.max(scores.get(id) || 0, weight * exact));
+        });
+    }
+    return scores;
+};
+
+// All words of the query have to match.
+self.search = function (query, limit) {
+    let words = tokenize(query);
+    if (words.length === 0) {
+        return [];
+    }
+    let scores = null;
+    words.forEach(function (word) {
+        let wordScores = matches(word);
+        if (scores === null) {
+            scores = wordScores;
+        } else {
+            let combined = new Map();
+            scores.forEach(function (score, id) {
+                if (wordScores.has(id)) {
+                    combined.set(id, score + wordScores.get(id));
+                }
+            });
+            scores = combined;
+        }
+    });
+
+    let normalized = query.trim().toLowerCase();
+    let hits = [];
+    scores.forEach(function (score, id) {
+        let document = documents.get(id);
+        if (document.title.toLowerCase().startsWith(normalized)) {
+            score += TITLE_WEIGHT;
+        }
+        if (document.kind === "PAGE") {
+            score += KEYWORD_WEIGHT;
+        }
+        hits.push({score: score, document: document});
+    });
+    hits.sort(function (a, b) {
+        return b.score - a.score || a.document.title.length - b.document.title.length ||
+            a.document.title.localeCompare(b.document.title);
+    });
+    return hits.slice(0, limit).map(function (hit) {
+        let document = hit.document;
+        return {
+            id: document.id,
+            kind: document.kind,
+            title: document.title,
+            description: document.description,
+            token: document.token,
+            address: document.address
+        };
+    });
+};
+
+self.info = function (message) {
+    // use the same log format as HAL
+    console.info(timestamp() + " INFO  search.js                                " + message);
+};
+
+self.timestamp = function () {
+    let d = new Date();
+    return d.getHours().toString().padStart(2, "0") + ":" +
+        d.getMinutes().toString().padStart(2, "0") + ":" +
+        d.getSeconds().toString().padStart(2, "0") + "." +
+        d.getMilliseconds().toString().padStart(3, "0");
+}
@@ -15,29 +15,55 @@
  */
 self.importScripts("pouchdb.min.js");
 
+// one handle per database, opening a PouchDB instance is not free
+self.databases = {};
+
+self.database = function (name) {
+    if (!databases[name]) {
+        databases[name] = new PouchDB(name);
+    }
+    return databases[name];
+};
+
+// Writes a batch of documents using one allDocs() to look up the current revisions
+// and one bulkDocs() to insert new and update existing documents.
 self.addEventListener("message", function (e) {
-    let db = new PouchDB(e.data.database);
-    db.get(e.data.document._id)
-        .then(function (doc) {
-            // update existing document
-            e.data.document._rev = doc._rev;
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Update " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+    let start = performance.now();
+    let name = e.data.database;
+    let documents = e.data.documents;
+    let db = database(name);
+    let keys = documents.map(function (document) {
+        return document._id;
+    });
+    db.allDocs({keys: keys})
+        .then(function (response) {
+            let revisions = {};
+            response.rows.forEach(function (row) {
+                if (!row.error && row.value && !row.value.deleted) {
+                    revisions[row.id] = row.value.rev;
+                }
+            });
+            documents.forEach(function (document) {
+                if (revisions[document._id]) {
+                    document._rev = revisions[document._id];
+                } else {
+                    delete document._rev;
+                }
+            });
+            return db.bulkDocs(documents);
+        })
+        .then(function (response) {
+            let failed = response.filter(function (result) {
+                return result.error;
+            });
+            failed.forEach(function (result) {
+                error("Unable to put " + name + result.id + ": " + result.message);
+            });
+            info("Wrote " + (documents.length - failed.length) + "/" + documents.length + " documents to " + name +
+                " in " + Math.round(performance.now() - start) + " ms");
         })
-        .catch(function () {
-            // put new document
-            db.put(e.data.document)
-                .then(function (response) {
-                    info("Insert " + e.data.database + response.id);
-                })
-                .catch(function (error) {
-                    error("Unable to put " + e.data.database + e.data.document._id + ": " + error);
-                });
+        .catch(function (reason) {
+            error("Unable to write " + documents.length + " documents to " + name + ": " + reason);
         });
 }, false);
 
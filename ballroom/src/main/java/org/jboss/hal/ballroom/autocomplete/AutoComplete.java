@@ -48,6 +48,8 @@ import static org.jboss.hal.resources.UIConstants.HASH;
  */
 public class AutoComplete implements SuggestHandler, Attachable {
 
+    /** Delay in milliseconds used by auto completes which talk to the server. The default delay is 150 ms. */
+    static final int DEBOUNCE_DELAY = 300;
     static final Logger logger = LoggerFactory.getLogger(AutoComplete.class);
 
     private FormItem formItem;
@@ -0,0 +1,173 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * Cache for the DMR results of the auto complete implementations which read their suggestions from the management model.
+ * <p>
+ * The operations used by {@link ReadChildrenAutoComplete} and {@link SuggestCapabilitiesAutoComplete} don't depend on the
+ * query. They always return the complete list of suggestions which is then filtered locally. So once a result is known,
+ * subsequent queries are answered from the cache until the entry expires or is invalidated. Concurrent requests for the same
+ * key share a single round trip.
+ * <p>
+ * Entries are invalidated if a resource is added or removed which matches one of the addresses of the entry. Use
+ * {@link #invalidate(ResourceAddress)} for that purpose.
+ */
+public final class AutoCompleteCache {
+
+    /** Time in milliseconds after which a cached result is reloaded. */
+    static final long TTL = 30_000;
+    static final int MAX_ENTRIES = 100;
+
+    private static final Map<String, Entry> entries = new LinkedHashMap<>();
+
+    /**
+     * Passes the cached result for the specified key to the callback. If there's no valid cached result, the result is loaded
+     * using the specified loader. If the result for the same key is currently loading, the callback is queued.
+     *
+     * @param key the cache key, must include everything the result depends on
+     * @param addresses the addresses (which might contain wildcards) used to invalidate the entry. An empty list means that
+     *        the entry is invalidated by any change.
+     * @param loader loads the result and calls either the success or the error callback
+     * @param callback gets the result
+     * @param errorCallback called if the result could not be loaded
+     */
+    @SuppressWarnings("unchecked")
+    static <R> void get(String key, List<ResourceAddress> addresses, Loader<R> loader, Consumer<R> callback,
+            Runnable errorCallback) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.timestamp < TTL) {
+            if (entry.loading) {
+                entry.callbacks.add((Consumer<Object>) callback);
+                entry.errorCallbacks.add(errorCallback);
+            } else {
+                callback.accept((R) entry.result);
+            }
+            return;
+        }
+
+        if (entries.size() >= MAX_ENTRIES) {
+            Iterator<String> iterator = entries.keySet().iterator();
+            iterator.next();
+            iterator.remove();
+        }
+        Entry loading = new Entry(addresses, now);
+        loading.callbacks.add((Consumer<Object>) callback);
+        loading.errorCallbacks.add(errorCallback);
+        entries.remove(key);
+        entries.put(key, loading);
+        loader.load(result -> {
+            loading.loading = false;
+            loading.result = result;
+            loading.timestamp = System.currentTimeMillis();
+            for (Consumer<Object> c : loading.callbacks) {
+                c.accept(result);
+            }
+            loading.callbacks.clear();
+            loading.errorCallbacks.clear();
+        }, () -> {
+            if (entries.get(key) == loading) {
+                entries.remove(key);
+            }
+            for (Runnable r : loading.errorCallbacks) {
+                r.run();
+            }
+            loading.callbacks.clear();
+            loading.errorCallbacks.clear();
+        });
+    }
+
+    /**
+     * Removes all entries which are affected by adding or removing a resource at the specified address. That is all entries
+     * whose addresses match the specified address or one of its children, and all entries without addresses.
+     */
+    public static void invalidate(ResourceAddress address) {
+        for (Iterator<Entry> iterator = entries.values().iterator(); iterator.hasNext();) {
+            Entry entry = iterator.next();
+            if (entry.addresses.isEmpty() || entry.addresses.stream().anyMatch(pattern -> affects(address, pattern))) {
+                iterator.remove();
+            }
+        }
+    }
+
+    /** Removes all entries. */
+    public static void clear() {
+        entries.clear();
+    }
+
+    static int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return whether {@code address} matches the start of {@code pattern}. A '*' value in the pattern matches any value.
+     */
+    static boolean affects(ResourceAddress address, ResourceAddress pattern) {
+        if (address.size() > pattern.size()) {
+            return false;
+        }
+        List<Property> segments = address.asPropertyList();
+        List<Property> patternSegments = pattern.asPropertyList();
+        for (int i = 0; i < segments.size(); i++) {
+            Property segment = segments.get(i);
+            Property patternSegment = patternSegments.get(i);
+            String patternValue = patternSegment.getValue().asString();
+            if (!segment.getName().equals(patternSegment.getName())
+                    || (!"*".equals(patternValue) && !patternValue.equals(segment.getValue().asString()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private AutoCompleteCache() {
+    }
+
+    @FunctionalInterface
+    interface Loader<R> {
+
+        void load(Consumer<R> success, Runnable error);
+    }
+
+    private static class Entry {
+
+        private final List<ResourceAddress> addresses;
+        private final List<Consumer<Object>> callbacks;
+        private final List<Runnable> errorCallbacks;
+        private boolean loading;
+        private long timestamp;
+        private Object result;
+
+        private Entry(List<ResourceAddress> addresses, long timestamp) {
+            this.addresses = addresses;
+            this.callbacks = new ArrayList<>();
+            this.errorCallbacks = new ArrayList<>();
+            this.loading = true;
+            this.timestamp = timestamp;
+        }
+    }
+}
@@ -38,6 +38,12 @@ public class OptionsBuilder<T> {
         this.renderItem = new StringRenderer<>(String::valueOf);
     }
 
+    /** Sets the delay in milliseconds between the last keystroke and the call of the source function. */
+    public OptionsBuilder<T> delay(int delay) {
+        this.delay = delay;
+        return this;
+    }
+
     public OptionsBuilder renderItem(ItemRenderer<T> renderItem) {
         this.renderItem = renderItem;
         return this;
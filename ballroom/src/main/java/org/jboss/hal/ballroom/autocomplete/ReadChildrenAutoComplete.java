@@ -19,6 +19,7 @@ import java.util.List;
 
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -31,6 +32,7 @@ import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
 import static java.util.Collections.singleton;
+import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
 
@@ -79,28 +81,32 @@ public class ReadChildrenAutoComplete extends AutoComplete {
         }
 
         Options options = new OptionsBuilder<JsonObject>((query, response) -> {
-            List<Operation> operations = stream(templates.spliterator(), false)
+            List<ResourceAddress> addresses = stream(templates.spliterator(), false)
                     .map(template -> template.resolve(statementContext))
+                    .collect(toList());
+            List<Operation> operations = addresses.stream()
                     .map(address -> operation(address, numberOfTemplates))
                     .collect(toList());
+            String key = operations.stream().map(Operation::asCli).collect(joining(";"));
+            Runnable noResults = () -> response.response(new JsonObject[0]);
             if (operations.size() == 1) {
-                dispatcher.execute(operations.get(0),
-                        result -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
+                AutoCompleteCache.<ModelNode> get(key, addresses,
+                        (success, error) -> dispatcher.execute(operations.get(0), success,
+                                (operation, failure) -> {
+                                    logger.error(ERROR_MESSAGE, templates, failure);
+                                    error.run();
+                                }),
+                        result -> response.response(resultProcessor.process(query, result)), noResults);
             } else {
-                dispatcher.execute(new Composite(operations),
-                        (CompositeResult result) -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
+                AutoCompleteCache.<CompositeResult> get(key, addresses,
+                        (success, error) -> dispatcher.execute(new Composite(operations), success,
+                                (operation, failure) -> {
+                                    logger.error(ERROR_MESSAGE, templates, failure);
+                                    error.run();
+                                }),
+                        result -> response.response(resultProcessor.process(query, result)), noResults);
             }
-        }).renderItem(itemRenderer).build();
+        }).delay(DEBOUNCE_DELAY).renderItem(itemRenderer).build();
         init(options);
     }
 
@@ -21,6 +21,8 @@ import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 
+import static java.util.Collections.emptyList;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPENDENT_ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUGGEST_CAPABILITIES;
@@ -39,7 +41,13 @@ public class SuggestCapabilitiesAutoComplete extends AutoComplete {
                 .param(NAME, capability)
                 .param(DEPENDENT_ADDRESS, template.resolve(statementContext))
                 .build();
-        Options options = new OptionsBuilder<String>((query, response) -> dispatcher.execute(operation,
+        String key = operation.asCli();
+        Options options = new OptionsBuilder<String>((query, response) -> AutoCompleteCache.<ModelNode> get(key, emptyList(),
+                (success, error) -> dispatcher.execute(operation, success,
+                        (op, failure) -> {
+                            logger.error(ERROR_MESSAGE, capability, template, failure);
+                            error.run();
+                        }),
                 result -> {
                     if (result.isDefined()) {
                         String[] items = result.asList().stream()
@@ -53,10 +61,7 @@ public class SuggestCapabilitiesAutoComplete extends AutoComplete {
                         response.response(new String[0]);
                     }
                 },
-                (op, error) -> {
-                    logger.error(ERROR_MESSAGE, capability, template, error);
-                    response.response(new String[0]);
-                })).build();
+                () -> response.response(new String[0]))).delay(DEBOUNCE_DELAY).build();
 
         init(options);
     }
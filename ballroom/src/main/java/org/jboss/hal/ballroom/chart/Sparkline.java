@@ -0,0 +1,88 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import org.jboss.elemento.IsElement;
+
+import elemental2.dom.Element;
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.document;
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.elemento.Elements.setVisible;
+import static org.jboss.hal.resources.CSS.sparkline;
+
+/** Small line chart w/o axes and labels which shows the history of a value. Hidden until there are at least two values. */
+public class Sparkline implements IsElement<HTMLElement> {
+
+    private static final String SVG_NS = "http://www.w3.org/2000/svg"; // NON-NLS
+    private static final int WIDTH = 100;
+    private static final int HEIGHT = 20;
+
+    private final HTMLElement root;
+    private final Element polyline;
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    public Sparkline() {
+        Element svg = document.createElementNS(SVG_NS, "svg");
+        svg.setAttribute("viewBox", "0 0 " + WIDTH + " " + HEIGHT);
+        svg.setAttribute("preserveAspectRatio", "none");
+        polyline = document.createElementNS(SVG_NS, "polyline");
+        svg.appendChild(polyline);
+        root = div().css(sparkline).add(svg).element();
+        setVisible(root, false);
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    /**
+     * Draws the values from left to right.
+     *
+     * @param values the values, oldest first
+     * @param max the value drawn at the top. If less than or equal to zero, the maximum of the values is used.
+     */
+    public void update(double[] values, double max) {
+        if (values.length < 2) {
+            setVisible(root, false);
+            return;
+        }
+
+        double top = max;
+        if (top <= 0) {
+            for (double value : values) {
+                top = Math.max(top, value);
+            }
+        }
+        StringBuilder points = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            double x = (double) WIDTH * i / (values.length - 1);
+            double y = top > 0 ? HEIGHT - Math.min(values[i], top) / top * HEIGHT : HEIGHT;
+            if (i > 0) {
+                points.append(' ');
+            }
+            points.append(round(x)).append(',').append(round(y));
+        }
+        polyline.setAttribute("points", points.toString()); // NON-NLS
+        setVisible(root, true);
+    }
+
+    private double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+}
@@ -71,6 +71,7 @@ public class Utilization implements IsElement {
     private final HTMLElement remainingBar;
     private final HTMLElement remainingElement;
     private final HTMLElement root;
+    private Sparkline sparkline;
     private long total;
 
     public Utilization(String label, String unit, boolean inline, boolean thresholds) {
@@ -158,6 +159,20 @@ public class Utilization implements IsElement {
         }
     }
 
+    /**
+     * Shows the history of the current value as a sparkline below the bar. The sparkline uses the total of the last
+     * {@linkplain #update(long, long) update} as maximum.
+     *
+     * @param values the history of the current value, oldest first
+     */
+    public void history(double[] values) {
+        if (sparkline == null) {
+            sparkline = new Sparkline();
+            root.appendChild(sparkline.element());
+        }
+        sparkline.update(values, total);
+    }
+
     private String aria(String name) {
         return "aria-" + name; // NON-NLS
     }
@@ -16,31 +16,29 @@
 package org.jboss.hal.ballroom.dataprovider;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
-import java.util.function.Predicate;
-import java.util.stream.Collector;
-import java.util.stream.Stream;
 
 import org.jboss.hal.ballroom.listview.ListView;
 import org.jboss.hal.config.Settings;
 
-import com.google.common.collect.Lists;
-
 import static java.lang.Math.min;
-import static java.util.function.Function.identity;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 
 import static org.jboss.hal.config.Settings.DEFAULT_PAGE_SIZE;
 import static org.jboss.hal.config.Settings.Key.PAGE_SIZE;
 
 /**
  * Holds items and state for displays like {@link ListView}. Changes to the state is reflected in the connected displays.
+ * <p>
+ * The items run through a pipeline of three stages: filter, sort and paging. The result of the filter and sort stage is
+ * cached and only recomputed if the stage is invalidated by a new filter or comparator. Paging is just a slice of the cached
+ * list. Single items can be added, updated or removed using {@link #add(Object)}, {@link #update(Object)} and
+ * {@link #remove(Object)}. These methods update the cached lists in place instead of running the whole pipeline again.
  */
 public class DataProvider<T> {
 
@@ -48,12 +46,15 @@ public class DataProvider<T> {
     private final PageInfo pageInfo;
     private final SelectionInfo<T> selectionInfo;
     private final Map<String, T> allItems;
+    private final Map<String, Integer> positions; // insertion order of allItems, used as tie-breaker when sorting
     private final Map<String, FilterValue<T>> filterValues;
     private final List<Display<T>> displays;
     private List<SelectHandler<T>> selectHandler;
-    private Map<String, T> filteredItems;
+    private List<T> filteredItems; // filtered items in insertion order, null if invalidated
+    private List<T> sortedItems; // filtered and sorted items, null if invalidated
     private Map<String, T> visibleItems;
     private Comparator<T> comparator;
+    private int nextPosition;
 
     public DataProvider(Function<T, String> identifier, boolean multiSelect) {
         this(identifier, multiSelect, Settings.INSTANCE.get(PAGE_SIZE).asInt(DEFAULT_PAGE_SIZE));
@@ -64,7 +65,7 @@ public class DataProvider<T> {
         this.pageInfo = new PageInfo(pageSize);
         this.selectionInfo = new SelectionInfo<>(identifier, multiSelect);
         this.allItems = new LinkedHashMap<>();
-        this.filteredItems = new LinkedHashMap<>();
+        this.positions = new HashMap<>();
         this.visibleItems = new LinkedHashMap<>();
         this.filterValues = new HashMap<>();
         this.selectHandler = new ArrayList<>();
@@ -79,13 +80,59 @@ public class DataProvider<T> {
     public void update(Iterable<T> items) {
         reset();
         for (T item : items) {
-            allItems.put(getId(item), item);
+            String id = getId(item);
+            if (allItems.put(id, item) == null) {
+                positions.put(id, nextPosition++);
+            }
         }
         applyFilterSortAndPaging();
         showItems();
         updateSelection();
     }
 
+    /**
+     * Adds the specified item. If there's already an item with the same id, the item is replaced. Keeps the paging and
+     * selection.
+     */
+    public void add(T item) {
+        update(item);
+    }
+
+    /**
+     * Replaces the item with the same id as the specified item. If there's no such item, the item is added. Keeps the paging
+     * and selection.
+     */
+    public void update(T item) {
+        String id = getId(item);
+        T old = allItems.put(id, item);
+        if (old == null) {
+            positions.put(id, nextPosition++);
+        } else {
+            removeCached(old);
+            if (selectionInfo.isSelected(old)) {
+                selectionInfo.add(id, item);
+            }
+        }
+        insertCached(item);
+        applyFilterSortAndPaging();
+        showItems();
+        updateSelection();
+    }
+
+    /** Removes the item with the same id as the specified item. Keeps the paging and selection of the remaining items. */
+    public void remove(T item) {
+        String id = getId(item);
+        T old = allItems.remove(id);
+        if (old != null) {
+            removeCached(old);
+            positions.remove(id);
+            selectionInfo.remove(id);
+            applyFilterSortAndPaging();
+            showItems();
+            updateSelection();
+        }
+    }
+
     public boolean contains(T item) {
         return allItems.containsKey(identifier.apply(item));
     }
@@ -103,7 +150,7 @@ public class DataProvider<T> {
     }
 
     public Iterable<T> getFilteredItems() {
-        return filteredItems.values();
+        return Collections.unmodifiableList(sorted());
     }
 
     public Iterable<T> getVisibleItems() {
@@ -112,45 +159,120 @@ public class DataProvider<T> {
 
     private void reset() {
         allItems.clear();
+        positions.clear();
+        nextPosition = 0;
+        invalidateFilter();
         pageInfo.reset();
         selectionInfo.reset();
     }
 
-    private void applyFilterSortAndPaging() {
-        Stream<T> stream = allItems.values().stream();
-        if (!filterValues.isEmpty()) {
-            Predicate<T> predicate = null;
-            for (FilterValue<T> filterValue : filterValues.values()) {
-                if (predicate == null) {
-                    predicate = i -> filterValue.getFilter().test(i, filterValue.getValue());
-                } else {
-                    predicate = predicate.and(i -> filterValue.getFilter().test(i, filterValue.getValue()));
+    // ------------------------------------------------------ pipeline
+
+    private void invalidateFilter() {
+        filteredItems = null;
+        sortedItems = null;
+    }
+
+    private void invalidateSort() {
+        sortedItems = null;
+    }
+
+    private List<T> filtered() {
+        if (filteredItems == null) {
+            filteredItems = new ArrayList<>();
+            for (T item : allItems.values()) {
+                if (matches(item)) {
+                    filteredItems.add(item);
                 }
             }
-            stream = stream.filter(predicate);
         }
-        if (comparator != null) {
-            stream = stream.sorted(comparator);
+        return filteredItems;
+    }
+
+    private List<T> sorted() {
+        if (sortedItems == null) {
+            if (comparator == null) {
+                sortedItems = filtered();
+            } else {
+                sortedItems = new ArrayList<>(filtered());
+                sortedItems.sort(comparator); // stable, equal items keep the insertion order
+            }
         }
-        List<T> values = stream.collect(toList());
-        if (values.size() > pageInfo.getPageSize()) {
-            filteredItems = values.stream().collect(toLinkedMap(identifier, identity()));
-            values = paged(values);
-            visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
-        } else {
-            filteredItems = visibleItems = values.stream().collect(toLinkedMap(identifier, identity()));
+        return sortedItems;
+    }
+
+    /** Only the paging is computed from scratch, filter and sort use the cached lists if they're still valid. */
+    private void applyFilterSortAndPaging() {
+        List<T> values = sorted();
+        pageInfo.setTotal(values.size()); // total first!
+        int pageSize = pageInfo.getPageSize();
+        int from = min(pageInfo.getPage(), pageInfo.getPages() - 1) * pageSize;
+        int to = min(values.size(), from + pageSize);
+        visibleItems = new LinkedHashMap<>();
+        for (T item : values.subList(from, to)) {
+            visibleItems.put(getId(item), item);
         }
-        pageInfo.setTotal(filteredItems.size()); // total first!
         pageInfo.setVisible(visibleItems.size());
     }
 
-    private Collector<T, ?, Map<String, T>> toLinkedMap(Function<? super T, ? extends String> keyMapper,
-            Function<? super T, ? extends T> valueMapper) {
-        return toMap(keyMapper, valueMapper,
-                (u, v) -> {
-                    throw new IllegalStateException("Duplicate key " + u); // NON-NLS
-                },
-                LinkedHashMap::new);
+    private boolean matches(T item) {
+        for (FilterValue<T> filterValue : filterValues.values()) {
+            if (!filterValue.getFilter().test(item, filterValue.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void insertCached(T item) {
+        if (filteredItems != null && matches(item)) {
+            filteredItems.add(insertionPoint(filteredItems, item, byPosition()), item);
+            if (sortedItems != null && sortedItems != filteredItems) {
+                sortedItems.add(insertionPoint(sortedItems, item, stableComparator()), item);
+            }
+        }
+    }
+
+    private void removeCached(T item) {
+        if (filteredItems != null) {
+            removeFrom(filteredItems, item, byPosition());
+            if (sortedItems != null && sortedItems != filteredItems) {
+                removeFrom(sortedItems, item, stableComparator());
+            }
+        }
+    }
+
+    private void removeFrom(List<T> list, T item, Comparator<T> order) {
+        int index = Collections.binarySearch(list, item, order);
+        if (index >= 0 && list.get(index) == item) {
+            list.remove(index);
+        } else {
+            // the item might have been modified in place, so that the binary search doesn't find it
+            list.remove(item);
+        }
+    }
+
+    private int insertionPoint(List<T> list, T item, Comparator<T> order) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (order.compare(list.get(mid), item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private Comparator<T> byPosition() {
+        return Comparator.comparing(item -> positions.get(getId(item)));
+    }
+
+    /** The comparator plus the insertion order as tie-breaker, which gives the same order as a stable sort. */
+    private Comparator<T> stableComparator() {
+        return comparator.thenComparing(byPosition());
     }
 
     // ------------------------------------------------------ selection
@@ -162,7 +284,7 @@ public class DataProvider<T> {
     /** Selects all items if {@ocde multiSelect == true}. Does not fire selection events */
     public void selectAll() {
         if (selectionInfo.isMultiSelect()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, true));
+            sorted().forEach(item -> selectInternal(getId(item), item, true));
             updateSelection();
         }
     }
@@ -178,7 +300,7 @@ public class DataProvider<T> {
     /** Clears the selection for all items */
     public void clearAllSelection() {
         if (selectionInfo.hasSelection()) {
-            filteredItems.forEach((id, item) -> selectInternal(id, item, false));
+            sorted().forEach(item -> selectInternal(getId(item), item, false));
             updateSelection();
         }
     }
@@ -222,6 +344,7 @@ public class DataProvider<T> {
 
     public void addFilter(String name, FilterValue<T> filter) {
         filterValues.put(name, filter);
+        invalidateFilter();
         applyFilterSortAndPaging();
         showItems();
         updateSelection();
@@ -230,6 +353,7 @@ public class DataProvider<T> {
     public void removeFilter(String name) {
         if (filterValues.containsKey(name)) {
             filterValues.remove(name);
+            invalidateFilter();
             applyFilterSortAndPaging();
             showItems();
             updateSelection();
@@ -239,6 +363,7 @@ public class DataProvider<T> {
     public void clearFilters() {
         if (!filterValues.isEmpty()) {
             filterValues.clear();
+            invalidateFilter();
             applyFilterSortAndPaging();
             showItems();
             updateSelection();
@@ -258,6 +383,7 @@ public class DataProvider<T> {
 
     public void setComparator(Comparator<T> comparator) {
         this.comparator = comparator;
+        invalidateSort();
         applyFilterSortAndPaging();
         showItems();
         updateSelection();
@@ -309,11 +435,6 @@ public class DataProvider<T> {
         return pageInfo;
     }
 
-    private List<T> paged(List<T> values) {
-        List<List<T>> pages = Lists.partition(values, pageInfo.getPageSize());
-        return pages.get(min(pageInfo.getPage(), pages.size() - 1));
-    }
-
     // ------------------------------------------------------ displays
 
     public void addDisplay(Display<T> display) {
@@ -29,6 +29,10 @@ public class Session {
 
     public native int getLength();
 
+    public native Document getDocument();
+
+    public native UndoManager getUndoManager();
+
     public native void on(String event, OnChange onChange);
 
     @JsFunction
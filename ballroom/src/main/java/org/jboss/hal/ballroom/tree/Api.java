@@ -41,6 +41,9 @@ class Api<T> {
     @JsMethod
     native void open_node(String id, JsCallback callback);
 
+    @JsMethod
+    native void load_node(String id, JsCallback callback);
+
     @JsMethod
     native void open_all();
 
@@ -142,6 +142,11 @@ public class Tree<T> implements IsElement, Attachable {
         api().open_node(id, callback);
     }
 
+    /** (Re)loads the children of the specified node using the data function and calls the callback when finished. */
+    public void loadNode(String id, JsCallback callback) {
+        api().load_node(id, callback);
+    }
+
     public void refreshNode(String id) {
         api().refresh_node(id);
     }
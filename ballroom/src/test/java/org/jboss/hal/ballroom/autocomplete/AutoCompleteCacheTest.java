@@ -0,0 +1,145 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class AutoCompleteCacheTest {
+
+    private static final String KEY = "/socket-binding-group=standard-sockets:read-children-names(child-type=socket-binding)";
+    private static final ResourceAddress PATTERN = ResourceAddress.from(
+            "/socket-binding-group=standard-sockets/socket-binding=*");
+
+    private List<Consumer<String>> pending;
+    private List<String> results;
+    private int loads;
+
+    @Before
+    public void setUp() {
+        AutoCompleteCache.clear();
+        pending = new ArrayList<>();
+        results = new ArrayList<>();
+        loads = 0;
+    }
+
+    @Test
+    public void cached() {
+        get(KEY);
+        pending.get(0).accept("http");
+        get(KEY);
+        get(KEY);
+
+        assertEquals(1, loads);
+        assertEquals(3, results.size());
+    }
+
+    @Test
+    public void coalesced() {
+        get(KEY);
+        get(KEY);
+        assertEquals(1, loads);
+        assertTrue(results.isEmpty());
+
+        pending.get(0).accept("http");
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void error() {
+        List<Runnable> errors = new ArrayList<>();
+        int[] failures = new int[1];
+        AutoCompleteCache.<String> get(KEY, singletonList(PATTERN), (success, error) -> {
+            loads++;
+            errors.add(error);
+        }, results::add, () -> failures[0]++);
+        errors.get(0).run();
+        assertEquals(1, failures[0]);
+        assertEquals(0, AutoCompleteCache.size());
+
+        get(KEY);
+        assertEquals(2, loads);
+    }
+
+    @Test
+    public void invalidateChild() {
+        get(KEY);
+        pending.get(0).accept("http");
+
+        AutoCompleteCache.invalidate(ResourceAddress.from("/socket-binding-group=standard-sockets/socket-binding=foo"));
+        get(KEY);
+        assertEquals(2, loads);
+    }
+
+    @Test
+    public void invalidateParent() {
+        get(KEY);
+        pending.get(0).accept("http");
+
+        AutoCompleteCache.invalidate(ResourceAddress.from("/socket-binding-group=standard-sockets"));
+        assertEquals(0, AutoCompleteCache.size());
+    }
+
+    @Test
+    public void keepUnrelated() {
+        get(KEY);
+        pending.get(0).accept("http");
+
+        AutoCompleteCache.invalidate(ResourceAddress.from("/socket-binding-group=other-sockets/socket-binding=foo"));
+        AutoCompleteCache.invalidate(ResourceAddress.from("/subsystem=datasources/data-source=ExampleDS"));
+        AutoCompleteCache.invalidate(
+                ResourceAddress.from("/socket-binding-group=standard-sockets/socket-binding=foo/client-mapping=bar"));
+        assertEquals(1, AutoCompleteCache.size());
+    }
+
+    @Test
+    public void invalidateWithoutAddresses() {
+        AutoCompleteCache.<String> get("suggest-capabilities", emptyList(), (success, error) -> success.accept("foo"),
+                results::add, () -> {
+                });
+        AutoCompleteCache.invalidate(ResourceAddress.from("/subsystem=datasources/data-source=ExampleDS"));
+        assertEquals(0, AutoCompleteCache.size());
+    }
+
+    @Test
+    public void affects() {
+        assertTrue(AutoCompleteCache.affects(ResourceAddress.from("/a=b/c=d"), ResourceAddress.from("/a=*/c=*")));
+        assertTrue(AutoCompleteCache.affects(ResourceAddress.from("/a=b"), ResourceAddress.from("/a=b/c=*")));
+        assertFalse(AutoCompleteCache.affects(ResourceAddress.from("/a=x"), ResourceAddress.from("/a=b/c=*")));
+        assertFalse(AutoCompleteCache.affects(ResourceAddress.from("/a=b/e=f"), ResourceAddress.from("/a=b/c=*")));
+    }
+
+    private void get(String key) {
+        AutoCompleteCache.<String> get(key, singletonList(PATTERN), (success, error) -> {
+            loads++;
+            pending.add(success);
+        }, results::add, () -> {
+        });
+    }
+}
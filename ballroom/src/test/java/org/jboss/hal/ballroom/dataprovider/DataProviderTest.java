@@ -136,6 +136,82 @@ public class DataProviderTest {
         assertFalse(single.isVisible(23));
     }
 
+    @Test
+    public void addItem() throws Exception {
+        single.update(asList(items(5)));
+        single.setComparator(Comparator.<Integer> naturalOrder().reversed());
+
+        reset(display);
+        single.add(7);
+        assertVisibleFilteredAll(single, new int[] { 7, 4, 3, 2, 1, 0 }, new int[] { 7, 4, 3, 2, 1, 0 },
+                new int[] { 0, 1, 2, 3, 4, 7 });
+        verify(display).showItems(itemsMatcher(new int[] { 7, 4, 3, 2, 1, 0 }), eq(new PageInfo(PAGE_SIZE, 0, 6, 6)));
+
+        single.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        single.add(5);
+        single.add(6);
+        assertVisibleFilteredAll(single, new int[] { 6, 4, 2, 0 }, new int[] { 6, 4, 2, 0 },
+                new int[] { 0, 1, 2, 3, 4, 7, 5, 6 });
+    }
+
+    @Test
+    public void removeItem() throws Exception {
+        int[] items = items(23);
+        single.update(asList(items));
+        single.gotoPage(2);
+        single.select(21, true);
+
+        reset(display);
+        single.remove(21);
+        assertFalse(single.contains(21));
+        assertVisibleFilteredAll(single, new int[] { 20, 22 }, toArray(without(items, 21)), toArray(without(items, 21)));
+        verify(display).showItems(itemsMatcher(new int[] { 20, 22 }), eq(new PageInfo(PAGE_SIZE, 2, 2, 22)));
+        assertNoSelection(single);
+
+        reset(display);
+        single.remove(42);
+        verify(display, never()).showItems(any(), any());
+    }
+
+    @Test
+    public void updateItem() throws Exception {
+        multi.update(asList(items(PAGE_SIZE)));
+        multi.select(3, true);
+
+        reset(display);
+        multi.update(3);
+        assertVisibleFilteredAll(multi, items(PAGE_SIZE), items(PAGE_SIZE), items(PAGE_SIZE));
+        assertSelection(multi, new int[] { 3 });
+
+        multi.update(12);
+        assertTrue(multi.contains(12));
+        assertFalse(multi.isVisible(12));
+    }
+
+    @Test
+    public void incrementalMatchesFullUpdate() throws Exception {
+        Comparator<Integer> byRemainder = Comparator.comparing(i -> i % 3);
+        DataProvider<Integer> incremental = new DataProvider<>(IDENTIFIER, false, PAGE_SIZE);
+        incremental.update(asList(items(30)));
+        incremental.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        incremental.setComparator(byRemainder);
+        for (int i = 30; i < 40; i++) {
+            incremental.add(i);
+        }
+        incremental.remove(4);
+        incremental.remove(33);
+        incremental.update(10);
+
+        DataProvider<Integer> full = new DataProvider<>(IDENTIFIER, false, PAGE_SIZE);
+        full.update(Lists.newArrayList(incremental.getAllItems()));
+        full.addFilter("even", new FilterValue<>(DIVISIBLE, "2"));
+        full.setComparator(byRemainder);
+
+        assertArrayEquals(toArray(full.getAllItems()), toArray(incremental.getAllItems()));
+        assertArrayEquals(toArray(full.getFilteredItems()), toArray(incremental.getFilteredItems()));
+        assertArrayEquals(toArray(full.getVisibleItems()), toArray(incremental.getVisibleItems()));
+    }
+
     // ------------------------------------------------------ page size
 
     @Test
@@ -479,6 +555,12 @@ public class DataProviderTest {
         return items;
     }
 
+    private List<Integer> without(int[] items, int item) {
+        List<Integer> list = Lists.newArrayList(asList(items));
+        list.remove(Integer.valueOf(item));
+        return list;
+    }
+
     private Map<String, Integer> selection(int[] items) {
         Map<String, Integer> selection = new HashMap<>();
         for (int item : items) {
@@ -38,6 +38,8 @@ public class Settings {
     // keep in sync with the poll-time attribute of settings.dmr
     public static final int DEFAULT_POLL_TIME = 10;
     public static final int[] PAGE_SIZE_VALUES = new int[] { 10, 20, 50 };
+    // megabytes per metadata registry, keep in sync with the metadata-cache-size attribute of settings.dmr
+    public static final int DEFAULT_METADATA_CACHE_SIZE = 10;
     private static final int EXPIRES = 365; // days
 
     private final Map<Key, Value> values;
@@ -85,8 +87,8 @@ public class Settings {
     @SuppressWarnings("DuplicateStringLiteralInspection")
     public enum Key {
         TITLE("title", true), COLLECT_USER_DATA("collect-user-data", true), LOCALE("locale", true), PAGE_SIZE("page-size",
-                true), POLL("poll", true), POLL_TIME("poll-time", true), RUN_AS("run-as", false); // can contain multiple roles
-                                                                                                  // separated by ","
+                true), POLL("poll", true), POLL_TIME("poll-time", true), METADATA_CACHE_SIZE("metadata-cache-size",
+                        true), RUN_AS("run-as", false); // can contain multiple roles separated by ","
 
         public static Key from(String key) {
             switch (key) {
@@ -102,6 +104,8 @@ public class Settings {
                     return POLL;
                 case "poll-time":
                     return POLL_TIME;
+                case "metadata-cache-size":
+                    return METADATA_CACHE_SIZE;
                 case "run-as":
                     return RUN_AS;
                 default:
@@ -24,6 +24,7 @@ import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Provider;
 
+import org.jboss.hal.ballroom.autocomplete.AutoCompleteCache;
 import org.jboss.hal.ballroom.dialog.DialogFactory;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
@@ -221,6 +222,7 @@ public class CrudOperations {
             builder.payload(payload);
         }
         dispatcher.execute(builder.build(), result -> {
+            AutoCompleteCache.invalidate(address);
             MessageEvent.fire(eventBus, Message.success(successMessage));
             callback.execute(name, address);
         }, (__, error) -> MessageEvent.fire(eventBus,
@@ -366,6 +368,7 @@ public class CrudOperations {
      */
     public void addSingleton(String type, Operation operation, AddSingletonCallback callback) {
         dispatcher.execute(operation, result -> {
+            AutoCompleteCache.invalidate(operation.getAddress());
             MessageEvent.fire(eventBus, Message.success(resources.messages().addSingleResourceSuccess(type)));
             callback.execute(operation.getAddress());
         }, (__, error) -> MessageEvent.fire(eventBus,
@@ -1349,6 +1352,7 @@ public class CrudOperations {
         DialogFactory.showConfirmation(title, question, () -> {
             Operation operation = new Operation.Builder(address, REMOVE).build();
             dispatcher.execute(operation, result -> {
+                AutoCompleteCache.invalidate(address);
                 MessageEvent.fire(eventBus, Message.success(success));
                 callback.execute();
             });
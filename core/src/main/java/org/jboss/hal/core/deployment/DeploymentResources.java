@@ -16,7 +16,9 @@
 package org.jboss.hal.core.deployment;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import javax.inject.Inject;
@@ -37,28 +39,44 @@ import elemental2.promise.Promise;
 import static java.util.Collections.emptyList;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUBSYSTEM;
 
-/** Provides methods to read subsystem resources from (sub)deployments. */
+/**
+ * Provides methods to read subsystem resources from (sub)deployments.
+ * <p>
+ * The {@code readChildren()} methods read the full runtime subtree of all resources at once. On servers with lots of
+ * deployments this can be a huge payload. Columns which only need the names of the resources to render their items should
+ * use {@link #readChildNames(String, String, DeploymentResourceSupplier)} and read the runtime subtree of a single resource
+ * on demand using {@link #readDetails(DeploymentResource, DeploymentResourceSupplier)}.
+ */
 public class DeploymentResources {
 
     public static final String DEPLOYMENT_ADDRESS = "{selected.host}/{selected.server}/deployment=*";
     public static final String SUBDEPLOYMENT_ADDRESS = "{selected.host}/{selected.server}/deployment=*/subdeployment=*";
     private static final AddressTemplate DEPLOYMENT_TEMPLATE = AddressTemplate.of(DEPLOYMENT_ADDRESS);
     private static final AddressTemplate SUBDEPLOYMENT_TEMPLATE = AddressTemplate.of(SUBDEPLOYMENT_ADDRESS);
+    private static final int DETAILS_CACHE_SIZE = 20;
     private static final Logger logger = LoggerFactory.getLogger(DeploymentResources.class);
 
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
+    private final Map<String, ModelNode> details;
 
     @Inject
     public DeploymentResources(Dispatcher dispatcher, StatementContext statementContext) {
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.details = new LinkedHashMap<String, ModelNode>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, ModelNode> eldest) {
+                return size() > DETAILS_CACHE_SIZE;
+            }
+        };
     }
 
     public <T extends DeploymentResource> void readChildren(String subsystem, String resource,
@@ -142,4 +160,69 @@ public class DeploymentResources {
                     return Promise.resolve(emptyList());
                 });
     }
+
+    /**
+     * Reads only the addresses of the resources. The model nodes passed to the supplier are empty: Use this method if the
+     * name, deployment and subdeployment are enough to render the items and read the runtime subtree of single resources
+     * using {@link #readDetails(DeploymentResource, DeploymentResourceSupplier)}.
+     * <p>
+     * Removes the cached details of the resources which have been read.
+     */
+    public <T extends DeploymentResource> Promise<List<T>> readChildNames(String subsystem, String resource,
+            DeploymentResourceSupplier<T> supplier) {
+        ResourceAddress deploymentAddress = DEPLOYMENT_TEMPLATE
+                .append(SUBSYSTEM + "=" + subsystem)
+                .append(resource + "=*")
+                .resolve(statementContext);
+        Operation deploymentOperation = new Operation.Builder(deploymentAddress, READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .build();
+
+        ResourceAddress subdeploymentAddress = SUBDEPLOYMENT_TEMPLATE
+                .append(SUBSYSTEM + "=" + subsystem)
+                .append(resource + "=*")
+                .resolve(statementContext);
+        Operation subdeploymentOperation = new Operation.Builder(subdeploymentAddress, READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .build();
+
+        return dispatcher.execute(new Composite(deploymentOperation, subdeploymentOperation))
+                .then(result -> {
+                    List<T> nodes = new ArrayList<>();
+                    Consumer<ModelNode> nodeConsumer = node -> {
+                        ResourceAddress address = new ResourceAddress(node.get(ADDRESS));
+                        details.remove(address.toString());
+                        nodes.add(supplier.get(address, new ModelNode()));
+                    };
+                    result.step(0).get(RESULT).asList().forEach(nodeConsumer);
+                    result.step(1).get(RESULT).asList().forEach(nodeConsumer);
+                    return Promise.resolve(nodes);
+                })
+                .catch_(error -> {
+                    logger.error("Unable to read {}/{} deployment resource names: {}", subsystem, resource, error);
+                    return Promise.resolve(emptyList());
+                });
+    }
+
+    /**
+     * Reads the runtime subtree of a resource returned by {@link #readChildNames(String, String, DeploymentResourceSupplier)}.
+     * The subtrees of the most recently read resources are cached until the names are read again.
+     */
+    public <T extends DeploymentResource> Promise<T> readDetails(T resource, DeploymentResourceSupplier<T> supplier) {
+        ResourceAddress address = resource.getAddress();
+        String key = address.toString();
+        ModelNode cached = details.get(key);
+        if (cached != null) {
+            return Promise.resolve(supplier.get(address, cached));
+        }
+
+        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .param(RECURSIVE, true)
+                .build();
+        return dispatcher.execute(operation).then(result -> {
+            details.put(key, result);
+            return Promise.resolve(supplier.get(address, result));
+        });
+    }
 }
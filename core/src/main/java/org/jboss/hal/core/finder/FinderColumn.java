@@ -76,6 +76,7 @@ import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
 import static org.jboss.elemento.EventType.keydown;
 import static org.jboss.elemento.EventType.keyup;
+import static org.jboss.elemento.EventType.scroll;
 import static org.jboss.elemento.InputType.text;
 import static org.jboss.elemento.Key.ArrowUp;
 import static org.jboss.elemento.Key.Escape;
@@ -133,6 +134,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private final String title;
     private final boolean showCount;
     private final boolean pinnable;
+    private final int virtualScrollThreshold;
     private final HTMLDivElement root;
     private final HTMLElement columnActions;
     private final HTMLElement hiddenColumns;
@@ -155,6 +157,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private PreviewCallback<T> previewCallback;
     private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
     private final BreadcrumbItemHandler<T> breadcrumbItemHandler;
+    private VirtualRows<T> virtualRows;
 
     // ------------------------------------------------------ ui
 
@@ -164,6 +167,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         this.title = builder.title;
         this.showCount = builder.showCount;
         this.pinnable = builder.pinnable;
+        this.virtualScrollThreshold = builder.virtualScrollThreshold;
         this.initialItems = builder.items;
         this.currentItems = builder.items;
         this.itemsProvider = builder.itemsProvider;
@@ -315,10 +319,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     private void updateHeader(int matched) {
         if (showCount) {
             String titleWithSize;
-            if (matched == rows.size()) {
-                titleWithSize = title + " (" + rows.size() + ")";
+            int size = virtualRows != null ? virtualRows.size() : rows.size();
+            if (matched == size) {
+                titleWithSize = title + " (" + size + ")";
             } else {
-                titleWithSize = title + " (" + matched + " / " + rows.size() + ")";
+                titleWithSize = title + " (" + matched + " / " + size + ")";
             }
             headerElement.textContent = titleWithSize;
             headerElement.title = titleWithSize;
@@ -333,6 +338,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             handlers.add(bind(filterElement, keydown, this::onNavigation));
             handlers.add(bind(filterElement, keyup, this::onFilter));
         }
+        if (virtualScrollThreshold >= 0) {
+            handlers.add(bind(ulElement, scroll, event -> {
+                if (virtualRows != null) {
+                    virtualRows.onScroll();
+                }
+            }));
+        }
     }
 
     @Override
@@ -357,26 +369,31 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
         int matched = 0;
         String filter = filterElement.value;
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
+        if (virtualRows != null) {
+            matched = virtualRows.filter(filter);
+            updateHeader(matched);
+        } else {
+            for (HTMLElement li : Elements.children(ulElement)) {
+                if (li == noItems) {
+                    continue;
+                }
+                Object filterData = li.dataset.get(DATA_FILTER);
+                boolean match = filter == null
+                        || filter.trim().length() == 0
+                        || filterData == null
+                        || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
+                Elements.setVisible(li, match);
+                if (match) {
+                    matched++;
+                }
             }
-            Object filterData = li.dataset.get(DATA_FILTER);
-            boolean match = filter == null
-                    || filter.trim().length() == 0
-                    || filterData == null
-                    || String.valueOf(filterData).toLowerCase().contains(filter.toLowerCase());
-            Elements.setVisible(li, match);
-            if (match) {
-                matched++;
+            updateHeader(matched);
+            if (matched == 0) {
+                Elements.lazyAppend(ulElement, noItems);
+            } else {
+                Elements.failSafeRemove(ulElement, noItems);
             }
         }
-        updateHeader(matched);
-        if (matched == 0) {
-            Elements.lazyAppend(ulElement, noItems);
-        } else {
-            Elements.failSafeRemove(ulElement, noItems);
-        }
         // when user deletes remaining chars, hide the 'clear' icon
         if (filter != null && filter.trim().length() == 0) {
             Elements.setVisible(clearFilterElement, false);
@@ -385,13 +402,17 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
     private void clearFilter() {
         filterElement.value = "";
-        for (HTMLElement li : Elements.children(ulElement)) {
-            if (li == noItems) {
-                continue;
+        if (virtualRows != null) {
+            virtualRows.filter(null);
+        } else {
+            for (HTMLElement li : Elements.children(ulElement)) {
+                if (li == noItems) {
+                    continue;
+                }
+                Elements.setVisible(li, true);
             }
-            Elements.setVisible(li, true);
+            Elements.failSafeRemove(ulElement, noItems);
         }
-        Elements.failSafeRemove(ulElement, noItems);
         Elements.setVisible(clearFilterElement, false);
     }
 
@@ -402,19 +423,13 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
 
                 case ArrowUp:
                 case ArrowDown: {
-                    HTMLElement activeElement = activeElement();
-                    if (!Elements.isVisible(activeElement)) {
-                        activeElement = null;
-                    }
-                    HTMLElement select = key == ArrowUp
-                            ? previousVisibleElement(activeElement)
-                            : nextVisibleElement(activeElement);
-                    if (select != null && select != noItems) {
+                    FinderRow<T> select = siblingRow(key == ArrowUp ? -1 : 1);
+                    if (select != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        select.scrollIntoView(false);
-                        row(select).click();
+                        select.element().scrollIntoView(false);
+                        select.click();
                     }
                     break;
                 }
@@ -432,6 +447,8 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                             finder.selectColumn(previousColumn.getId());
                             FinderRow<?> selectedRow = previousColumn.selectedRow();
                             if (selectedRow != null) {
+                                // the selected row might have been scrolled out of the window of a virtualized column
+                                selectedRow = previousColumn.row(selectedRow.getId());
                                 selectedRow.updatePreview();
                                 selectedRow.element().scrollIntoView(false);
                             }
@@ -443,19 +460,21 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case ArrowRight: {
-                    HTMLElement activeElement = activeElement();
-                    String nextColumn = row(activeElement).getNextColumn();
-                    if (Elements.isVisible(activeElement) && nextColumn != null) {
+                    FinderRow<T> activeRow = selectedRow();
+                    String nextColumn = activeRow != null ? activeRow.getNextColumn() : null;
+                    if (isVisible(activeRow) && nextColumn != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
                         finder.reduceTo(this);
                         finder.appendColumn(nextColumn)
                                 .then(column -> {
-                                    if (column.activeElement() == null && column.hasVisibleElements()) {
-                                        HTMLElement firstElement = column.nextVisibleElement(null);
-                                        column.markSelected(firstElement.id);
-                                        column.row(firstElement).updatePreview();
+                                    if (column.selectedRow() == null && column.hasVisibleElements()) {
+                                        FinderRow<?> firstRow = column.siblingRow(1);
+                                        if (firstRow != null) {
+                                            column.markSelected(firstRow.getId());
+                                            firstRow.updatePreview();
+                                        }
                                     }
                                     finder.updateContext();
                                     finder.updateHistory();
@@ -472,14 +491,14 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 }
 
                 case Enter: {
-                    HTMLElement activeItem = activeElement();
-                    T item = row(activeItem).getItem();
-                    ItemActionHandler<T> primaryAction = row(activeItem).getPrimaryAction();
-                    if (Elements.isVisible(activeItem) && item != null && primaryAction != null) {
+                    FinderRow<T> activeRow = selectedRow();
+                    T item = activeRow != null ? activeRow.getItem() : null;
+                    ItemActionHandler<T> primaryAction = activeRow != null ? activeRow.getPrimaryAction() : null;
+                    if (isVisible(activeRow) && item != null && primaryAction != null) {
                         event.preventDefault();
                         event.stopPropagation();
 
-                        row(activeItem).click();
+                        activeRow.click();
                         primaryAction.execute(item);
                     }
                     break;
@@ -506,6 +525,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     private boolean hasVisibleElements() {
+        if (virtualRows != null) {
+            return virtualRows.hasMatches();
+        }
         for (HTMLElement element : Elements.children(ulElement)) {
             if (Elements.isVisible(element) && element != noItems) {
                 return true;
@@ -530,7 +552,34 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         return element;
     }
 
+    /**
+     * Returns the visible row next to the selected row. If no visible row is selected, returns the first row for
+     * {@code delta > 0} and the last row for {@code delta < 0}.
+     */
+    private FinderRow<T> siblingRow(int delta) {
+        if (virtualRows != null) {
+            return virtualRows.sibling(delta);
+        }
+        HTMLElement activeElement = activeElement();
+        if (!Elements.isVisible(activeElement)) {
+            activeElement = null;
+        }
+        HTMLElement select = delta < 0 ? previousVisibleElement(activeElement) : nextVisibleElement(activeElement);
+        return select != null && select != noItems ? row(select) : null;
+    }
+
+    private boolean isVisible(FinderRow<T> row) {
+        if (row == null) {
+            return false;
+        }
+        return virtualRows != null ? virtualRows.isMatching(row.getId()) : Elements.isVisible(row.element());
+    }
+
+    /** Returns the row for the specified item. If the column is virtualized, the row is scrolled into the window. */
     FinderRow<T> row(String itemId) {
+        if (virtualRows != null) {
+            return virtualRows.reveal(itemId);
+        }
         return rows.get(itemId);
     }
 
@@ -542,6 +591,9 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     FinderRow<T> selectedRow() {
+        if (virtualRows != null) {
+            return virtualRows.selectedRow();
+        }
         HTMLElement activeItem = (HTMLElement) ulElement.querySelector("li." + active); // NON-NLS
         if (activeItem != null && rows.containsKey(activeItem.id)) {
             return rows.get(activeItem.id);
@@ -550,10 +602,20 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     boolean contains(String itemId) {
+        if (virtualRows != null) {
+            return virtualRows.contains(itemId);
+        }
         return rows.containsKey(itemId);
     }
 
     void markSelected(String itemId) {
+        if (virtualRows != null) {
+            T item = virtualRows.markSelected(itemId);
+            if (item != null && selectionHandler != null) {
+                selectionHandler.onSelect(item);
+            }
+            return;
+        }
         for (Map.Entry<String, FinderRow<T>> entry : rows.entrySet()) {
             boolean select = itemId.equals(entry.getKey());
             entry.getValue().markSelected(select);
@@ -564,6 +626,10 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void resetSelection() {
+        if (virtualRows != null) {
+            virtualRows.resetSelection();
+            return;
+        }
         HTMLElement element = activeElement();
         if (element != null) {
             element.classList.remove(active);
@@ -575,6 +641,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void unpin(FinderRow<T> row) {
+        if (virtualRows != null) {
+            virtualRows.pin(row, false);
+            storage.unpinItem(row.getId());
+            return;
+        }
         row.element().classList.remove(pinned);
         row.element().classList.add(unpinned);
 
@@ -597,6 +668,11 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
     }
 
     void pin(FinderRow<T> row) {
+        if (virtualRows != null) {
+            virtualRows.pin(row, true);
+            storage.pinItem(row.getId());
+            return;
+        }
         row.element().classList.remove(unpinned);
         row.element().classList.add(pinned);
 
@@ -674,6 +750,14 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             filterElement.value = "";
         }
 
+        if (virtualScrollThreshold >= 0 && items.size() > virtualScrollThreshold) {
+            virtualRows = new VirtualRows<>(this, ulElement, noItems);
+            virtualRows.setItems(items, pinnable ? storage.pinnedItems() : Collections.emptySet());
+            updateHeader(items.size());
+            return;
+        }
+        virtualRows = null;
+
         List<T> pinnedItems = new ArrayList<>();
         List<T> unpinnedItems = new ArrayList<>();
         Set<String> pinnedItemIds = storage.pinnedItems();
@@ -691,8 +775,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         }
         for (Iterator<T> iterator = pinnedItems.iterator(); iterator.hasNext();) {
             T item = iterator.next();
-            FinderRow<T> row = new FinderRow<>(finder, this, item, true,
-                    itemRenderer.render(item), previewCallback);
+            FinderRow<T> row = newRow(item, true, itemRenderer.render(item));
             rows.put(row.getId(), row);
             ulElement.appendChild(row.element());
             if (!iterator.hasNext()) {
@@ -700,19 +783,26 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             }
         }
         for (T item : unpinnedItems) {
-            FinderRow<T> row = new FinderRow<>(finder, this, item, false,
-                    itemRenderer.render(item), previewCallback);
+            FinderRow<T> row = newRow(item, false, itemRenderer.render(item));
             rows.put(row.getId(), row);
             ulElement.appendChild(row.element());
         }
         updateHeader(items.size());
-        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+        initTooltips();
 
         if (items.isEmpty()) {
             ulElement.appendChild(noItems);
         }
     }
 
+    FinderRow<T> newRow(T item, boolean pinned, ItemDisplay<T> display) {
+        return new FinderRow<>(finder, this, item, pinned, display, previewCallback);
+    }
+
+    void initTooltips() {
+        Tooltip.select(HASH + id + " [data-" + UIConstants.TOGGLE + "=" + UIConstants.TOOLTIP + "]").init(); // NON-NLS
+    }
+
     /**
      * Sometimes you need to reference {@code this} in the column action handler. This is not possible if they're part of the
      * builder which is passed to {@code super()}. In this case you can use this method to add your column actions
@@ -879,7 +969,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
                 FinderRow<T> oldRow = selectedRow();
                 refresh(() -> {
                     if (oldRow != null) {
-                        FinderRow<T> updatedRow = rows.get(oldRow.getId());
+                        FinderRow<T> updatedRow = row(oldRow.getId());
                         if (updatedRow != null) {
                             updatedRow.click();
                             updatedRow.element().scrollIntoView(false);
@@ -901,7 +991,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
      */
     public void refresh(String selectItemId) {
         refresh(() -> {
-            FinderRow<T> row = rows.get(selectItemId);
+            FinderRow<T> row = row(selectItemId);
             if (row != null) {
                 row.click();
             } else {
@@ -920,6 +1010,46 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         });
     }
 
+    /**
+     * Replaces the item with the same {@linkplain ItemDisplay#getId() id} as the specified item and redraws its row. Unlike
+     * {@link #refresh(RefreshMode)} the items are not read again and the other rows are left untouched. If the row is
+     * selected, the preview is updated as well.
+     *
+     * @return {@code false} if there's no item with the same id in this column, {@code true} otherwise
+     */
+    public boolean updateItem(T item) {
+        ItemDisplay<T> display = itemRenderer.render(item);
+        String itemId = Strings.sanitize(display.getId());
+        T oldItem;
+        if (virtualRows != null) {
+            oldItem = virtualRows.update(item, display);
+            if (oldItem == null) {
+                return false;
+            }
+        } else {
+            FinderRow<T> oldRow = rows.get(itemId);
+            if (oldRow == null) {
+                return false;
+            }
+            oldItem = oldRow.getItem();
+            FinderRow<T> row = newRow(item, oldRow.element().classList.contains(pinned), display);
+            boolean selected = oldRow.element().classList.contains(active);
+            rows.put(itemId, row);
+            row.markSelected(selected);
+            if (oldRow.element().classList.contains(last)) {
+                row.element().classList.add(last);
+            }
+            Elements.setVisible(row.element(), Elements.isVisible(oldRow.element()));
+            ulElement.replaceChild(row.element(), oldRow.element());
+            initTooltips();
+            if (selected) {
+                row.updatePreview();
+            }
+        }
+        currentItems = currentItems.stream().map(current -> current == oldItem ? item : current).collect(toList());
+        return true;
+    }
+
     public String getId() {
         return id;
     }
@@ -994,6 +1124,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
         private BreadcrumbItemsProvider<T> breadcrumbItemsProvider;
         private ItemSelectionHandler<T> selectionHandler;
         private String filterDescription;
+        private int virtualScrollThreshold;
 
         public Builder(Finder finder, String id, String title) {
             this.finder = finder;
@@ -1006,6 +1137,7 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             this.pinnable = false;
             this.items = new ArrayList<>();
             this.filterDescription = CONSTANTS.filter();
+            this.virtualScrollThreshold = -1;
         }
 
         /**
@@ -1040,6 +1172,23 @@ public class FinderColumn<T> implements IsElement<HTMLDivElement>, Attachable {
             return this;
         }
 
+        /**
+         * Renders only the rows in and near the viewport if the column contains more than
+         * {@value VirtualRows#DEFAULT_THRESHOLD} items.
+         */
+        public Builder<T> virtualScroll() {
+            return virtualScroll(VirtualRows.DEFAULT_THRESHOLD);
+        }
+
+        /**
+         * Renders only the rows in and near the viewport if the column contains more than {@code threshold} items. Use this
+         * for columns which might contain thousands of items like deployments or servers in a big domain.
+         */
+        public Builder<T> virtualScroll(int threshold) {
+            this.virtualScrollThreshold = Math.max(0, threshold);
+            return this;
+        }
+
         public Builder<T> initialItems(List<T> items) {
             if (items != null && !items.isEmpty()) {
                 this.items.addAll(items);
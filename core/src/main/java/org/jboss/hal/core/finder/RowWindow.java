@@ -0,0 +1,86 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+/**
+ * The range of rows {@code [first, last)} which are materialized by {@link VirtualRows}. Only used internally in the finder.
+ */
+final class RowWindow {
+
+    /** Number of rows assumed to be visible if the viewport has no height (yet). */
+    static final int FALLBACK_VISIBLE_ROWS = 20;
+
+    static final RowWindow EMPTY = new RowWindow(0, 0);
+
+    /**
+     * Calculates the rows which are in or near the viewport.
+     *
+     * @param scrollTop the scroll offset of the list in pixels
+     * @param viewport  the height of the viewport in pixels
+     * @param rowHeight the (estimated) height of a single row in pixels
+     * @param count     the number of rows
+     * @param overscan  the number of extra rows to materialize above and below the viewport
+     */
+    static RowWindow of(int scrollTop, int viewport, int rowHeight, int count, int overscan) {
+        if (count <= 0) {
+            return EMPTY;
+        }
+        int height = Math.max(1, rowHeight);
+        int visible = viewport > 0 ? (viewport + height - 1) / height : FALLBACK_VISIBLE_ROWS;
+        int top = Math.max(0, scrollTop) / height;
+        int first = Math.max(0, Math.min(top, count - 1) - overscan);
+        int last = Math.min(count, top + visible + overscan);
+        return new RowWindow(first, Math.max(first, last));
+    }
+
+    final int first;
+    final int last;
+
+    private RowWindow(int first, int last) {
+        this.first = first;
+        this.last = last;
+    }
+
+    boolean contains(int index) {
+        return index >= first && index < last;
+    }
+
+    int size() {
+        return last - first;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RowWindow)) {
+            return false;
+        }
+        RowWindow that = (RowWindow) o;
+        return first == that.first && last == that.last;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * first + last;
+    }
+
+    @Override
+    public String toString() {
+        return "[" + first + ", " + last + ")";
+    }
+}
@@ -0,0 +1,408 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.elemento.Elements;
+import org.jboss.hal.resources.CSS;
+import org.jboss.hal.resources.Strings;
+
+import elemental2.dom.HTMLElement;
+
+import static elemental2.dom.DomGlobal.requestAnimationFrame;
+import static org.jboss.elemento.Elements.li;
+import static org.jboss.hal.resources.CSS.height;
+import static org.jboss.hal.resources.CSS.last;
+import static org.jboss.hal.resources.CSS.pinned;
+import static org.jboss.hal.resources.CSS.px;
+import static org.jboss.hal.resources.CSS.unpinned;
+
+/**
+ * Windowed rendering for finder columns with lots of items. Only the rows in and near the viewport are materialized as
+ * {@link FinderRow}s. The remaining items are represented by two spacer elements which keep the scroll height of the list.
+ * <p>
+ * Pinning, filtering and selection work on the item entries, so they don't depend on a row being materialized. The selected
+ * row is always kept, even if it's scrolled out of the window. Only used internally in the finder.
+ */
+class VirtualRows<T> {
+
+    /** Number of items above which a column with {@link FinderColumn.Builder#virtualScroll()} renders a window only. */
+    static final int DEFAULT_THRESHOLD = 500;
+
+    /** Matches the {@code min-height} of {@code .finder-column > ul > li}. Replaced by the measured height of the first row. */
+    private static final int DEFAULT_ROW_HEIGHT = 50;
+    private static final int OVERSCAN = 10;
+
+    private final FinderColumn<T> column;
+    private final HTMLElement ul;
+    private final HTMLElement noItems;
+    private final HTMLElement topSpacer;
+    private final HTMLElement bottomSpacer;
+    private final List<Entry<T>> entries;
+    private final Map<String, Entry<T>> index;
+    private final Map<String, FinderRow<T>> rows;
+    private final Set<String> rendered;
+    private List<Entry<T>> matching;
+    private RowWindow window;
+    private String filter;
+    private String selectedId;
+    private int rowHeight;
+    private boolean measured;
+    private boolean renderScheduled;
+
+    VirtualRows(FinderColumn<T> column, HTMLElement ul, HTMLElement noItems) {
+        this.column = column;
+        this.ul = ul;
+        this.noItems = noItems;
+        this.topSpacer = li().css(CSS.spacer).element();
+        this.bottomSpacer = li().css(CSS.spacer).element();
+        this.entries = new ArrayList<>();
+        this.index = new HashMap<>();
+        this.rows = new HashMap<>();
+        this.rendered = new HashSet<>();
+        this.matching = entries;
+        this.window = RowWindow.EMPTY;
+        this.rowHeight = DEFAULT_ROW_HEIGHT;
+    }
+
+    void setItems(List<T> items, Set<String> pinnedIds) {
+        List<Entry<T>> pinnedEntries = new ArrayList<>();
+        List<Entry<T>> unpinnedEntries = new ArrayList<>();
+        for (T item : items) {
+            ItemDisplay<T> display = column.getItemRenderer().render(item);
+            Entry<T> entry = new Entry<>(item, display, column.isPinnable() && pinnedIds.contains(display.getId()));
+            index.put(entry.id, entry);
+            if (entry.pinned) {
+                pinnedEntries.add(entry);
+            } else {
+                unpinnedEntries.add(entry);
+            }
+        }
+        entries.addAll(pinnedEntries);
+        entries.addAll(unpinnedEntries);
+        matching = entries;
+        ul.scrollTop = 0;
+        render(true);
+    }
+
+    // ------------------------------------------------------ rendering
+
+    void onScroll() {
+        if (!renderScheduled) {
+            renderScheduled = true;
+            requestAnimationFrame(timestamp -> {
+                renderScheduled = false;
+                render(false);
+            });
+        }
+    }
+
+    private void render(boolean force) {
+        RowWindow update = RowWindow.of((int) ul.scrollTop, ul.clientHeight, rowHeight, matching.size(), OVERSCAN);
+        if (!force && update.equals(window)) {
+            return;
+        }
+        window = update;
+
+        rendered.clear();
+        Elements.removeChildrenFrom(ul);
+        if (matching.isEmpty()) {
+            ul.appendChild(noItems);
+            evict();
+            return;
+        }
+
+        boolean created = false;
+        Entry<T> lastPinned = lastPinned();
+        ul.appendChild(topSpacer);
+        for (int i = window.first; i < window.last; i++) {
+            Entry<T> entry = matching.get(i);
+            created |= !rows.containsKey(entry.id);
+            FinderRow<T> row = materialize(entry);
+            rendered.add(entry.id);
+            if (column.isPinnable()) {
+                row.element().classList.remove(entry.pinned ? unpinned : pinned);
+                row.element().classList.add(entry.pinned ? pinned : unpinned);
+                if (entry == lastPinned) {
+                    row.element().classList.add(last);
+                } else {
+                    row.element().classList.remove(last);
+                }
+            }
+            ul.appendChild(row.element());
+        }
+        ul.appendChild(bottomSpacer);
+        topSpacer.style.height = height(px(window.first * rowHeight));
+        bottomSpacer.style.height = height(px((matching.size() - window.last) * rowHeight));
+        evict();
+
+        if (created) {
+            column.initTooltips();
+        }
+        if (!measured) {
+            int height = matching.get(window.first).row.element().offsetHeight;
+            if (height > 0) {
+                measured = true;
+                if (height != rowHeight) {
+                    rowHeight = height;
+                    render(true);
+                }
+            }
+        }
+    }
+
+    private FinderRow<T> materialize(Entry<T> entry) {
+        FinderRow<T> row = rows.get(entry.id);
+        if (row == null || entry.row != row) {
+            row = column.newRow(entry.item, entry.pinned, entry.display);
+            entry.row = row;
+            rows.put(entry.id, row);
+            row.markSelected(entry.id.equals(selectedId));
+        }
+        return row;
+    }
+
+    /** Drops all rows outside the current window except the selected row. */
+    private void evict() {
+        for (Iterator<Map.Entry<String, FinderRow<T>>> iterator = rows.entrySet().iterator(); iterator.hasNext();) {
+            String id = iterator.next().getKey();
+            if (!id.equals(selectedId) && !rendered.contains(id)) {
+                iterator.remove();
+                Entry<T> entry = index.get(id);
+                if (entry != null) {
+                    entry.row = null;
+                }
+            }
+        }
+    }
+
+    /** Scrolls the list so that the entry at the given position is part of the window and returns its row. */
+    private FinderRow<T> reveal(int position) {
+        if (position < 0 || position >= matching.size()) {
+            return null;
+        }
+        int top = position * rowHeight;
+        int bottom = top + rowHeight;
+        if (top < ul.scrollTop) {
+            ul.scrollTop = top;
+        } else if (bottom > ul.scrollTop + ul.clientHeight) {
+            ul.scrollTop = Math.max(0, bottom - ul.clientHeight);
+        }
+        render(false);
+        if (!window.contains(position)) {
+            render(true);
+        }
+        return matching.get(position).row;
+    }
+
+    FinderRow<T> reveal(String id) {
+        Entry<T> entry = index.get(id);
+        if (entry != null) {
+            int position = matching.indexOf(entry);
+            if (position != -1) {
+                return reveal(position);
+            }
+            return materialize(entry);
+        }
+        return null;
+    }
+
+    /**
+     * Replaces the item of the entry with the same id. If the entry is materialized, its row is recreated.
+     *
+     * @return the replaced item or {@code null} if there's no entry with the same id
+     */
+    T update(T item, ItemDisplay<T> display) {
+        Entry<T> entry = index.get(Strings.sanitize(display.getId()));
+        if (entry == null) {
+            return null;
+        }
+        T oldItem = entry.item;
+        entry.item = item;
+        entry.display = display;
+        boolean materialized = entry.row != null;
+        if (materialized) {
+            entry.row = null;
+            rows.remove(entry.id);
+        }
+        // the filter data might have changed
+        if (materialized || filter != null) {
+            applyFilter();
+            render(true);
+            if (entry.id.equals(selectedId)) {
+                materialize(entry).updatePreview();
+            }
+        }
+        return oldItem;
+    }
+
+    // ------------------------------------------------------ navigation & selection
+
+    int size() {
+        return entries.size();
+    }
+
+    boolean hasMatches() {
+        return !matching.isEmpty();
+    }
+
+    boolean contains(String id) {
+        return index.containsKey(id);
+    }
+
+    boolean isMatching(String id) {
+        Entry<T> entry = index.get(id);
+        return entry != null && matching.contains(entry);
+    }
+
+    /**
+     * Returns the matching row next to the selected row. If there's no (matching) selected row, returns the first row for
+     * {@code delta > 0} and the last row for {@code delta < 0}.
+     */
+    FinderRow<T> sibling(int delta) {
+        int position = selectedId != null ? matching.indexOf(index.get(selectedId)) : -1;
+        if (position == -1) {
+            return reveal(delta > 0 ? 0 : matching.size() - 1);
+        }
+        return reveal(position + delta);
+    }
+
+    FinderRow<T> selectedRow() {
+        return selectedId != null ? rows.get(selectedId) : null;
+    }
+
+    T markSelected(String id) {
+        Entry<T> entry = index.get(id);
+        if (entry == null) {
+            return null;
+        }
+        selectedId = id;
+        materialize(entry);
+        for (Map.Entry<String, FinderRow<T>> e : rows.entrySet()) {
+            e.getValue().markSelected(id.equals(e.getKey()));
+        }
+        evict();
+        return entry.item;
+    }
+
+    void resetSelection() {
+        FinderRow<T> row = selectedRow();
+        if (row != null) {
+            row.element().classList.remove(CSS.active);
+        }
+        selectedId = null;
+        evict();
+    }
+
+    // ------------------------------------------------------ filter & pinning
+
+    /** Applies the filter and returns the number of matching items. */
+    int filter(String filter) {
+        this.filter = filter == null || filter.trim().length() == 0 ? null : filter.toLowerCase();
+        applyFilter();
+        ul.scrollTop = 0;
+        render(true);
+        return matching.size();
+    }
+
+    private void applyFilter() {
+        if (filter == null) {
+            matching = entries;
+        } else {
+            matching = new ArrayList<>();
+            for (Entry<T> entry : entries) {
+                if (entry.matches(filter)) {
+                    matching.add(entry);
+                }
+            }
+        }
+    }
+
+    void pin(FinderRow<T> row, boolean pin) {
+        Entry<T> entry = index.get(row.getId());
+        if (entry != null && entry.pinned != pin) {
+            entries.remove(entry);
+            entry.pinned = pin;
+            entries.add(position(entry), entry);
+            applyFilter();
+            render(true);
+            if (pin) {
+                reveal(entry.id);
+            }
+        }
+    }
+
+    /** Sorts the entry by title into its section, the same way {@link FinderColumn} does for non-virtual columns. */
+    private int position(Entry<T> entry) {
+        int end = 0;
+        while (end < entries.size() && entries.get(end).pinned) {
+            end++;
+        }
+        int start = entry.pinned ? 0 : end;
+        if (!entry.pinned) {
+            end = entries.size();
+        }
+        for (int i = start; i < end; i++) {
+            if (entries.get(i).title().compareTo(entry.title()) > 0) {
+                return i;
+            }
+        }
+        return end;
+    }
+
+    private Entry<T> lastPinned() {
+        Entry<T> lastPinned = null;
+        for (Entry<T> entry : matching) {
+            if (!entry.pinned) {
+                break;
+            }
+            lastPinned = entry;
+        }
+        return lastPinned;
+    }
+
+    private static class Entry<T> {
+
+        private final String id;
+        private T item;
+        private ItemDisplay<T> display;
+        private boolean pinned;
+        private FinderRow<T> row;
+
+        private Entry(T item, ItemDisplay<T> display, boolean pinned) {
+            this.id = Strings.sanitize(display.getId());
+            this.item = item;
+            this.display = display;
+            this.pinned = pinned;
+        }
+
+        private boolean matches(String filter) {
+            String filterData = display.getFilterData();
+            return filterData == null || filterData.toLowerCase().contains(filter);
+        }
+
+        private String title() {
+            return String.valueOf(display.getTitle());
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.metrics;
+
+/**
+ * Fixed-size ring buffer for the values of one metric. Values and timestamps are kept in primitive arrays, so recording a
+ * sample doesn't allocate. Once the buffer is full, the oldest sample is overwritten.
+ */
+public class MetricBuffer {
+
+    private final long[] timestamps;
+    private final double[] values;
+    private int head;
+    private int size;
+
+    public MetricBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero: " + capacity);
+        }
+        this.timestamps = new long[capacity];
+        this.values = new double[capacity];
+    }
+
+    public void add(long timestamp, double value) {
+        timestamps[head] = timestamp;
+        values[head] = value;
+        head = (head + 1) % values.length;
+        if (size < values.length) {
+            size++;
+        }
+    }
+
+    public void clear() {
+        head = 0;
+        size = 0;
+    }
+
+    /** @return the value at the specified index. Index 0 is the oldest sample, index {@code size() - 1} the latest. */
+    public double get(int index) {
+        return values[position(index)];
+    }
+
+    /** @return the timestamp of the sample at the specified index */
+    public long timestamp(int index) {
+        return timestamps[position(index)];
+    }
+
+    /** @return the latest value or {@link Double#NaN} if the buffer is empty */
+    public double latest() {
+        return size == 0 ? Double.NaN : get(size - 1);
+    }
+
+    /** @return a copy of the values, oldest first */
+    public double[] values() {
+        double[] copy = new double[size];
+        int start = (head - size + values.length) % values.length;
+        int tail = Math.min(size, values.length - start);
+        System.arraycopy(values, start, copy, 0, tail);
+        System.arraycopy(values, 0, copy, tail, size - tail);
+        return copy;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private int position(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", size: " + size);
+        }
+        return (head - size + index + values.length) % values.length;
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.metrics;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+
+import static elemental2.dom.DomGlobal.clearInterval;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setInterval;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_DEFAULTS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESOLVE_EXPRESSIONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeGet;
+
+/**
+ * Periodically reads runtime metrics for the previews.
+ * <p>
+ * Previews subscribe to the metrics of a resource and cancel the subscription when they're detached. A single scheduler
+ * merges all active subscriptions into one composite operation per tick. The composite contains one step per address: a
+ * {@code read-attribute} operation if only one attribute of the resource is watched and a
+ * {@code read-resource(include-runtime)} operation otherwise. So the number of requests is one per tick, no matter how many
+ * previews are open.
+ * <p>
+ * Numeric metrics are recorded in {@link MetricBuffer}s of size {@link #CAPACITY}. Buffers are shared by all subscriptions
+ * for the same address and metric and are dropped together with the last subscription. A metric is either the name of an
+ * attribute or a path into a complex attribute like {@code heap-memory-usage/used}.
+ * <p>
+ * If the composite fails, the steps are executed one by one and the resources which can't be read anymore are excluded from
+ * further ticks. Ticks are skipped while the browser tab is hidden.
+ */
+public class Metrics {
+
+    /** Time in milliseconds between two ticks. */
+    public static final int INTERVAL = 5_000;
+
+    /** Number of samples kept per metric. */
+    public static final int CAPACITY = 60;
+
+    private static final Logger logger = LoggerFactory.getLogger(Metrics.class);
+
+    private final Dispatcher dispatcher;
+    private final Map<AddressKey, Source> sources;
+    private double intervalHandle;
+    private boolean running;
+    private boolean pending;
+
+    @Inject
+    public Metrics(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.sources = new LinkedHashMap<>();
+    }
+
+    /**
+     * Subscribes to the attributes of the specified resource.
+     *
+     * @param address the address of the resource
+     * @param callback called after each tick with the attributes of the resource
+     * @param metrics the attributes or paths into complex attributes to record
+     *
+     * @return the subscription which must be cancelled once the attributes are no longer needed
+     */
+    public Subscription subscribe(ResourceAddress address, Consumer<ModelNode> callback, String... metrics) {
+        return subscribe(address, null, asList(metrics), callback);
+    }
+
+    /**
+     * Subscribes to one attribute of the specified resource. The attribute is recorded if it's numeric.
+     *
+     * @param address the address of the resource
+     * @param attribute the name of the attribute
+     * @param callback called after each tick with the value of the attribute
+     *
+     * @return the subscription which must be cancelled once the attribute is no longer needed
+     */
+    public Subscription subscribeAttribute(ResourceAddress address, String attribute, Consumer<ModelNode> callback) {
+        return subscribe(address, attribute, singletonList(attribute), callback);
+    }
+
+    private Subscription subscribe(ResourceAddress address, String attribute, List<String> metrics,
+            Consumer<ModelNode> callback) {
+        Source source = sources.computeIfAbsent(AddressKey.of(address), key -> new Source(key, address));
+        Subscription subscription = new Subscription(this, source, attribute, metrics, callback);
+        source.add(subscription);
+        if (!running) {
+            running = true;
+            intervalHandle = setInterval(o -> tick(), INTERVAL);
+        }
+        return subscription;
+    }
+
+    private void cancel(Subscription subscription) {
+        Source source = subscription.source;
+        source.remove(subscription);
+        if (source.subscriptions.isEmpty() && sources.get(source.key) == source) {
+            sources.remove(source.key);
+        }
+        if (running && sources.isEmpty()) {
+            running = false;
+            clearInterval(intervalHandle);
+        }
+    }
+
+    // ------------------------------------------------------ tick
+
+    private void tick() {
+        if (pending || document.hidden) {
+            return;
+        }
+        List<Source> batch = sources.values().stream().filter(source -> !source.suspended).collect(toList());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        pending = true;
+        List<Operation> operations = batch.stream().map(Source::operation).collect(toList());
+        dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
+            pending = false;
+            long now = System.currentTimeMillis();
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).update(now, operations.get(i), result.step(i).get(RESULT));
+            }
+        }, (operation, error) -> {
+            pending = false;
+            logger.debug("Unable to read metrics for {} resources: {}. Read resources one by one.", batch.size(), error);
+            isolate(batch, operations);
+        });
+    }
+
+    /** Reads the sources one by one and suspends the ones which can't be read. */
+    private void isolate(List<Source> batch, List<Operation> operations) {
+        for (int i = 0; i < batch.size(); i++) {
+            Source source = batch.get(i);
+            Operation operation = operations.get(i);
+            dispatcher.execute(operation, result -> source.update(System.currentTimeMillis(), operation, result),
+                    (o, error) -> {
+                        logger.debug("Suspend metrics for {}: {}", source.key, error);
+                        source.suspended = true;
+                    });
+        }
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    /** A subscription for the attributes or one attribute of a resource. */
+    public static class Subscription {
+
+        private final Metrics metrics;
+        private final Source source;
+        private final String attribute;
+        private final List<String> paths;
+        private final Consumer<ModelNode> callback;
+        private boolean cancelled;
+
+        private Subscription(Metrics metrics, Source source, String attribute, List<String> paths,
+                Consumer<ModelNode> callback) {
+            this.metrics = metrics;
+            this.source = source;
+            this.attribute = attribute;
+            this.paths = paths;
+            this.callback = callback;
+        }
+
+        /** @return the recorded values of the specified metric, oldest first */
+        public double[] history(String metric) {
+            MetricBuffer buffer = source.buffers.get(metric);
+            return buffer != null ? buffer.values() : new double[0];
+        }
+
+        /** Stops reading the metrics of this subscription. Calling this method more than once has no effect. */
+        public void cancel() {
+            if (!cancelled) {
+                cancelled = true;
+                metrics.cancel(this);
+            }
+        }
+    }
+
+    /** All subscriptions for one address. Contributes one step to the composite of a tick. */
+    private static class Source {
+
+        private final AddressKey key;
+        private final ResourceAddress address;
+        private final List<Subscription> subscriptions;
+        private final Map<String, MetricBuffer> buffers;
+        private boolean suspended;
+
+        private Source(AddressKey key, ResourceAddress address) {
+            this.key = key;
+            this.address = address;
+            this.subscriptions = new ArrayList<>();
+            this.buffers = new HashMap<>();
+        }
+
+        private void add(Subscription subscription) {
+            // a new subscription gives a suspended resource another try
+            suspended = false;
+            subscriptions.add(subscription);
+            for (String path : subscription.paths) {
+                buffers.computeIfAbsent(path, p -> new MetricBuffer(CAPACITY));
+            }
+        }
+
+        private void remove(Subscription subscription) {
+            subscriptions.remove(subscription);
+            Set<String> paths = new LinkedHashSet<>();
+            subscriptions.forEach(s -> paths.addAll(s.paths));
+            buffers.keySet().removeIf(path -> !paths.contains(path));
+        }
+
+        /** @return a read-attribute operation if all subscriptions watch the same attribute, read-resource otherwise */
+        private Operation operation() {
+            Set<String> attributes = new LinkedHashSet<>();
+            for (Subscription subscription : subscriptions) {
+                attributes.add(subscription.attribute);
+            }
+            if (attributes.size() == 1 && !attributes.contains(null)) {
+                return new Operation.Builder(address, READ_ATTRIBUTE_OPERATION)
+                        .param(NAME, attributes.iterator().next())
+                        .param(INCLUDE_DEFAULTS, true)
+                        .param(RESOLVE_EXPRESSIONS, true)
+                        .build();
+            }
+            return new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                    .param(INCLUDE_RUNTIME, true)
+                    .param(ATTRIBUTES_ONLY, true)
+                    .param(RESOLVE_EXPRESSIONS, true)
+                    .build();
+        }
+
+        private void update(long timestamp, Operation operation, ModelNode result) {
+            ModelNode attributes = result;
+            if (READ_ATTRIBUTE_OPERATION.equals(operation.getName())) {
+                attributes = new ModelNode();
+                attributes.get(operation.get(NAME).asString()).set(result);
+            }
+            for (Map.Entry<String, MetricBuffer> entry : buffers.entrySet()) {
+                ModelNode value = failSafeGet(attributes, entry.getKey());
+                if (numeric(value)) {
+                    entry.getValue().add(timestamp, value.asDouble());
+                }
+            }
+            // callbacks might cancel subscriptions
+            for (Subscription subscription : new ArrayList<>(subscriptions)) {
+                if (!subscription.cancelled) {
+                    if (subscription.attribute == null) {
+                        subscription.callback.accept(attributes);
+                    } else {
+                        subscription.callback.accept(failSafeGet(attributes, subscription.attribute));
+                    }
+                }
+            }
+        }
+
+        private static boolean numeric(ModelNode value) {
+            ModelType type = value.getType();
+            return type == ModelType.INT || type == ModelType.LONG || type == ModelType.DOUBLE
+                    || type == ModelType.BIG_INTEGER || type == ModelType.BIG_DECIMAL;
+        }
+    }
+}
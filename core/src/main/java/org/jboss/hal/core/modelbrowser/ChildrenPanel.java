@@ -55,7 +55,6 @@ import static java.util.stream.Collectors.toList;
 
 import static org.jboss.elemento.Elements.h;
 import static org.jboss.hal.core.modelbrowser.ModelBrowser.asGenericTemplate;
-import static org.jboss.hal.core.modelbrowser.ReadChildren.uniqueId;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
@@ -68,22 +67,23 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
 
     private final Environment environment;
     private final Dispatcher dispatcher;
+    private final SubtreeCache cache;
     private final MetadataProcessor metadataProcessor;
     private final Iterable<HTMLElement> elements;
     private final HTMLElement header;
     private final Table<String> table;
     private Node<Context> parent;
 
-    ChildrenPanel(ModelBrowser modelBrowser, Environment environment, Dispatcher dispatcher,
+    ChildrenPanel(ModelBrowser modelBrowser, Environment environment, Dispatcher dispatcher, SubtreeCache cache,
             MetadataProcessor metadataProcessor, Resources resources) {
         this.environment = environment;
         this.dispatcher = dispatcher;
+        this.cache = cache;
         this.metadataProcessor = metadataProcessor;
 
         Options<String> options = new OptionsBuilder<String>()
                 .column("resource", Names.RESOURCE, (cell, type, row, meta) -> row)
-                .column(new InlineAction<>(resources.constants().view(), row -> modelBrowser.tree.openNode(parent.id,
-                        () -> modelBrowser.select(uniqueId(parent, row), false))))
+                .column(new InlineAction<>(resources.constants().view(), row -> modelBrowser.view(parent, row)))
                 .button(resources.constants().add(), table -> modelBrowser.add(parent, table.getRows()))
                 .button(resources.constants().remove(), table -> {
                     ResourceAddress fq = parent.data.getAddress()
@@ -128,6 +128,8 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
                 .param(CHILD_TYPE, node.text)
                 .build();
         dispatcher.execute(operation, result -> {
+            // the tree might show outdated children
+            cache.updateChildrenNames(address, result.asList());
             List<String> names = result.asList().stream().map(ModelNode::asString).collect(toList());
             table.update(names);
             if (node.data.hasSingletons()) {
@@ -15,18 +15,30 @@
  */
 package org.jboss.hal.core.modelbrowser;
 
+import java.util.Collections;
 import java.util.Set;
 
 import org.jboss.hal.dmr.ResourceAddress;
 
 class Context {
 
+    /** Context of the node which shows more children of the type node with the specified address. */
+    static Context loadMore(ResourceAddress address) {
+        return new Context(address, Collections.emptySet(), true);
+    }
+
     private final Set<String> singletons;
     private final ResourceAddress address;
+    private final boolean loadMore;
 
     Context(final ResourceAddress address, final Set<String> singletons) {
+        this(address, singletons, false);
+    }
+
+    private Context(final ResourceAddress address, final Set<String> singletons, final boolean loadMore) {
         this.singletons = singletons;
         this.address = address;
+        this.loadMore = loadMore;
     }
 
     ResourceAddress getAddress() {
@@ -44,4 +56,8 @@ class Context {
     boolean isFullyQualified() {
         return !"*".equals(address.lastValue());
     }
+
+    boolean isLoadMore() {
+        return loadMore;
+    }
 }
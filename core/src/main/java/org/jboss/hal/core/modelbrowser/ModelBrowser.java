@@ -28,6 +28,7 @@ import javax.inject.Provider;
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.IsElement;
 import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.ballroom.Search;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.Form.FinishReset;
 import org.jboss.hal.ballroom.form.TextBoxItem;
@@ -63,6 +64,7 @@ import org.jboss.hal.spi.MessageEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Strings;
 import com.google.common.collect.Sets;
 import com.google.gwt.core.client.GWT;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
@@ -86,6 +88,7 @@ import static org.jboss.hal.ballroom.LayoutBuilder.row;
 import static org.jboss.hal.ballroom.Skeleton.MARGIN_BIG;
 import static org.jboss.hal.ballroom.Skeleton.MARGIN_SMALL;
 import static org.jboss.hal.ballroom.Skeleton.applicationOffset;
+import static org.jboss.hal.core.modelbrowser.ReadChildren.uniqueId;
 import static org.jboss.hal.core.modelbrowser.SingletonState.CHOOSE;
 import static org.jboss.hal.core.modelbrowser.SingletonState.CREATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
@@ -126,6 +129,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private final HTMLElement root;
     private final HTMLElement buttonGroup;
+    private final Search search;
     private final HTMLButtonElement filter;
     private final HTMLButtonElement refresh;
     private final HTMLButtonElement collapse;
@@ -133,6 +137,8 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     private final HTMLElement content;
     private final ResourcePanel resourcePanel;
     private final ChildrenPanel childrenPanel;
+    private final SubtreeCache cache;
+    private ReadChildren readChildren;
     Tree<Context> tree;
 
     private boolean updateBreadcrumb;
@@ -155,6 +161,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         this.eventBus = eventBus;
         this.resources = resources;
         this.filterStack = new Stack<>();
+        this.cache = new SubtreeCache(dispatcher);
         this.updateBreadcrumb = false;
         this.surroundingHeight = 0;
 
@@ -173,6 +180,9 @@ public class ModelBrowser implements IsElement<HTMLElement> {
                         .add(Elements.i().css(fontAwesome("minus"))).element())
                 .element();
 
+        search = new Search.Builder(Ids.MODEL_BROWSER_SEARCH, this::search)
+                .onClear(this::clearSearch)
+                .build();
         treeContainer = div().css(CSS.treeContainer).element();
         content = div().css(modelBrowserContent).element();
 
@@ -182,7 +192,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         }
         resourcePanel.hide();
 
-        childrenPanel = new ChildrenPanel(this, environment, dispatcher, metadataProcessor, resources);
+        childrenPanel = new ChildrenPanel(this, environment, dispatcher, cache, metadataProcessor, resources);
         for (HTMLElement element : childrenPanel) {
             content.appendChild(element);
         }
@@ -190,7 +200,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
         root = row()
                 .add(column(4)
-                        .addAll(buttonGroup, treeContainer))
+                        .addAll(buttonGroup, search.element(), treeContainer))
                 .add(column(8)
                         .add(content))
                 .element();
@@ -198,7 +208,9 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private void adjustHeight() {
         int buttonGroup = (int) this.buttonGroup.offsetHeight;
-        int treeContainerOffset = applicationOffset() + 2 * MARGIN_BIG + buttonGroup + MARGIN_SMALL + surroundingHeight;
+        int search = (int) this.search.element().offsetHeight;
+        int treeContainerOffset = applicationOffset() + 2 * MARGIN_BIG + buttonGroup + MARGIN_SMALL + search
+                + surroundingHeight;
         int contentOffset = applicationOffset() + 2 * MARGIN_BIG + surroundingHeight;
 
         treeContainer.style.height = vh(treeContainerOffset);
@@ -210,7 +222,8 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         Node<Context> rootNode = new Node.Builder<>(MODEL_BROWSER_ROOT, text, context)
                 .asyncFolder()
                 .build();
-        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher));
+        readChildren = new ReadChildren(cache, resources);
+        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, readChildren);
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -296,6 +309,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private void refresh(Node<Context> node) {
         if (node != null) {
+            cache.invalidate(node.data.getAddress());
             updateNode(node);
             tree.refreshNode(node.id);
         }
@@ -307,11 +321,42 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         }
     }
 
+    /**
+     * If a type node is selected, only the children of that type matching the query are loaded. Otherwise the loaded nodes
+     * are searched.
+     */
+    private void search(String query) {
+        Node<Context> node = tree.getSelected();
+        if (node != null && !node.data.isFullyQualified() && !node.data.isLoadMore()) {
+            readChildren.filter(node.id, query);
+            tree.loadNode(node.id, () -> tree.openNode(node.id, null));
+        } else if (Strings.isNullOrEmpty(query)) {
+            clearSearch();
+        } else {
+            tree.search(query);
+        }
+    }
+
+    private void clearSearch() {
+        tree.clearSearch();
+        for (String nodeId : readChildren.clearFilters()) {
+            tree.loadNode(nodeId, null);
+        }
+    }
+
     private void onTreeSelection(SelectionContext<Context> context) {
         if ("ready".equals(context.action)) { // NON-NLS
             // only (de)selection events, please
             return;
         }
+        if ("select_node".equals(context.action) && context.node.data.isLoadMore()) { // NON-NLS
+            Node<Context> parent = tree.getNode(context.node.parent);
+            if (parent != null) {
+                readChildren.loadMore(parent.id);
+                tree.loadNode(parent.id, () -> tree.openNode(parent.id, null));
+            }
+            return;
+        }
 
         filter.disabled = context.selected.length == 0 ||
                 !context.node.data.isFullyQualified() ||
@@ -455,7 +500,11 @@ public class ModelBrowser implements IsElement<HTMLElement> {
     }
 
     void remove(ResourceAddress address) {
-        crud.remove(address.lastName(), address.lastValue(), address, () -> refresh(tree.getSelected()));
+        crud.remove(address.lastName(), address.lastValue(), address, () -> {
+            // the names of the siblings have changed as well
+            cache.invalidate(address.getParent().add(address.lastName(), "*"));
+            refresh(tree.getSelected());
+        });
     }
 
     void save(ResourceAddress address, Map<String, Object> changedValues, Metadata metadata) {
@@ -524,6 +573,16 @@ public class ModelBrowser implements IsElement<HTMLElement> {
                 });
     }
 
+    /** Opens the type node and selects the child. Loads the child if it's not among the shown children. */
+    void view(Node<Context> parent, String child) {
+        String id = uniqueId(parent, child);
+        if (readChildren.reveal(parent.id, child)) {
+            tree.loadNode(parent.id, () -> tree.openNode(parent.id, () -> select(id, false)));
+        } else {
+            tree.openNode(parent.id, () -> select(id, false));
+        }
+    }
+
     public void select(String id, boolean closeSelected) {
         tree.selectNode(id, closeSelected);
     }
@@ -19,6 +19,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -29,21 +30,17 @@ import java.util.TreeSet;
 import org.jboss.hal.ballroom.tree.DataFunction;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
 
 import com.google.common.base.Splitter;
 import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Multimap;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 
-import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DATA_SOURCE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.WORKMANAGER;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.XA_DATA_SOURCE;
@@ -51,11 +48,19 @@ import static org.jboss.hal.resources.CSS.fontAwesome;
 import static org.jboss.hal.resources.Ids.MODEL_BROWSER_ROOT;
 
 /**
- * Function which gets invoked when the user opens a node in the model browser tree. TODO Error handling
+ * Function which gets invoked when the user opens a node in the model browser tree. Reads the children using the
+ * {@link SubtreeCache}. TODO Error handling
+ * <p>
+ * Type nodes like {@code deployment=*} can have thousands of children. Only the first {@value #PAGE_SIZE} children are turned
+ * into tree nodes, followed by a node to load more children. The children can also be filtered by name.
  */
 final class ReadChildren implements DataFunction<Context> {
 
+    /** Number of children shown at once for a type node. */
+    static final int PAGE_SIZE = 100;
+
     private static final String ID_SEPARATOR = "___";
+    private static final String MORE = "more";
     private static final String NO_SINGLETON = "no_singleton";
 
     // some resources are implemented as singletons but there is no reason to display them that way
@@ -77,21 +82,73 @@ final class ReadChildren implements DataFunction<Context> {
         return parentId + ID_SEPARATOR + name;
     }
 
-    private final Dispatcher dispatcher;
+    private final SubtreeCache cache;
+    private final Resources resources;
+    private final Map<String, Integer> limits;
+    private final Map<String, String> filters;
+    private final Map<String, String> revealed;
+    private final Map<String, Set<String>> shown;
+
+    ReadChildren(final SubtreeCache cache, final Resources resources) {
+        this.cache = cache;
+        this.resources = resources;
+        this.limits = new HashMap<>();
+        this.filters = new HashMap<>();
+        this.revealed = new HashMap<>();
+        this.shown = new HashMap<>();
+    }
+
+    /** Shows the next {@value #PAGE_SIZE} children of the specified type node the next time it's loaded. */
+    void loadMore(String nodeId) {
+        limits.put(nodeId, limit(nodeId) + PAGE_SIZE);
+    }
+
+    /**
+     * Shows only the children of the specified type node which contain the query (case-insensitive) the next time it's
+     * loaded.
+     */
+    void filter(String nodeId, String query) {
+        limits.remove(nodeId);
+        if (query == null || query.trim().isEmpty()) {
+            filters.remove(nodeId);
+        } else {
+            filters.put(nodeId, query.trim().toLowerCase());
+        }
+    }
 
-    ReadChildren(final Dispatcher dispatcher) {
-        this.dispatcher = dispatcher;
+    /** Removes all filters and returns the ids of the type nodes which were filtered. */
+    Set<String> clearFilters() {
+        Set<String> nodeIds = new HashSet<>(filters.keySet());
+        nodeIds.forEach(nodeId -> filter(nodeId, null));
+        return nodeIds;
+    }
+
+    /**
+     * Makes sure the specified child is shown the next time the type node is loaded, even if it's not part of the shown
+     * pages.
+     *
+     * @return {@code true} if the type node has to be loaded again, {@code false} if the child is already shown or the type
+     *         node has not been loaded yet
+     */
+    boolean reveal(String nodeId, String name) {
+        Set<String> names = shown.get(nodeId);
+        if (names != null && names.contains(name)) {
+            return false;
+        }
+        revealed.put(nodeId, name);
+        return names != null;
+    }
+
+    private int limit(String nodeId) {
+        Integer limit = limits.get(nodeId);
+        return limit != null ? limit : PAGE_SIZE;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void load(final Node<Context> node, final ResultCallback<Context> callback) {
         if (node.data.isFullyQualified()) {
-            Operation operation = new Operation.Builder(node.data.getAddress(), READ_CHILDREN_TYPES_OPERATION)
-                    .param(INCLUDE_SINGLETONS, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
+            cache.readChildrenTypes(node.data.getAddress(), modelNodes -> {
                 Multimap<String, String> resources = HashMultimap.create();
                 for (ModelNode modelNode : modelNodes) {
                     String name = modelNode.asString();
@@ -125,18 +182,28 @@ final class ReadChildren implements DataFunction<Context> {
 
         } else {
             ResourceAddress parentAddress = node.data.getAddress().getParent();
-            Operation operation = new Operation.Builder(parentAddress, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, node.text)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
+            cache.readChildrenNames(node.data.getAddress(), modelNodes -> {
                 List<Node<Context>> children = new ArrayList<>();
                 SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
+                String filter = filters.get(node.id);
+                String revealedName = revealed.get(node.id);
+                int limit = limit(node.id);
+                int matching = 0;
+                Set<String> shownNames = new HashSet<>();
 
-                // Add existing children
+                // Add existing children: the first pages and the revealed child only
                 for (ModelNode modelNode : modelNodes) {
-                    String name = SafeHtmlUtils.fromString(modelNode.asString()).asString();
-                    singletons.remove(name);
+                    String rawName = modelNode.asString();
+                    singletons.remove(rawName);
+                    if (filter != null && !rawName.toLowerCase().contains(filter)) {
+                        continue;
+                    }
+                    matching++;
+                    if (matching > limit && !rawName.equals(revealedName)) {
+                        continue;
+                    }
+                    shownNames.add(rawName);
+                    String name = SafeHtmlUtils.fromString(rawName).asString();
                     ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
                     Context context = new Context(address, Collections.emptySet());
                     Node<Context> child = new Node.Builder<>(uniqueId(node, name), name, context)
@@ -145,9 +212,13 @@ final class ReadChildren implements DataFunction<Context> {
                             .build();
                     children.add(child);
                 }
+                shown.put(node.id, shownNames);
 
                 // Add non-existing singletons
                 for (String singleton : singletons) {
+                    if (filter != null && !singleton.toLowerCase().contains(filter)) {
+                        continue;
+                    }
                     ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, singleton);
                     Context context = new Context(address, Collections.emptySet());
                     Node<Context> child = new Node.Builder<>(uniqueId(node, singleton), singleton, context)
@@ -157,6 +228,16 @@ final class ReadChildren implements DataFunction<Context> {
                     children.add(child);
                 }
 
+                int remaining = matching - shownNames.size();
+                if (remaining > 0) {
+                    Node<Context> more = new Node.Builder<>(Ids.build(node.id, MORE),
+                            resources.messages().modelBrowserMoreChildren(remaining),
+                            Context.loadMore(node.data.getAddress()))
+                            .icon(fontAwesome("ellipsis-h"))
+                            .build();
+                    children.add(more);
+                }
+
                 callback.result(children.toArray(new Node[children.size()]));
             });
         }
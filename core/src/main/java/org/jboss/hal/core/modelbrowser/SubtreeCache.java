@@ -0,0 +1,236 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Splitter;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Caches the child types and child names of the resources in the model browser tree. The cache lives as long as the model
+ * browser.
+ * <p>
+ * The cache reads one level ahead: Once the child types of a resource are known, the child names of all types are read in
+ * one composite operation. Once the child names of a type are known, the child types of all children are read in one
+ * composite operation. So opening the next level of the tree is served from the cache. Prefetching is skipped for more than
+ * {@value #PREFETCH_LIMIT} children and can be turned off using the configuration property {@code hal.modelbrowser.prefetch}.
+ * <p>
+ * Nodes are addressed by their {@link Context#getAddress() address}. The address of a type node ends with {@code type=*}.
+ */
+final class SubtreeCache {
+
+    static final int PREFETCH_LIMIT = 50;
+    private static final boolean PREFETCH = Boolean.parseBoolean(System.getProperty("hal.modelbrowser.prefetch", "true"));
+    private static final Logger logger = LoggerFactory.getLogger(SubtreeCache.class);
+
+    private final Dispatcher dispatcher;
+    private final Map<String, Entry> types;
+    private final Map<String, Entry> names;
+
+    SubtreeCache(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.types = new HashMap<>();
+        this.names = new HashMap<>();
+    }
+
+    /** Reads the child types including singletons of a resource and prefetches the child names of these types. */
+    void readChildrenTypes(ResourceAddress address, Consumer<List<ModelNode>> callback) {
+        read(types, address, typesOperation(address), result -> {
+            callback.accept(result);
+            prefetchNames(address, result);
+        });
+    }
+
+    /** Reads the child names of a type node and prefetches the child types of these children. */
+    void readChildrenNames(ResourceAddress typeAddress, Consumer<List<ModelNode>> callback) {
+        read(names, typeAddress, namesOperation(typeAddress), result -> {
+            callback.accept(result);
+            prefetchTypes(typeAddress, result);
+        });
+    }
+
+    /** Replaces the child names of a type node which have been read elsewhere. Drops the subtree if the names differ. */
+    void updateChildrenNames(ResourceAddress typeAddress, List<ModelNode> result) {
+        Entry entry = names.get(typeAddress.toString());
+        if (entry == null || entry.result == null || !entry.result.equals(result)) {
+            invalidate(typeAddress);
+            names.put(typeAddress.toString(), new Entry(typeAddress, namesOperation(typeAddress), result));
+        }
+    }
+
+    /** Drops the cached data of the specified node and all nodes below. */
+    void invalidate(ResourceAddress address) {
+        types.values().removeIf(entry -> within(entry.address, address));
+        names.values().removeIf(entry -> within(entry.address, address));
+    }
+
+    // ------------------------------------------------------ read & prefetch
+
+    private void read(Map<String, Entry> cache, ResourceAddress address, Operation operation,
+            Consumer<List<ModelNode>> callback) {
+        Entry entry = cache.get(address.toString());
+        if (entry != null && entry.result != null) {
+            callback.accept(entry.result);
+        } else if (entry != null) {
+            // prefetch in progress
+            entry.waiting.add(callback);
+        } else {
+            dispatcher.execute(operation, result -> {
+                List<ModelNode> list = result.asList();
+                cache.put(address.toString(), new Entry(address, operation, list));
+                callback.accept(list);
+            });
+        }
+    }
+
+    private void prefetchNames(ResourceAddress address, List<ModelNode> childTypes) {
+        Set<String> typeNames = new LinkedHashSet<>();
+        for (ModelNode childType : childTypes) {
+            // singletons are returned as 'type=name'
+            typeNames.add(Splitter.on('=').limit(2).splitToList(childType.asString()).get(0));
+        }
+        List<Entry> entries = new ArrayList<>();
+        for (String type : typeNames) {
+            ResourceAddress typeAddress = new ResourceAddress(address).add(type, "*");
+            entries.add(new Entry(typeAddress, namesOperation(typeAddress), null));
+        }
+        prefetch(names, entries);
+    }
+
+    private void prefetchTypes(ResourceAddress typeAddress, List<ModelNode> childNames) {
+        List<Entry> entries = new ArrayList<>();
+        for (ModelNode childName : childNames) {
+            ResourceAddress address = new ResourceAddress(typeAddress.getParent())
+                    .add(typeAddress.lastName(), childName.asString());
+            entries.add(new Entry(address, typesOperation(address), null));
+        }
+        prefetch(types, entries);
+    }
+
+    private void prefetch(Map<String, Entry> cache, List<Entry> entries) {
+        entries.removeIf(entry -> cache.containsKey(entry.address.toString()));
+        if (!PREFETCH || entries.isEmpty() || entries.size() > PREFETCH_LIMIT) {
+            return;
+        }
+
+        List<Operation> operations = new ArrayList<>();
+        for (Entry entry : entries) {
+            cache.put(entry.address.toString(), entry);
+            operations.add(entry.operation);
+        }
+        dispatcher.execute(new Composite(operations), (CompositeResult result) -> {
+            for (int i = 0; i < entries.size(); i++) {
+                ModelNode step = result.step(i);
+                if (step.isFailure()) {
+                    fail(cache, entries.get(i));
+                } else {
+                    complete(cache, entries.get(i), step.get(RESULT).asList());
+                }
+            }
+        }, (operation, failure) -> {
+            logger.debug("Unable to prefetch {} nodes: {}", entries.size(), failure);
+            entries.forEach(entry -> fail(cache, entry));
+        });
+    }
+
+    private void complete(Map<String, Entry> cache, Entry entry, List<ModelNode> result) {
+        entry.result = result;
+        if (cache.get(entry.address.toString()) != entry) {
+            // invalidated in the meantime
+            logger.debug("Discard prefetched node {}", entry.address);
+        }
+        entry.waiting.forEach(callback -> callback.accept(result));
+        entry.waiting.clear();
+    }
+
+    private void fail(Map<String, Entry> cache, Entry entry) {
+        cache.remove(entry.address.toString(), entry);
+        // read on demand and report errors as usual
+        entry.waiting.forEach(callback -> read(cache, entry.address, entry.operation, callback));
+        entry.waiting.clear();
+    }
+
+    // ------------------------------------------------------ helper
+
+    private Operation typesOperation(ResourceAddress address) {
+        return new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                .param(INCLUDE_SINGLETONS, true)
+                .build();
+    }
+
+    private Operation namesOperation(ResourceAddress typeAddress) {
+        return new Operation.Builder(typeAddress.getParent(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, typeAddress.lastName())
+                .build();
+    }
+
+    /** Whether {@code address} is equal to or below {@code node}. A wildcard in {@code node} matches any value. */
+    private static boolean within(ResourceAddress address, ResourceAddress node) {
+        if (node.size() == 0) {
+            return true;
+        } else if (address.size() < node.size()) {
+            return false;
+        }
+        List<Property> addressSegments = address.asPropertyList();
+        List<Property> nodeSegments = node.asPropertyList();
+        for (int i = 0; i < nodeSegments.size(); i++) {
+            Property segment = nodeSegments.get(i);
+            String value = segment.getValue().asString();
+            if (!segment.getName().equals(addressSegments.get(i).getName())
+                    || !("*".equals(value) || value.equals(addressSegments.get(i).getValue().asString()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+
+        private final ResourceAddress address;
+        private final Operation operation;
+        private final List<Consumer<List<ModelNode>>> waiting;
+        private List<ModelNode> result;
+
+        private Entry(ResourceAddress address, Operation operation, List<ModelNode> result) {
+            this.address = address;
+            this.operation = operation;
+            this.waiting = new ArrayList<>();
+            this.result = result;
+        }
+    }
+}
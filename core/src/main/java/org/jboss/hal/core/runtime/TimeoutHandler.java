@@ -36,6 +36,12 @@ import static org.jboss.hal.flow.FlowStatus.SUCCESS;
 /** Executes a DMR operation until a specific condition is met or a timeout occurs. */
 public class TimeoutHandler {
 
+    /** Increase the interval between two polls by this factor... */
+    private static final double BACKOFF = 1.5;
+    /** ...up to this interval in milliseconds... */
+    private static final long MAX_INTERVAL = 5_000;
+    /** ...and randomize it by this fraction so that concurrent polls don't hit the controller at the same time. */
+    private static final double JITTER = 0.2;
     private static final Logger logger = LoggerFactory.getLogger(TimeoutHandler.class);
 
     /** Executes the operation until it successfully returns. */
@@ -51,12 +57,17 @@ public class TimeoutHandler {
         logger.debug("Repeat {} while the predicate evaluates to true with {} seconds timeout", operation.asCli(),
                 timeout);
         // repeat until the predicate returns true
-        return Flow.repeat(new FlowContext(),
+        FlowContext context = new FlowContext();
+        return Flow.repeat(context,
                 c -> dispatcher.execute(operation).then(result -> c.resolve(!until.test(result)))) // until = !while
                 .while_(c -> c.pop(true))
                 .failFast(false)
                 .timeout(timeout * 1000L)
-                .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
+                .backoff(BACKOFF)
+                .maxInterval(MAX_INTERVAL)
+                .jitter(JITTER)
+                .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)))
+                .then(status -> done(operation.asCli(), context, status));
     }
 
     /** Executes the composite operation until the operation successfully returns. */
@@ -72,12 +83,22 @@ public class TimeoutHandler {
         logger.debug("Repeat {} while the predicate evaluates to true with {} seconds timeout", composite.asCli(),
                 timeout);
         // repeat until the predicate returns true
-        return Flow.repeat(new FlowContext(Progress.NOOP),
+        FlowContext context = new FlowContext(Progress.NOOP);
+        return Flow.repeat(context,
                 c -> dispatcher.execute(composite).then(cr -> c.resolve(!until.test(cr)))) // until = !while
                 .while_(c -> c.pop(true))
                 .failFast(false)
                 .timeout(timeout * 1000L)
-                .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)));
+                .backoff(BACKOFF)
+                .maxInterval(MAX_INTERVAL)
+                .jitter(JITTER)
+                .then(__ -> Promise.resolve(SUCCESS), error -> Promise.resolve(FlowStatus.fromError(error)))
+                .then(status -> done(composite.asCli(), context, status));
+    }
+
+    private static Promise<FlowStatus> done(final String cli, final FlowContext context, final FlowStatus status) {
+        logger.debug("Repeated {} {} time(s): {}", cli, context.iterations(), status);
+        return Promise.resolve(status);
     }
 
     private TimeoutHandler() {
@@ -18,6 +18,7 @@ package org.jboss.hal.core.runtime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -29,14 +30,17 @@ import org.jboss.hal.core.runtime.group.ServerGroup;
 import org.jboss.hal.core.runtime.host.Host;
 import org.jboss.hal.core.runtime.server.Server;
 import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelDescriptionConstants;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
+import org.jboss.hal.flow.SequentialTasks;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Messages;
@@ -101,6 +105,7 @@ public final class TopologyTasks {
     private static final String HOST_NAMES = "topologyTasks.hostNames"; // List<String>
     private static final String WILDCARD = "*";
     private static final int OPERATION_TIMEOUT = 3; // seconds
+    private static final int HOST_CONCURRENCY = 5; // max. number of parallel requests to read hosts
     private static final Logger logger = LoggerFactory.getLogger(TopologyTasks.class);
 
     // ------------------------------------------------------ topology
@@ -152,9 +157,7 @@ public final class TopologyTasks {
      */
     public static List<Task<FlowContext>> hosts(Environment environment, Dispatcher dispatcher) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
-        tasks.add(new HostsAndServerConfigs(environment, dispatcher));
-        tasks.add(new DisconnectedHosts(environment, dispatcher));
+        tasks.add(new DomainTopology(environment, dispatcher, true, false));
         tasks.add(new Topology(environment));
         return tasks;
     }
@@ -171,9 +174,7 @@ public final class TopologyTasks {
      */
     public static List<Task<FlowContext>> serverGroups(Environment environment, Dispatcher dispatcher) {
         List<Task<FlowContext>> tasks = new ArrayList<>();
-        tasks.add(new HostsNames(environment, dispatcher));
-        tasks.add(new HostsAndServerConfigs(environment, dispatcher));
-        tasks.add(new ServerGroups(environment, dispatcher));
+        tasks.add(new DomainTopology(environment, dispatcher, false, true));
         tasks.add(new Topology(environment));
         return tasks;
     }
@@ -266,6 +267,94 @@ public final class TopologyTasks {
                 }));
     }
 
+    /** Reads one host and its server configs using a composite operation. Adds a booting or failed host on errors. */
+    private static Task<FlowContext> hostAndServerConfigs(Dispatcher dispatcher, String host, List<Host> hosts,
+            List<Server> servers) {
+        ResourceAddress hostAddress = new ResourceAddress()
+                .add(ModelDescriptionConstants.HOST, host);
+        Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        ResourceAddress serverConfigAddress = new ResourceAddress()
+                .add(ModelDescriptionConstants.HOST, host)
+                .add(SERVER_CONFIG, WILDCARD);
+        Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
+                READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        Composite composite = new Composite(hostOperation, serverConfigOperation);
+        return (FlowContext c) -> dispatcher.execute(composite)
+                .then(result -> {
+                    Host h = new Host(result.step(0).get(RESULT));
+                    hosts.add(h);
+
+                    List<ModelNode> nodes = result.step(1).get(RESULT).asList();
+                    nodes.stream()
+                            .filter(node -> !node.isFailure())
+                            .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
+                            .forEach(server -> {
+                                h.addServer(server);
+                                servers.add(server);
+                            });
+                    return Promise.resolve(c);
+                })
+                .catch_(error -> {
+                    logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
+                    Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
+                            ? Host.booting(host)
+                            : Host.failed(host);
+                    hosts.add(h);
+                    return c.reject(String.valueOf(error));
+                });
+    }
+
+    private static Operation disconnectedHostsOperation() {
+        ResourceAddress address = new ResourceAddress()
+                .add(CORE_SERVICE, MANAGEMENT)
+                .add(HOST_CONNECTION, WILDCARD);
+        return new Operation.Builder(address, QUERY)
+                .param(SELECT, new ModelNode().add(EVENTS))
+                .param(WHERE, new ModelNode().set(CONNECTED, false))
+                .build();
+    }
+
+    private static List<Host> disconnectedHosts(ModelNode result) {
+        return result.asList().stream()
+                .filter(node -> !node.isFailure())
+                .map(node -> {
+                    String name = new ResourceAddress(node.get(ADDRESS)).lastValue();
+                    long registered = 0;
+                    long unregistered = 0;
+                    for (ModelNode event : failSafeList(node, RESULT + "/" + EVENTS)) {
+                        if (event.hasDefined(TYPE) && event.hasDefined(TIMESTAMP)) {
+                            if (REGISTERED.equals(event.get(TYPE).asString())) {
+                                registered = max(registered, event.get(TIMESTAMP).asLong());
+                            } else if (UNREGISTERED.equals(event.get(TYPE).asString())) {
+                                unregistered = max(unregistered, event.get(TIMESTAMP).asLong());
+                            }
+                        }
+                    }
+                    Date disconnected = unregistered != 0 ? new Date(unregistered) : null;
+                    Date lastConnected = registered != 0 ? new Date(registered) : null;
+                    return Host.disconnected(name, disconnected, lastConnected);
+                })
+                .collect(toList());
+    }
+
+    private static Operation serverGroupsOperation() {
+        return new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, ModelDescriptionConstants.SERVER_GROUP)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+    }
+
+    private static List<ServerGroup> serverGroups(ModelNode result) {
+        return result.asPropertyList().stream()
+                .map(ServerGroup::new)
+                .sorted(comparing(ServerGroup::getName))
+                .collect(toList());
+    }
+
     // ------------------------------------------------------ tasks
 
     private static final class Topology implements Task<FlowContext> {
@@ -374,6 +463,201 @@ public final class TopologyTasks {
         }
     }
 
+    /**
+     * Reads the host names, hosts, server configs and the attributes of running servers using wildcard operations in a single
+     * composite. Optionally reads disconnected hosts and server groups as part of the same composite. Boot errors of started
+     * servers are read in a second composite.
+     * <p>
+     * Hosts which are missing in the wildcard results or which failed (e.g. because they're still booting) are read one by
+     * one. If the composite fails as a whole, the topology is read host by host like before.
+     */
+    private static final class DomainTopology implements Task<FlowContext> {
+
+        private static final int HOST_NAMES_STEP = 0;
+        private static final int HOSTS_STEP = 1;
+        private static final int SERVER_CONFIGS_STEP = 2;
+        private static final int SERVERS_STEP = 3;
+
+        private final Environment environment;
+        private final Dispatcher dispatcher;
+        private final boolean disconnectedHosts;
+        private final boolean serverGroups;
+
+        private DomainTopology(Environment environment, Dispatcher dispatcher, boolean disconnectedHosts,
+                boolean serverGroups) {
+            this.environment = environment;
+            this.dispatcher = dispatcher;
+            this.disconnectedHosts = disconnectedHosts;
+            this.serverGroups = serverGroups;
+        }
+
+        @Override
+        public Promise<FlowContext> apply(final FlowContext context) {
+            List<String> hostNames = new ArrayList<>();
+            List<Host> hosts = new ArrayList<>();
+            List<Server> servers = new ArrayList<>();
+            context.set(HOST_NAMES, hostNames);
+            context.set(HOSTS, hosts);
+            context.set(SERVERS, servers);
+            if (serverGroups) {
+                context.set(SERVER_GROUPS, new ArrayList<ServerGroup>());
+            }
+
+            if (environment.isStandalone()) {
+                return Promise.resolve(context);
+            } else {
+                ResourceAddress hostAddress = new ResourceAddress().add(ModelDescriptionConstants.HOST, WILDCARD);
+                List<Operation> operations = new ArrayList<>();
+                operations.add(new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                        .param(CHILD_TYPE, ModelDescriptionConstants.HOST)
+                        .build());
+                operations.add(new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build());
+                operations.add(new Operation.Builder(new ResourceAddress(hostAddress).add(SERVER_CONFIG, WILDCARD),
+                        READ_RESOURCE_OPERATION)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build());
+                operations.add(new Operation.Builder(
+                        new ResourceAddress(hostAddress).add(ModelDescriptionConstants.SERVER, WILDCARD),
+                        READ_RESOURCE_OPERATION)
+                        .param(ATTRIBUTES_ONLY, true)
+                        .param(INCLUDE_RUNTIME, true)
+                        .build());
+                int disconnectedHostsStep = -1;
+                if (disconnectedHosts) {
+                    disconnectedHostsStep = operations.size();
+                    operations.add(disconnectedHostsOperation());
+                }
+                int serverGroupsStep = -1;
+                if (serverGroups) {
+                    serverGroupsStep = operations.size();
+                    operations.add(serverGroupsOperation());
+                }
+
+                int dhs = disconnectedHostsStep;
+                int sgs = serverGroupsStep;
+                return dispatcher.execute(new Composite(operations))
+                        .then(result -> {
+                            hostNames.addAll(result.step(HOST_NAMES_STEP).get(RESULT).asList().stream()
+                                    .map(ModelNode::asString)
+                                    .collect(toList()));
+                            List<String> missing = parse(result, hostNames, hosts, servers);
+                            if (dhs != -1) {
+                                hosts.addAll(disconnectedHosts(result.step(dhs).get(RESULT)));
+                            }
+                            if (sgs != -1) {
+                                List<ServerGroup> groups = context.get(SERVER_GROUPS);
+                                groups.addAll(serverGroups(result.step(sgs).get(RESULT)));
+                            }
+                            return readMissingHosts(context, missing, hosts, servers);
+                        })
+                        .then(c -> readBootErrors(context, servers))
+                        .catch_(error -> {
+                            logger.warn("TopologyTasks.DomainTopology failed: {}. Fall back to read the topology host by host.",
+                                    error);
+                            return fallback(context);
+                        });
+            }
+        }
+
+        /** Parses the wildcard results and returns the names of the hosts which need to be read one by one. */
+        private List<String> parse(CompositeResult result, List<String> hostNames, List<Host> hosts, List<Server> servers) {
+            Map<String, Host> hostsByName = new HashMap<>();
+            for (ModelNode node : result.step(HOSTS_STEP).get(RESULT).asList()) {
+                if (!node.isFailure()) {
+                    String name = new ResourceAddress(node.get(ADDRESS)).lastValue();
+                    Host host = new Host(new Property(name, node.get(RESULT)));
+                    hostsByName.put(name, host);
+                    hosts.add(host);
+                }
+            }
+
+            Map<String, Server> serversById = new HashMap<>();
+            for (ModelNode node : result.step(SERVER_CONFIGS_STEP).get(RESULT).asList()) {
+                if (!node.isFailure()) {
+                    ResourceAddress address = new ResourceAddress(node.get(ADDRESS));
+                    Host host = hostsByName.get(address.getParent().lastValue());
+                    if (host != null) {
+                        Server server = new Server(host.getAddressName(), node.get(RESULT));
+                        host.addServer(server);
+                        servers.add(server);
+                        serversById.put(server.getId(), server);
+                    }
+                }
+            }
+
+            for (ModelNode node : result.step(SERVERS_STEP).get(RESULT).asList()) {
+                if (!node.isFailure()) {
+                    ResourceAddress address = new ResourceAddress(node.get(ADDRESS));
+                    Server server = serversById.get(Ids.hostServer(address.getParent().lastValue(), address.lastValue()));
+                    if (server != null && server.isStarted()) {
+                        server.addServerAttributes(node.get(RESULT));
+                    }
+                }
+            }
+
+            return hostNames.stream().filter(name -> !hostsByName.containsKey(name)).collect(toList());
+        }
+
+        private Promise<FlowContext> readMissingHosts(FlowContext context, List<String> missing, List<Host> hosts,
+                List<Server> servers) {
+            if (missing.isEmpty()) {
+                return Promise.resolve(context);
+            }
+            logger.debug("TopologyTasks.DomainTopology: Read hosts {} one by one", missing);
+            List<Task<FlowContext>> tasks = missing.stream()
+                    .map(host -> hostAndServerConfigs(dispatcher, host, hosts, servers))
+                    .collect(toList());
+            return Flow.parallel(new FlowContext(Progress.NOOP), tasks)
+                    .concurrency(HOST_CONCURRENCY)
+                    .failFast(false)
+                    .promise()
+                    .then(c -> Promise.resolve(context))
+                    .catch_(error -> Promise.resolve(context)); // failed hosts have been added as booting / failed
+        }
+
+        private Promise<FlowContext> readBootErrors(FlowContext context, List<Server> servers) {
+            List<Server> startedServers = servers.stream().filter(Server::isStarted).collect(toList());
+            if (startedServers.isEmpty()) {
+                return Promise.resolve(context);
+            }
+            List<Operation> operations = startedServers.stream()
+                    .map(server -> new Operation.Builder(server.getServerAddress().add(CORE_SERVICE, MANAGEMENT),
+                            READ_BOOT_ERRORS).build())
+                    .collect(toList());
+            Composite composite = new Composite(operations);
+            composite.addHeader(BLOCKING_TIMEOUT, OPERATION_TIMEOUT);
+            return dispatcher.execute(composite)
+                    .then(result -> {
+                        for (int i = 0; i < startedServers.size(); i++) {
+                            ModelNode step = result.step(i);
+                            if (!step.isFailure()) {
+                                startedServers.get(i).setBootErrors(!step.get(RESULT).asList().isEmpty());
+                            }
+                        }
+                        return Promise.resolve(context);
+                    })
+                    .catch_(error -> {
+                        logger.error("TopologyTasks.DomainTopology failed to read boot errors: {}", error);
+                        return Promise.resolve(context);
+                    });
+        }
+
+        private Promise<FlowContext> fallback(FlowContext context) {
+            List<Task<FlowContext>> tasks = new ArrayList<>();
+            tasks.add(new HostsNames(environment, dispatcher));
+            tasks.add(new HostsAndServerConfigs(environment, dispatcher));
+            if (disconnectedHosts) {
+                tasks.add(new DisconnectedHosts(environment, dispatcher));
+            }
+            if (serverGroups) {
+                tasks.add(new ServerGroups(environment, dispatcher));
+            }
+            return new SequentialTasks<>(tasks).apply(context);
+        }
+    }
+
     private static final class HostsAndServerConfigs implements Task<FlowContext> {
 
         private final Environment environment;
@@ -396,46 +680,10 @@ public final class TopologyTasks {
             } else {
                 List<String> hostNames = context.get(HOST_NAMES, Collections.emptyList());
                 List<Task<FlowContext>> tasks = hostNames.stream()
-                        .map(host -> {
-                            ResourceAddress hostAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host);
-                            Operation hostOperation = new Operation.Builder(hostAddress, READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            ResourceAddress serverConfigAddress = new ResourceAddress()
-                                    .add(ModelDescriptionConstants.HOST, host)
-                                    .add(SERVER_CONFIG, WILDCARD);
-                            Operation serverConfigOperation = new Operation.Builder(serverConfigAddress,
-                                    READ_RESOURCE_OPERATION)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            Composite composite = new Composite(hostOperation, serverConfigOperation);
-                            return (Task<FlowContext>) (FlowContext c) -> dispatcher.execute(composite)
-                                    .then(result -> {
-                                        Host h = new Host(result.step(0).get(RESULT));
-                                        hosts.add(h);
-
-                                        List<ModelNode> nodes = result.step(1).get(RESULT).asList();
-                                        nodes.stream()
-                                                .filter(node -> !node.isFailure())
-                                                .map(node -> new Server(h.getAddressName(), node.get(RESULT)))
-                                                .forEach(server -> {
-                                                    h.addServer(server);
-                                                    servers.add(server);
-                                                });
-                                        return Promise.resolve(c);
-                                    })
-                                    .catch_(error -> {
-                                        logger.error("TopologyTasks.HostsAndServerConfigs failed: {}", error);
-                                        Host h = String.valueOf(error).contains(ERROR_WFY_CTL_0379)
-                                                ? Host.booting(host)
-                                                : Host.failed(host);
-                                        hosts.add(h);
-                                        return context.reject(String.valueOf(error));
-                                    });
-                        })
+                        .map(host -> hostAndServerConfigs(dispatcher, host, hosts, servers))
                         .collect(toList());
-                return Flow.sequential(new FlowContext(Progress.NOOP), tasks)
+                return Flow.parallel(new FlowContext(Progress.NOOP), tasks)
+                        .concurrency(HOST_CONCURRENCY)
                         .failFast(false)
                         .promise();
             }
@@ -457,35 +705,9 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                ResourceAddress address = new ResourceAddress()
-                        .add(CORE_SERVICE, MANAGEMENT)
-                        .add(HOST_CONNECTION, WILDCARD);
-                Operation operation = new Operation.Builder(address, QUERY)
-                        .param(SELECT, new ModelNode().add(EVENTS))
-                        .param(WHERE, new ModelNode().set(CONNECTED, false))
-                        .build();
-                return dispatcher.execute(operation)
+                return dispatcher.execute(disconnectedHostsOperation())
                         .then(result -> {
-                            List<Host> disconnectedHosts = result.asList().stream()
-                                    .filter(node -> !node.isFailure())
-                                    .map(node -> {
-                                        String name = new ResourceAddress(node.get(ADDRESS)).lastValue();
-                                        long registered = 0;
-                                        long unregistered = 0;
-                                        for (ModelNode event : failSafeList(node, RESULT + "/" + EVENTS)) {
-                                            if (event.hasDefined(TYPE) && event.hasDefined(TIMESTAMP)) {
-                                                if (REGISTERED.equals(event.get(TYPE).asString())) {
-                                                    registered = max(registered, event.get(TIMESTAMP).asLong());
-                                                } else if (UNREGISTERED.equals(event.get(TYPE).asString())) {
-                                                    unregistered = max(unregistered, event.get(TIMESTAMP).asLong());
-                                                }
-                                            }
-                                        }
-                                        Date disconnected = unregistered != 0 ? new Date(unregistered) : null;
-                                        Date lastConnected = registered != 0 ? new Date(registered) : null;
-                                        return Host.disconnected(name, disconnected, lastConnected);
-                                    })
-                                    .collect(toList());
+                            List<Host> disconnectedHosts = disconnectedHosts(result);
                             List<Host> hosts = context.get(HOSTS);
                             if (hosts == null) {
                                 hosts = new ArrayList<>();
@@ -520,17 +742,9 @@ public final class TopologyTasks {
             if (environment.isStandalone()) {
                 return Promise.resolve(context);
             } else {
-                Operation operation = new Operation.Builder(ResourceAddress.root(),
-                        READ_CHILDREN_RESOURCES_OPERATION)
-                        .param(CHILD_TYPE, ModelDescriptionConstants.SERVER_GROUP)
-                        .param(INCLUDE_RUNTIME, true)
-                        .build();
-                return dispatcher.execute(operation)
+                return dispatcher.execute(serverGroupsOperation())
                         .then(result -> {
-                            serverGroups.addAll(result.asPropertyList().stream()
-                                    .map(ServerGroup::new)
-                                    .sorted(comparing(ServerGroup::getName))
-                                    .collect(toList()));
+                            serverGroups.addAll(serverGroups(result));
                             return Promise.resolve(context);
                         })
                         .catch_(error -> {
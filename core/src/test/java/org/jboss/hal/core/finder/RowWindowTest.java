@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.finder;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RowWindowTest {
+
+    @Test
+    public void empty() {
+        assertEquals(RowWindow.EMPTY, RowWindow.of(0, 500, 50, 0, 10));
+        assertEquals(0, RowWindow.EMPTY.size());
+    }
+
+    @Test
+    public void top() {
+        RowWindow window = RowWindow.of(0, 500, 50, 1000, 10);
+        assertEquals(0, window.first);
+        assertEquals(20, window.last);
+    }
+
+    @Test
+    public void middle() {
+        RowWindow window = RowWindow.of(5000, 500, 50, 1000, 10);
+        assertEquals(90, window.first);
+        assertEquals(120, window.last);
+        assertTrue(window.contains(100));
+        assertFalse(window.contains(120));
+    }
+
+    @Test
+    public void bottom() {
+        RowWindow window = RowWindow.of(50_000, 500, 50, 1000, 10);
+        assertEquals(989, window.first);
+        assertEquals(1000, window.last);
+    }
+
+    @Test
+    public void lessRowsThanViewport() {
+        RowWindow window = RowWindow.of(0, 500, 50, 3, 10);
+        assertEquals(0, window.first);
+        assertEquals(3, window.last);
+    }
+
+    @Test
+    public void noViewport() {
+        RowWindow window = RowWindow.of(0, 0, 50, 1000, 10);
+        assertEquals(RowWindow.FALLBACK_VISIBLE_ROWS + 10, window.size());
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.metrics;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class MetricBufferTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void empty() {
+        MetricBuffer buffer = new MetricBuffer(3);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.values().length);
+        assertTrue(Double.isNaN(buffer.latest()));
+    }
+
+    @Test
+    public void partial() {
+        MetricBuffer buffer = new MetricBuffer(3);
+        buffer.add(1, 10);
+        buffer.add(2, 20);
+
+        assertEquals(2, buffer.size());
+        assertArrayEquals(new double[] { 10, 20 }, buffer.values(), DELTA);
+        assertEquals(20, buffer.latest(), DELTA);
+        assertEquals(1, buffer.timestamp(0));
+    }
+
+    @Test
+    public void wrap() {
+        MetricBuffer buffer = new MetricBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i, i * 10);
+        }
+
+        assertEquals(3, buffer.size());
+        assertArrayEquals(new double[] { 30, 40, 50 }, buffer.values(), DELTA);
+        assertEquals(30, buffer.get(0), DELTA);
+        assertEquals(50, buffer.get(2), DELTA);
+        assertEquals(3, buffer.timestamp(0));
+        assertEquals(5, buffer.timestamp(2));
+    }
+
+    @Test
+    public void clear() {
+        MetricBuffer buffer = new MetricBuffer(2);
+        buffer.add(1, 10);
+        buffer.add(2, 20);
+        buffer.clear();
+        buffer.add(3, 30);
+
+        assertArrayEquals(new double[] { 30 }, buffer.values(), DELTA);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        MetricBuffer buffer = new MetricBuffer(2);
+        buffer.add(1, 10);
+        buffer.get(1);
+    }
+}
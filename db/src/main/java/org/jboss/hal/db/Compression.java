@@ -0,0 +1,69 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.db;
+
+import elemental2.core.ArrayBuffer;
+import elemental2.dom.Blob;
+import elemental2.dom.ReadableStream;
+import elemental2.dom.Response;
+import elemental2.dom.TransformStream;
+import elemental2.promise.Promise;
+import jsinterop.annotations.JsConstructor;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+
+/** Compresses and decompresses binary data in the gzip format using the compression streams API of the browser. */
+public final class Compression {
+
+    public static final String CONTENT_TYPE = "application/gzip";
+    private static final String GZIP = "gzip";
+
+    /** @return whether the browser supports the compression streams API */
+    public static boolean supported() {
+        return Js.global().has("CompressionStream") && Js.global().has("DecompressionStream");
+    }
+
+    public static Promise<Blob> compress(Blob data) {
+        ReadableStream<?> compressed = new Response(data).body.pipeThrough(new CompressionStream(GZIP));
+        return new Response(Js.<Response.ConstructorBodyUnionType> uncheckedCast(compressed)).blob();
+    }
+
+    public static Promise<ArrayBuffer> decompress(Blob data) {
+        ReadableStream<?> decompressed = new Response(data).body.pipeThrough(new DecompressionStream(GZIP));
+        return new Response(Js.<Response.ConstructorBodyUnionType> uncheckedCast(decompressed)).arrayBuffer();
+    }
+
+    private Compression() {
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL)
+    private static class CompressionStream extends TransformStream<Object, Object> {
+
+        @JsConstructor
+        CompressionStream(String format) {
+        }
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL)
+    private static class DecompressionStream extends TransformStream<Object, Object> {
+
+        @JsConstructor
+        DecompressionStream(String format) {
+        }
+    }
+}
@@ -19,10 +19,12 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Predicate;
 
 import org.jboss.hal.db.AllDocsResponse.Row;
 
 import elemental2.core.JsArray;
+import elemental2.dom.Blob;
 import elemental2.promise.Promise;
 import jsinterop.annotations.JsConstructor;
 import jsinterop.annotations.JsMethod;
@@ -86,6 +88,11 @@ public class PouchDB {
 
     native Promise<AllDocsResponse> allDocs(AllDocsOptions options);
 
+    // ------------------------------------------------------ attachments
+
+    /** Returns the attachment of the specified document as blob. */
+    public native Promise<Blob> getAttachment(String id, String attachment);
+
     // ------------------------------------------------------ put
 
     @JsOverlay
@@ -116,4 +123,28 @@ public class PouchDB {
 
     @JsMethod
     native Promise<JsArray<BulkDocsSingleUnionType>> bulkDocs(JsArray<Document> documents);
+
+    // ------------------------------------------------------ remove
+
+    /** Removes all documents matching the specified predicate and returns the IDs of the removed documents. */
+    @JsOverlay
+    public final Promise<Set<String>> removeIf(Predicate<Document> predicate) {
+        AllDocsOptions options = new AllDocsOptions();
+        options.include_docs = true;
+
+        return allDocs(options).then(response -> {
+            List<Document> documents = new ArrayList<>();
+            for (int i = 0; i < response.rows.getLength(); i++) {
+                Row row = response.rows.getAt(i);
+                if (row.doc != null && predicate.test(row.doc)) {
+                    row.doc.set("_deleted", true);
+                    documents.add(row.doc);
+                }
+            }
+            if (documents.isEmpty()) {
+                return Promise.resolve(new HashSet<>());
+            }
+            return putAll(documents);
+        });
+    }
 }
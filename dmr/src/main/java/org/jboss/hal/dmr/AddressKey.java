@@ -0,0 +1,137 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Immutable and interned map key for a {@link ResourceAddress}.
+ * <p>
+ * {@link ResourceAddress} is a mutable {@link ModelNode}. Using it as a map key means that each call to {@code hashCode()} and
+ * {@code equals()} walks the nested model values. An address key holds a canonical string and a precomputed hash instead.
+ * Keys are interned, so keys for equal addresses are usually the same instance and {@code equals()} returns on the identity
+ * check.
+ * <p>
+ * The canonical string uses the form {@code /name=value/name=value}. Backslashes, '/' and '=' inside names and values are
+ * escaped using a backslash, so two keys are equal if and only if the addresses are equal.
+ */
+public final class AddressKey {
+
+    /** The interned keys are dropped once this limit is reached. Keys stay valid, they're just no longer shared. */
+    static final int MAX_INTERNED = 10_000;
+
+    private static final Map<String, AddressKey> interned = new HashMap<>();
+    private static final AddressKey ROOT = new AddressKey("/", new String[0]);
+
+    /** @return the interned key for the specified address */
+    public static AddressKey of(ResourceAddress address) {
+        if (address == null || address.size() == 0) {
+            return ROOT;
+        }
+
+        int index = 0;
+        String[] segments = new String[address.size() * 2];
+        StringBuilder builder = new StringBuilder();
+        for (Property property : address.asPropertyList()) {
+            String name = property.getName();
+            String value = property.getValue().asString();
+            segments[index++] = name;
+            segments[index++] = value;
+            builder.append('/');
+            escape(builder, name);
+            builder.append('=');
+            escape(builder, value);
+        }
+        String canonical = builder.toString();
+
+        AddressKey key = interned.get(canonical);
+        if (key == null) {
+            if (interned.size() >= MAX_INTERNED) {
+                interned.clear();
+            }
+            key = new AddressKey(canonical, segments);
+            interned.put(canonical, key);
+        }
+        return key;
+    }
+
+    /** @return the key for the root address */
+    public static AddressKey root() {
+        return ROOT;
+    }
+
+    static int internedSize() {
+        return interned.size();
+    }
+
+    private static void escape(StringBuilder builder, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\\' || c == '/' || c == '=') {
+                builder.append('\\');
+            }
+            builder.append(c);
+        }
+    }
+
+    private final String canonical;
+    private final String[] segments;
+    private final int hash;
+
+    private AddressKey(String canonical, String[] segments) {
+        this.canonical = canonical;
+        this.segments = segments;
+        this.hash = canonical.hashCode();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AddressKey)) {
+            return false;
+        }
+        AddressKey that = (AddressKey) o;
+        return hash == that.hash && canonical.equals(that.canonical);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /** @return the canonical string of this key */
+    @Override
+    public String toString() {
+        return canonical;
+    }
+
+    /** @return a new resource address for this key. The address can be modified without affecting this key. */
+    public ResourceAddress address() {
+        ResourceAddress address = ResourceAddress.root();
+        for (int i = 0; i < segments.length; i += 2) {
+            address.add(segments[i], segments[i + 1]);
+        }
+        return address;
+    }
+
+    /** @return the number of segments */
+    public int size() {
+        return segments.length / 2;
+    }
+}
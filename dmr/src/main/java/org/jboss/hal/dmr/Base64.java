@@ -22,12 +22,69 @@ import static jsinterop.annotations.JsPackage.GLOBAL;
 /** Encodes and decodes to and from Base64 notation. */
 public class Base64 {
 
+    private static final int WHITESPACE = -2;
+    private static final int INVALID = -1;
+    private static final int[] DECODE_TABLE = new int[128];
+
+    static {
+        String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789+/";
+        for (int i = 0; i < DECODE_TABLE.length; i++) {
+            DECODE_TABLE[i] = INVALID;
+        }
+        for (int i = 0; i < alphabet.length(); i++) {
+            DECODE_TABLE[alphabet.charAt(i)] = i;
+        }
+        DECODE_TABLE[' '] = WHITESPACE;
+        DECODE_TABLE['\t'] = WHITESPACE;
+        DECODE_TABLE['\n'] = WHITESPACE;
+        DECODE_TABLE['\r'] = WHITESPACE;
+    }
+
     @JsMethod(namespace = GLOBAL, name = "btoa")
     public static native String encode(String decoded);
 
     @JsMethod(namespace = GLOBAL, name = "atob")
     public static native String decode(String encoded);
 
+    /**
+     * Decodes the base64 encoded ASCII bytes in {@code data} and writes the decoded bytes back into the same array. Line
+     * breaks and other whitespace are skipped. Since the decoded data is always shorter than the encoded data, no additional
+     * buffer is necessary. This makes it possible to decode a typed array view of a binary response without going through
+     * {@code atob()} and an intermediate string.
+     *
+     * @param data the base64 encoded bytes; overwritten with the decoded bytes
+     *
+     * @return the number of decoded bytes at the beginning of {@code data}
+     *
+     * @throws IllegalArgumentException if {@code data} contains characters which are not part of the base64 alphabet
+     */
+    public static int decodeInPlace(byte[] data) {
+        int length = 0;
+        int buffer = 0;
+        int bits = 0;
+        for (int i = 0; i < data.length; i++) {
+            int c = data[i];
+            if (c == '=') {
+                break;
+            }
+            int value = c >= 0 && c < DECODE_TABLE.length ? DECODE_TABLE[c] : INVALID;
+            if (value == WHITESPACE) {
+                continue;
+            }
+            if (value == INVALID) {
+                throw new IllegalArgumentException("Illegal base64 character " + c + " at index " + i);
+            }
+            buffer = (buffer << 6) | value;
+            bits += 6;
+            if (bits >= 8) {
+                bits -= 8;
+                data[length++] = (byte) (buffer >> bits);
+                buffer &= (1 << bits) - 1;
+            }
+        }
+        return length;
+    }
+
     /** Defeats instantiation. */
     private Base64() {
     }
@@ -41,6 +41,11 @@ class BigDecimalModelValue extends ModelValue {
         out.writeUTF(value.toString());
     }
 
+    @Override
+    int encodedSize() {
+        return utfSize(value.toString());
+    }
+
     @Override
     long asLong() {
         return value.longValue();
@@ -44,6 +44,11 @@ class BigIntegerModelValue extends ModelValue {
         out.write(b);
     }
 
+    @Override
+    int encodedSize() {
+        return 4 + value.toByteArray().length;
+    }
+
     @Override
     long asLong() {
         return value.longValue();
@@ -42,6 +42,11 @@ class BooleanModelValue extends ModelValue {
         out.writeBoolean(value);
     }
 
+    @Override
+    int encodedSize() {
+        return 1;
+    }
+
     @Override
     long asLong() {
         return value ? 1 : 0;
@@ -47,6 +47,11 @@ class BytesModelValue extends ModelValue {
         out.write(bytes);
     }
 
+    @Override
+    int encodedSize() {
+        return 4 + bytes.length;
+    }
+
     @Override
     long asLong() {
         byte[] bytes = this.bytes;
@@ -22,16 +22,67 @@ import elemental2.core.Int8Array;
 class DataInput {
 
     private final byte[] bytes;
+    private final int limit;
+    private final boolean lazy;
     private int pos = 0;
 
     DataInput(byte[] bytes) {
+        this(bytes, bytes.length, false);
+    }
+
+    /**
+     * Reads only the first {@code limit} bytes. Used for buffers which were decoded in place.
+     *
+     * @param lazy whether objects and lists should be decoded lazily. See {@link LazyModelValue}.
+     */
+    DataInput(byte[] bytes, int limit, boolean lazy) {
         this.bytes = bytes;
+        this.limit = limit;
+        this.lazy = lazy;
+    }
+
+    boolean isLazy() {
+        return lazy;
+    }
+
+    int position() {
+        return pos;
+    }
+
+    /** Returns a new data input which shares the bytes of this input, but starts reading at the given position. */
+    DataInput at(int position) {
+        DataInput input = new DataInput(bytes, limit, lazy);
+        input.pos = position;
+        return input;
+    }
+
+    /** Returns a new data input which reads a copy of {@code length} bytes starting at {@code offset}. */
+    DataInput slice(int offset, int length) {
+        // copy by hand: the bytes might be a typed array in JavaScript
+        byte[] copy = new byte[length];
+        for (int i = 0; i < length; i++) {
+            copy[i] = bytes[offset + i];
+        }
+        return new DataInput(copy, length, lazy);
+    }
+
+    // ------------------------------------------------------ skip
+
+    void skip(int n) {
+        if (pos + n > limit) {
+            throw new RuntimeException("EOF");
+        }
+        pos += n;
+    }
+
+    void skipUTF() {
+        skip(readUnsignedShort());
     }
 
     // ------------------------------------------------------ read a-z
 
     private int read() {
-        if (pos >= bytes.length) {
+        if (pos >= limit) {
             return -1;
         }
         return bytes[pos++] & 0xFF;
@@ -69,6 +120,9 @@ class DataInput {
     }
 
     void readFully(byte[] b) {
+        if (pos + b.length > limit) {
+            throw new RuntimeException("EOF");
+        }
         for (int i = 0; i < b.length; i++) {
             b[i] = bytes[pos++];
         }
@@ -21,6 +21,7 @@ import elemental2.core.ArrayBuffer;
 import elemental2.core.DataView;
 import elemental2.core.Int8Array;
 import elemental2.core.JsArray;
+import jsinterop.base.Js;
 
 class DataOutput {
 
@@ -30,6 +31,11 @@ class DataOutput {
         bytes = new JsArray<>();
     }
 
+    /** @return the written bytes as typed array w/o an intermediate string */
+    Int8Array toInt8Array() {
+        return new Int8Array(Js.<JsArray<Double>> uncheckedCast(bytes));
+    }
+
     @Override
     public String toString() {
         int length = bytes.getLength();
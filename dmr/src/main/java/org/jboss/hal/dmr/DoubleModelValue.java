@@ -35,6 +35,11 @@ class DoubleModelValue extends ModelValue {
         out.writeDouble(value);
     }
 
+    @Override
+    int encodedSize() {
+        return 8;
+    }
+
     @Override
     long asLong() {
         return (long) value;
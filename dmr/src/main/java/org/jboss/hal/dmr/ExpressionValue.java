@@ -167,6 +167,11 @@ class ExpressionValue extends ModelValue {
         out.writeUTF(expressionString);
     }
 
+    @Override
+    int encodedSize() {
+        return utfSize(expressionString);
+    }
+
     @Override
     String asString() {
         return expressionString;
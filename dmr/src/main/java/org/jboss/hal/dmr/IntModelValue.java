@@ -35,6 +35,11 @@ class IntModelValue extends ModelValue {
         out.writeInt(value);
     }
 
+    @Override
+    int encodedSize() {
+        return 4;
+    }
+
     @Override
     long asLong() {
         return value;
@@ -0,0 +1,315 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * An object or list value which is decoded on demand. While reading the binary representation, the content of the object or
+ * list is only skipped and the byte offset is recorded. The actual {@link ObjectModelValue} or {@link ListModelValue} is
+ * decoded when the value is accessed for the first time. Nested objects and lists are again decoded lazily.
+ * <p>
+ * Large payloads like recursive {@code read-resource} or {@code read-resource-description} responses thus only cost what's
+ * actually used by the caller.
+ * <p>
+ * A lazy value references the bytes of the complete payload until it's decoded. Once decoded, the reference is released.
+ * Use {@link ModelNode#detach()} to copy the bytes of a lazy value which is kept w/o being decoded.
+ */
+class LazyModelValue extends ModelValue {
+
+    /** Returns the decoded value if {@code value} is a lazy value, {@code value} otherwise. */
+    static ModelValue unwrap(ModelValue value) {
+        return value instanceof LazyModelValue ? ((LazyModelValue) value).value() : value;
+    }
+
+    private DataInput in;
+    private int offset;
+    private final int length;
+    private ModelValue value;
+
+    LazyModelValue(ModelType type, DataInput in) {
+        super(type);
+        this.in = in;
+        this.offset = in.position();
+        skip(type, in);
+        this.length = in.position() - offset;
+    }
+
+    private LazyModelValue(ModelType type, DataInput in, int offset, int length) {
+        super(type);
+        this.in = in;
+        this.offset = offset;
+        this.length = length;
+    }
+
+    private ModelValue value() {
+        if (value == null) {
+            DataInput input = in.at(offset);
+            value = getType() == ModelType.OBJECT ? new ObjectModelValue(input) : new ListModelValue(input);
+            // nested lazy values keep their own reference, this value doesn't need the payload anymore
+            in = null;
+        }
+        return value;
+    }
+
+    // ------------------------------------------------------ skip
+
+    private static void skipValue(DataInput in) {
+        ModelType type = ModelType.forChar((char) (in.readByte() & 0xff));
+        skip(type, in);
+    }
+
+    private static void skip(ModelType type, DataInput in) {
+        switch (type) {
+            case UNDEFINED:
+                break;
+            case BOOLEAN:
+            case TYPE:
+                in.skip(1);
+                break;
+            case INT:
+                in.skip(4);
+                break;
+            case LONG:
+            case DOUBLE:
+                in.skip(8);
+                break;
+            case BIG_DECIMAL:
+            case EXPRESSION:
+            case STRING:
+                in.skipUTF();
+                break;
+            case BIG_INTEGER:
+            case BYTES:
+                in.skip(in.readInt());
+                break;
+            case LIST: {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    skipValue(in);
+                }
+                break;
+            }
+            case OBJECT: {
+                int count = in.readInt();
+                for (int i = 0; i < count; i++) {
+                    in.skipUTF();
+                    skipValue(in);
+                }
+                break;
+            }
+            case PROPERTY:
+                in.skipUTF();
+                skipValue(in);
+                break;
+            default:
+                throw new IllegalStateException("Invalid type read: " + type);
+        }
+    }
+
+    // ------------------------------------------------------ delegates
+
+    @Override
+    long asLong() {
+        return value().asLong();
+    }
+
+    @Override
+    long asLong(long defVal) {
+        return value().asLong(defVal);
+    }
+
+    @Override
+    int asInt() {
+        return value().asInt();
+    }
+
+    @Override
+    int asInt(int defVal) {
+        return value().asInt(defVal);
+    }
+
+    @Override
+    boolean asBoolean() {
+        return value().asBoolean();
+    }
+
+    @Override
+    boolean asBoolean(boolean defVal) {
+        return value().asBoolean(defVal);
+    }
+
+    @Override
+    double asDouble() {
+        return value().asDouble();
+    }
+
+    @Override
+    double asDouble(double defVal) {
+        return value().asDouble(defVal);
+    }
+
+    @Override
+    byte[] asBytes() {
+        return value().asBytes();
+    }
+
+    @Override
+    BigDecimal asBigDecimal() {
+        return value().asBigDecimal();
+    }
+
+    @Override
+    BigInteger asBigInteger() {
+        return value().asBigInteger();
+    }
+
+    @Override
+    String asString() {
+        return value().asString();
+    }
+
+    @Override
+    Property asProperty() {
+        return value().asProperty();
+    }
+
+    @Override
+    List<Property> asPropertyList() {
+        return value().asPropertyList();
+    }
+
+    @Override
+    ModelNode asObject() {
+        return value().asObject();
+    }
+
+    @Override
+    ModelNode getChild(String name) {
+        return value().getChild(name);
+    }
+
+    @Override
+    ModelNode removeChild(String name) {
+        return value().removeChild(name);
+    }
+
+    @Override
+    ModelNode getChild(int index) {
+        return value().getChild(index);
+    }
+
+    @Override
+    ModelNode addChild() {
+        return value().addChild();
+    }
+
+    @Override
+    Set<String> getKeys() {
+        return value().getKeys();
+    }
+
+    @Override
+    List<ModelNode> asList() {
+        return value().asList();
+    }
+
+    @Override
+    ModelType asType() {
+        return value().asType();
+    }
+
+    @Override
+    ModelValue protect() {
+        return value().protect();
+    }
+
+    @Override
+    ModelValue copy() {
+        // the underlying bytes never change: as long as this value is not decoded, a copy is just another lazy value
+        return value == null ? new LazyModelValue(getType(), in, offset, length) : value.copy();
+    }
+
+    @Override
+    ModelValue resolve() {
+        return value().resolve();
+    }
+
+    @Override
+    void format(StringBuilder builder, int indent, boolean multiLine) {
+        value().format(builder, indent, multiLine);
+    }
+
+    @Override
+    void formatAsJSON(StringBuilder builder, int indent, boolean multiLine) {
+        value().formatAsJSON(builder, indent, multiLine);
+    }
+
+    @Override
+    void writeExternal(DataOutput out) {
+        value().writeExternal(out);
+    }
+
+    @Override
+    void detach() {
+        if (value == null) {
+            in = in.slice(offset, length);
+            offset = 0;
+        } else {
+            value.detach();
+        }
+    }
+
+    @Override
+    int encodedSize() {
+        // as long as this value is not decoded, the size is the length of the skipped bytes
+        return value == null ? length : value.encodedSize();
+    }
+
+    @Override
+    boolean has(int index) {
+        return value().has(index);
+    }
+
+    @Override
+    boolean has(String key) {
+        return value().has(key);
+    }
+
+    @Override
+    ModelNode requireChild(String name) throws NoSuchElementException {
+        return value().requireChild(name);
+    }
+
+    @Override
+    ModelNode requireChild(int index) throws NoSuchElementException {
+        return value().requireChild(index);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return value().equals(other instanceof ModelValue ? unwrap((ModelValue) other) : other);
+    }
+
+    @Override
+    public int hashCode() {
+        return value().hashCode();
+    }
+}
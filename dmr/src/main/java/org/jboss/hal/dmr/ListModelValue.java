@@ -66,6 +66,22 @@ class ListModelValue extends ModelValue {
         }
     }
 
+    @Override
+    int encodedSize() {
+        int size = 4;
+        for (ModelNode node : list) {
+            size += node.encodedSize();
+        }
+        return size;
+    }
+
+    @Override
+    void detach() {
+        for (ModelNode node : list) {
+            node.detach();
+        }
+    }
+
     @Override
     ModelValue protect() {
         List<ModelNode> list = this.list;
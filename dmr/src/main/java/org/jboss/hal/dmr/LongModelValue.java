@@ -35,6 +35,11 @@ class LongModelValue extends ModelValue {
         out.writeLong(value);
     }
 
+    @Override
+    int encodedSize() {
+        return 8;
+    }
+
     @Override
     long asLong() {
         return value;
@@ -701,6 +701,7 @@ public interface ModelDescriptionConstants {
     String POJO = "pojo";
     String POLICY = "policy";
     String POLICY_MODULE = "policy-module";
+    String POOL = "pool";
     String POOL_CURRENT_SIZE = "pool-current-size";
     String POOL_MAX_SIZE = "pool-max-size";
     String POOL_NAME = "pool-name";
@@ -25,6 +25,10 @@ import java.util.Set;
 
 import com.google.common.base.CharMatcher;
 
+import elemental2.core.ArrayBuffer;
+import elemental2.core.Int8Array;
+import jsinterop.base.Js;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
@@ -52,6 +56,66 @@ public class ModelNode implements Cloneable {
         return node;
     }
 
+    /**
+     * Creates a new node from a buffer holding the base64 encoded bytes of a DMR response. Other than
+     * {@link #fromBase64(String)} this does not need {@code atob()} or an intermediate string: The encoded bytes are decoded
+     * in place and the model is read directly from a typed array view of the buffer.
+     *
+     * @param encoded The buffer with the base64 encoded bytes. The buffer is modified during decoding!
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(ArrayBuffer encoded) {
+        return fromBase64(encoded, false);
+    }
+
+    /**
+     * Same as {@link #fromBase64(ArrayBuffer)}, but optionally decodes nested objects and lists lazily: Their content is
+     * only skipped while reading and decoded when the object or list is accessed for the first time. Use this for large
+     * payloads where only a small part of the model is actually used.
+     *
+     * @param encoded The buffer with the base64 encoded bytes. The buffer is modified during decoding!
+     * @param lazy    whether to decode nested objects and lists lazily
+     *
+     * @return the new model node
+     */
+    public static ModelNode fromBase64(ArrayBuffer encoded, boolean lazy) {
+        byte[] bytes = Js.uncheckedCast(new Int8Array(encoded));
+        return fromBase64(bytes, lazy);
+    }
+
+    static ModelNode fromBase64(byte[] encoded, boolean lazy) {
+        int length = Base64.decodeInPlace(encoded);
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(encoded, length, lazy));
+        return node;
+    }
+
+    /**
+     * Reads the nodes which were written one after another in their binary form (w/o base64 encoding) using
+     * {@link #toBinary()}.
+     *
+     * @param binary the buffer with the binary encoded nodes
+     * @param lazy   whether to decode nested objects and lists lazily
+     *
+     * @return the nodes in the order they were written
+     */
+    public static List<ModelNode> fromBinary(ArrayBuffer binary, boolean lazy) {
+        byte[] bytes = Js.uncheckedCast(new Int8Array(binary));
+        return fromBinary(bytes, lazy);
+    }
+
+    static List<ModelNode> fromBinary(byte[] bytes, boolean lazy) {
+        List<ModelNode> nodes = new ArrayList<>();
+        DataInput in = new DataInput(bytes, bytes.length, lazy);
+        while (in.position() < bytes.length) {
+            ModelNode node = new ModelNode();
+            node.readExternal(in);
+            nodes.add(node);
+        }
+        return nodes;
+    }
+
     private static native byte[] toBytes(String str) /*-{
         var bytes = [];
         for (var i = 0; i < str.length; ++i) {
@@ -1293,6 +1357,38 @@ public class ModelNode implements Cloneable {
         return Base64.encode(out.toString());
     }
 
+    /**
+     * Returns the binary encoded form of this node w/o base64 encoding. Binary encoded nodes can be concatenated and read
+     * using {@link #fromBinary(ArrayBuffer, boolean)}.
+     *
+     * @return the binary encoded form of this node
+     */
+    public Int8Array toBinary() {
+        DataOutput out = new DataOutput();
+        writeExternal(out);
+        return out.toInt8Array();
+    }
+
+    /**
+     * Returns the size in bytes of the binary encoded form of this node (w/o base64 encoding). The size is computed w/o
+     * encoding the node: Lazily decoded values which have not been accessed yet contribute the length of their encoded
+     * bytes and are not decoded.
+     *
+     * @return the size in bytes of the binary encoded form of this node
+     */
+    public int encodedSize() {
+        return 1 + value.encodedSize();
+    }
+
+    /**
+     * Lazily decoded values which have not been accessed yet share the bytes of the complete response. This method copies
+     * the bytes of such values, so that this node no longer keeps the response alive. Use this method for nodes which are
+     * kept for a long time, e.g. in a cache. Values are not decoded.
+     */
+    public void detach() {
+        value.detach();
+    }
+
     /**
      * Return a copy of this model node, with all system property expressions locally resolved. The caller must have permission
      * to access all of the system properties named in the node tree.
@@ -1325,7 +1421,7 @@ public class ModelNode implements Cloneable {
      * @return {@code true} if they are equal, {@code false} otherwise
      */
     public boolean equals(ModelNode other) {
-        return this == other || other != null && other.value.equals(value);
+        return this == other || other != null && LazyModelValue.unwrap(other.value).equals(LazyModelValue.unwrap(value));
     }
 
     /**
@@ -1414,13 +1510,13 @@ public class ModelNode implements Cloneable {
                     value = new IntModelValue(in.readInt());
                     return;
                 case LIST:
-                    value = new ListModelValue(in);
+                    value = in.isLazy() ? new LazyModelValue(type, in) : new ListModelValue(in);
                     return;
                 case LONG:
                     value = new LongModelValue(in.readLong());
                     return;
                 case OBJECT:
-                    value = new ObjectModelValue(in);
+                    value = in.isLazy() ? new LazyModelValue(type, in) : new ObjectModelValue(in);
                     return;
                 case PROPERTY:
                     value = new PropertyModelValue(in);
@@ -312,6 +312,32 @@ abstract class ModelValue implements Cloneable {
         // nothing by default
     }
 
+    /** @return the size in bytes written by {@link #writeExternal(DataOutput)} */
+    int encodedSize() {
+        return 0;
+    }
+
+    /** Copies the bytes still shared with the payload of a response. Nothing to do by default. */
+    void detach() {
+        // nothing by default
+    }
+
+    /** @return the size in bytes of the modified UTF-8 encoding of {@code s} incl. the two length bytes */
+    static int utfSize(String s) {
+        int size = 2;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c > 0 && c <= 0x7f) {
+                size++;
+            } else if (c <= 0x07ff) {
+                size += 2;
+            } else {
+                size += 3;
+            }
+        }
+        return size;
+    }
+
     boolean has(int index) {
         return false;
     }
@@ -65,6 +65,22 @@ class ObjectModelValue extends ModelValue {
         }
     }
 
+    @Override
+    int encodedSize() {
+        int size = 4;
+        for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+            size += utfSize(entry.getKey()) + entry.getValue().encodedSize();
+        }
+        return size;
+    }
+
+    @Override
+    void detach() {
+        for (ModelNode node : map.values()) {
+            node.detach();
+        }
+    }
+
     @Override
     ModelValue protect() {
         Map<String, ModelNode> map = this.map;
@@ -55,6 +55,16 @@ class PropertyModelValue extends ModelValue {
         property.getValue().writeExternal(out);
     }
 
+    @Override
+    int encodedSize() {
+        return utfSize(property.getName()) + property.getValue().encodedSize();
+    }
+
+    @Override
+    void detach() {
+        property.getValue().detach();
+    }
+
     @Override
     ModelValue protect() {
         property.getValue().protect();
@@ -36,6 +36,11 @@ class StringModelValue extends ModelValue {
         out.writeUTF(value);
     }
 
+    @Override
+    int encodedSize() {
+        return utfSize(value);
+    }
+
     @Override
     long asLong() {
         return Long.parseLong(value);
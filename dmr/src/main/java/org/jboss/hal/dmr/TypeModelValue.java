@@ -82,6 +82,11 @@ class TypeModelValue extends ModelValue {
         out.writeByte(value.getTypeChar());
     }
 
+    @Override
+    int encodedSize() {
+        return 1;
+    }
+
     @Override
     boolean asBoolean() {
         return value != ModelType.UNDEFINED;
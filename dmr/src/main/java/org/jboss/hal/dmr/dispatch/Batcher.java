@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+
+/**
+ * Collects the single read-only operations which are executed within the same event loop tick and executes them as one
+ * composite operation. The composite result is demultiplexed to the individual callers.
+ * <p>
+ * If a step of the composite fails, only the caller of this step is rejected with the failure description of the step. Steps
+ * which were not executed (e.g. cancelled) are executed on their own. If the composite fails as a whole, the operations are
+ * executed one by one. This way callers get the same result as if the operation had been executed on its own.
+ */
+class Batcher {
+
+    @FunctionalInterface
+    interface Sender {
+
+        /**
+         * Sends an operation to the management endpoint. If {@code rejectFailure} is {@code false}, a payload with a failed
+         * outcome is passed to {@code resolve} instead of passing the failure description to {@code reject}.
+         */
+        void send(Operation operation, Operation dmrOperation, boolean recordOperation, boolean rejectFailure,
+                Consumer<ModelNode> resolve, Consumer<Object> reject);
+    }
+
+    enum StepOutcome {
+        SUCCESS, FAILED, NOT_EXECUTED
+    }
+
+    private static final Logger logger = LoggerFactory.getLogger(Batcher.class);
+
+    /** @return the outcome of the step with the specified (zero-based) index in the payload of a composite */
+    static StepOutcome outcome(ModelNode payload, int index) {
+        if (!payload.isFailure()) {
+            return StepOutcome.SUCCESS;
+        }
+        ModelNode step = new CompositeResult(payload.get(RESULT)).step(index);
+        String outcome = step.hasDefined(OUTCOME) ? step.get(OUTCOME).asString() : null;
+        if (SUCCESS.equals(outcome)) {
+            return StepOutcome.SUCCESS;
+        } else if (FAILED.equals(outcome)) {
+            return StepOutcome.FAILED;
+        }
+        return StepOutcome.NOT_EXECUTED;
+    }
+
+    private final boolean enabled;
+    private final Sender sender;
+    private final Consumer<Operation> recorder;
+    private final Consumer<Runnable> scheduler;
+    private List<Pending> pending;
+    private int batches;
+    private int partialFailures;
+    private int fallbacks;
+
+    /**
+     * @param enabled  whether batching is enabled
+     * @param sender   sends an operation to the management endpoint
+     * @param recorder records an operation which was executed as part of a composite
+     */
+    Batcher(boolean enabled, Sender sender, Consumer<Operation> recorder) {
+        this(enabled, sender, recorder, task -> Promise.resolve((Void) null).then(ignore -> {
+            task.run();
+            return null;
+        }));
+    }
+
+    /** @param scheduler runs the flush of a batch after the current event loop tick */
+    Batcher(boolean enabled, Sender sender, Consumer<Operation> recorder, Consumer<Runnable> scheduler) {
+        this.enabled = enabled;
+        this.sender = sender;
+        this.recorder = recorder;
+        this.scheduler = scheduler;
+        this.pending = new ArrayList<>();
+    }
+
+    boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Adds the operation to the current batch. The batch is sent in the next microtask. */
+    Promise<ModelNode> add(Operation operation, Operation dmrOperation) {
+        return new Promise<>((resolve, reject) -> add(operation, dmrOperation,
+                payload -> resolve.onInvoke(payload), reject::onInvoke));
+    }
+
+    void add(Operation operation, Operation dmrOperation, Consumer<ModelNode> resolve, Consumer<Object> reject) {
+        if (pending.isEmpty()) {
+            scheduler.accept(this::flush);
+        }
+        pending.add(new Pending(operation, dmrOperation, resolve, reject));
+    }
+
+    private void flush() {
+        List<Pending> batch = pending;
+        pending = new ArrayList<>();
+        if (batch.size() == 1) {
+            sendOne(batch.get(0));
+
+        } else if (!batch.isEmpty()) {
+            batches++;
+            Composite composite = new Composite(batch.stream().map(p -> p.dmrOperation).collect(toList()));
+            logger.debug("Execute {} operations as one composite", batch.size());
+            sender.send(composite, composite, false, false, payload -> {
+                CompositeResult result = new CompositeResult(payload.get(RESULT));
+                if (payload.isFailure() && result.isEmpty()) {
+                    fallback(batch, payload.getFailureDescription());
+                    return;
+                }
+                if (payload.isFailure()) {
+                    partialFailures++;
+                }
+                for (int i = 0; i < batch.size(); i++) {
+                    Pending p = batch.get(i);
+                    switch (outcome(payload, i)) {
+                        case SUCCESS:
+                            recorder.accept(p.operation);
+                            p.resolve.accept(result.step(i));
+                            break;
+                        case FAILED:
+                            recorder.accept(p.operation);
+                            p.reject.accept(result.step(i).getFailureDescription());
+                            break;
+                        case NOT_EXECUTED:
+                            sendOne(p);
+                            break;
+                        default:
+                            break;
+                    }
+                }
+            }, error -> fallback(batch, error));
+        }
+    }
+
+    private void fallback(List<Pending> batch, Object error) {
+        fallbacks++;
+        logger.debug("Composite of {} operations failed: {}. Execute operations one by one.", batch.size(), error);
+        batch.forEach(this::sendOne);
+    }
+
+    private void sendOne(Pending p) {
+        sender.send(p.operation, p.dmrOperation, true, true, p.resolve, p.reject);
+    }
+
+    @Override
+    public String toString() {
+        return "Batcher(enabled=" + enabled + ", batches=" + batches + ", partialFailures=" + partialFailures
+                + ", fallbacks=" + fallbacks + ")";
+    }
+
+    private static class Pending {
+
+        private final Operation operation;
+        private final Operation dmrOperation;
+        private final Consumer<ModelNode> resolve;
+        private final Consumer<Object> reject;
+
+        private Pending(Operation operation, Operation dmrOperation, Consumer<ModelNode> resolve, Consumer<Object> reject) {
+            this.operation = operation;
+            this.dmrOperation = dmrOperation;
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+}
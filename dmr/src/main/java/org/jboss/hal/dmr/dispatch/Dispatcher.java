@@ -21,7 +21,10 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -54,6 +57,7 @@ import org.slf4j.LoggerFactory;
 
 import com.google.web.bindery.event.shared.EventBus;
 
+import elemental2.core.ArrayBuffer;
 import elemental2.dom.Blob;
 import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
 import elemental2.dom.BlobPropertyBag;
@@ -106,6 +110,29 @@ public class Dispatcher implements RecordingHandler {
     private static final Predicate<Operation> READ_ONLY = operation -> operation.getName().startsWith("read")
             || READ_ONLY_OPERATIONS.contains(operation.getName());
 
+    /**
+     * Whether DMR responses are decoded directly from the binary response body. Set the configuration property
+     * {@code hal.dmr.binary} to {@code false} to fall back to the text based decoding ({@code atob()} and string).
+     */
+    private static final boolean BINARY_RESPONSES = Boolean.parseBoolean(System.getProperty("hal.dmr.binary", "true"));
+
+    /**
+     * Whether identical read-only operations are coalesced and cached. Use the configuration properties
+     * {@code hal.dmr.cache.ttl} and {@code hal.dmr.cache.size} to configure the time to live in milliseconds and the maximum
+     * number of cached payloads.
+     */
+    private static final boolean READ_CACHE = Boolean.parseBoolean(System.getProperty("hal.dmr.cache", "false"));
+    private static final int READ_CACHE_TTL = Integer.parseInt(System.getProperty("hal.dmr.cache.ttl", "1000"));
+    private static final int READ_CACHE_SIZE = Integer.parseInt(System.getProperty("hal.dmr.cache.size", "100"));
+
+    /**
+     * Whether single read-only operations which are executed within the same event loop tick are sent as one composite
+     * operation.
+     */
+    private static final boolean BATCH = Boolean.parseBoolean(System.getProperty("hal.dmr.batch", "false"));
+
+    private static final IntConsumer NO_RESPONSE_SIZE = __ -> {
+    };
     private static final Logger logger = LoggerFactory.getLogger(Dispatcher.class);
 
     private final Environment environment;
@@ -115,6 +142,8 @@ public class Dispatcher implements RecordingHandler {
     private final ResponseHeadersProcessors responseHeadersProcessors;
     private final Macros macros;
     private final ErrorCallback errorCallback;
+    private final ReadCache readCache;
+    private final Batcher batcher;
 
     @Inject
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
@@ -126,6 +155,8 @@ public class Dispatcher implements RecordingHandler {
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
         this.macros = macros;
+        this.readCache = new ReadCache(READ_CACHE, READ_CACHE_TTL, READ_CACHE_SIZE);
+        this.batcher = new Batcher(BATCH, this::sendBatched, this::recordOperation);
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
         this.errorCallback = (operation, error) -> {
@@ -138,6 +169,11 @@ public class Dispatcher implements RecordingHandler {
         return this.errorCallback;
     }
 
+    /** @return the cache for read-only operations (might be disabled) */
+    public ReadCache readCache() {
+        return readCache;
+    }
+
     // ------------------------------------------------------ execute composite
 
     public void execute(Composite operations, Consumer<CompositeResult> success) {
@@ -160,6 +196,14 @@ public class Dispatcher implements RecordingHandler {
         return dmr(operations).then(payload -> Promise.resolve(compositeResult(payload)));
     }
 
+    /**
+     * Executes the composite operation and reports the size of the response body in bytes to the given consumer. The
+     * consumer is not called if the response is served from the {@linkplain #readCache() read cache}.
+     */
+    public Promise<CompositeResult> executeWithSize(Composite operations, IntConsumer responseSize) {
+        return dmr(operations, responseSize).then(payload -> Promise.resolve(compositeResult(payload)));
+    }
+
     private CompositeResult compositeResult(ModelNode payload) {
         return new CompositeResult(payload.get(RESULT));
     }
@@ -213,14 +257,68 @@ public class Dispatcher implements RecordingHandler {
      * "result" attribute.
      */
     public Promise<ModelNode> dmr(Operation operation) {
+        return dmr(operation, NO_RESPONSE_SIZE);
+    }
+
+    private Promise<ModelNode> dmr(Operation operation, IntConsumer responseSize) {
+        Operation dmrOperation = runAs(operation);
+        if (readCache.isEnabled()) {
+            if (readOnlyOperation(dmrOperation)) {
+                return readCache.get(dmrOperation, () -> dmrRequest(operation, dmrOperation, responseSize));
+            } else {
+                return readCache.write(dmrOperation, () -> dmrRequest(operation, dmrOperation, responseSize));
+            }
+        }
+        return dmrRequest(operation, dmrOperation, responseSize);
+    }
+
+    private Promise<ModelNode> dmrRequest(Operation operation, Operation dmrOperation, IntConsumer responseSize) {
+        // operations with roles are not batched: the roles would only be set on the steps, not on the composite
+        if (batcher.isEnabled() && !(dmrOperation instanceof Composite) && dmrOperation.getRoles().isEmpty()
+                && readOnlyOperation(dmrOperation)) {
+            return batcher.add(operation, dmrOperation);
+        }
+        return send(operation, dmrOperation, true, true, responseSize);
+    }
+
+    private void sendBatched(Operation operation, Operation dmrOperation, boolean recordOperation, boolean rejectFailure,
+            Consumer<ModelNode> resolve, Consumer<Object> reject) {
+        send(operation, dmrOperation, recordOperation, rejectFailure, NO_RESPONSE_SIZE)
+                .then(payload -> {
+                    resolve.accept(payload);
+                    return null;
+                })
+                .catch_(error -> {
+                    reject.accept(error);
+                    return null;
+                });
+    }
+
+    private Promise<ModelNode> send(Operation operation, Operation dmrOperation, boolean recordOperation,
+            boolean rejectFailure, IntConsumer responseSize) {
         RequestInit init = requestInit(POST, true);
-        init.setBody(runAs(operation).toBase64String());
+        init.setBody(dmrOperation.toBase64String());
         Request request = new Request(endpoints.dmr(), init);
 
-        return fetch(request)
-                .then(processResponse())
-                .then(processText(operation, new DmrPayloadProcessor(), true))
-                .catch_(rejectWithError());
+        if (BINARY_RESPONSES) {
+            return fetch(request)
+                    .then(processBinaryResponse())
+                    .then(buffer -> {
+                        responseSize.accept((int) buffer.byteLength);
+                        return Promise.resolve(buffer);
+                    })
+                    .then(processBuffer(operation, new DmrPayloadProcessor(), recordOperation, rejectFailure))
+                    .catch_(rejectWithError());
+        } else {
+            return fetch(request)
+                    .then(processResponse())
+                    .then(text -> {
+                        responseSize.accept(text.length());
+                        return Promise.resolve(text);
+                    })
+                    .then(processText(operation, new DmrPayloadProcessor(), recordOperation, rejectFailure))
+                    .catch_(rejectWithError());
+        }
     }
 
     // ------------------------------------------------------ upload
@@ -239,11 +337,7 @@ public class Dispatcher implements RecordingHandler {
         }
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
 
-        return fetch(uploadRequest(formData))
-                .then(processResponse())
-                .then(processText(operation, new UploadPayloadProcessor(), false))
-                .then(payload -> Promise.resolve(operationResult(payload)))
-                .catch_(rejectWithError());
+        return upload(uploadOperation, formData);
     }
 
     public Promise<ModelNode> upload(File file, Operation operation) {
@@ -257,11 +351,16 @@ public class Dispatcher implements RecordingHandler {
         appendFile(formData, file);
         formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
 
-        return fetch(uploadRequest(formData))
+        return upload(uploadOperation, formData);
+    }
+
+    private Promise<ModelNode> upload(Operation uploadOperation, FormData formData) {
+        Supplier<Promise<ModelNode>> upload = () -> fetch(uploadRequest(formData))
                 .then(processResponse())
-                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .then(processText(uploadOperation, new UploadPayloadProcessor(), false))
                 .then(payload -> Promise.resolve(operationResult(payload)))
                 .catch_(rejectWithError());
+        return readCache.isEnabled() ? readCache.write(uploadOperation, upload) : upload.get();
     }
 
     private Request uploadRequest(FormData formData) {
@@ -388,49 +487,75 @@ public class Dispatcher implements RecordingHandler {
     // ------------------------------------------------------ promise handlers
 
     ThenOnFulfilledCallbackFn<Response, String> processResponse() {
-        return response -> {
-            if (!response.ok && response.status != 500) {
-                return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
-            }
-            String contentType = response.headers.get(CONTENT_TYPE.header());
-            if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
-                return Promise.reject(PARSE_ERROR + contentType);
-            }
-            return response.text();
-        };
+        return response -> processResponse(response, Response::text);
+    }
+
+    ThenOnFulfilledCallbackFn<Response, ArrayBuffer> processBinaryResponse() {
+        return response -> processResponse(response, Response::arrayBuffer);
+    }
+
+    /** Rejects responses with an unexpected status or content type and reads the body otherwise. */
+    private <T> Promise<T> processResponse(Response response, Function<Response, Promise<T>> body) {
+        if (!response.ok && response.status != 500) {
+            return Promise.reject(ResponseStatus.fromStatusCode(response.status).statusText());
+        }
+        String contentType = response.headers.get(CONTENT_TYPE.header());
+        if (!contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+            return Promise.reject(PARSE_ERROR + contentType);
+        }
+        return body.apply(response);
     }
 
     ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
             boolean recordOperation) {
-        return text -> {
-            if (recordOperation) {
-                recordOperation(operation);
-            }
-            logger.trace("DMR operation: {}", operation);
-            ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
-            if (!payload.isFailure()) {
-                if (environment.isStandalone()) {
-                    if (payload.hasDefined(RESPONSE_HEADERS)) {
-                        Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+        return processText(operation, payloadProcessor, recordOperation, true);
+    }
+
+    /** @param rejectFailure whether a failed outcome rejects the promise or resolves with the failed payload */
+    ThenOnFulfilledCallbackFn<String, ModelNode> processText(Operation operation, PayloadProcessor payloadProcessor,
+            boolean recordOperation, boolean rejectFailure) {
+        return text -> processPayload(operation, recordOperation, rejectFailure,
+                () -> payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text));
+    }
+
+    /** @param rejectFailure whether a failed outcome rejects the promise or resolves with the failed payload */
+    ThenOnFulfilledCallbackFn<ArrayBuffer, ModelNode> processBuffer(Operation operation,
+            DmrPayloadProcessor payloadProcessor, boolean recordOperation, boolean rejectFailure) {
+        return buffer -> processPayload(operation, recordOperation, rejectFailure,
+                () -> payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, buffer));
+    }
+
+    private Promise<ModelNode> processPayload(Operation operation, boolean recordOperation, boolean rejectFailure,
+            Supplier<ModelNode> payloadSupplier) {
+        if (recordOperation) {
+            recordOperation(operation);
+        }
+        logger.trace("DMR operation: {}", operation);
+        ModelNode payload = payloadSupplier.get();
+        if (!payload.isFailure()) {
+            if (environment.isStandalone()) {
+                if (payload.hasDefined(RESPONSE_HEADERS)) {
+                    Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
+                    for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
+                        processor.process(headers);
+                    }
+                }
+            } else {
+                if (payload.hasDefined(SERVER_GROUPS)) {
+                    Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
+                    if (headers.length != 0) {
                         for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
                             processor.process(headers);
                         }
                     }
-                } else {
-                    if (payload.hasDefined(SERVER_GROUPS)) {
-                        Header[] headers = collectHeaders(payload.get(SERVER_GROUPS));
-                        if (headers.length != 0) {
-                            for (ResponseHeadersProcessor processor : responseHeadersProcessors.processors()) {
-                                processor.process(headers);
-                            }
-                        }
-                    }
                 }
-                return Promise.resolve(payload);
-            } else {
-                return Promise.reject(payload.getFailureDescription());
             }
-        };
+            return Promise.resolve(payload);
+        } else if (rejectFailure) {
+            return Promise.reject(payload.getFailureDescription());
+        } else {
+            return Promise.resolve(payload);
+        }
     }
 
     private Header[] collectHeaders(ModelNode serverGroups) {
@@ -15,20 +15,42 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import java.util.function.Supplier;
+
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 
+import elemental2.core.ArrayBuffer;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 
 public class DmrPayloadProcessor implements PayloadProcessor {
 
+    /**
+     * Whether binary payloads are decoded lazily. Set the configuration property {@code hal.dmr.lazy} to {@code false} to
+     * decode the complete payload upfront.
+     */
+    private static final boolean LAZY = Boolean.parseBoolean(System.getProperty("hal.dmr.lazy", "true"));
+
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
+        return processPayload(method, contentType, () -> ModelNode.fromBase64(payload));
+    }
+
+    /**
+     * Same as {@link #processPayload(HttpMethod, String, String)}, but decodes the payload directly from the binary response
+     * body.
+     */
+    public ModelNode processPayload(final HttpMethod method, final String contentType, final ArrayBuffer payload) {
+        return processPayload(method, contentType, () -> ModelNode.fromBase64(payload, LAZY));
+    }
+
+    private ModelNode processPayload(HttpMethod method, String contentType, Supplier<ModelNode> decoder) {
         ModelNode node;
         if (contentType.startsWith(Dispatcher.APPLICATION_DMR_ENCODED)) {
             try {
-                node = ModelNode.fromBase64(payload);
+                node = decoder.get();
                 if (method == GET && !node.isFailure()) {
                     // For GET request the response is purely the model nodes result. The outcome
                     // is not send as part of the response but expressed with the HTTP status code.
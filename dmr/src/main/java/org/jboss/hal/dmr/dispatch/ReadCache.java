@@ -0,0 +1,154 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+/**
+ * Coalesces identical read-only operations and caches their payloads for a short time.
+ * <p>
+ * Identical read-only operations which are executed while the first one is still in flight, share the same request. Once
+ * the request is finished, the payload is served from an LRU cache until the TTL expires. The cache key is the CLI
+ * representation of the operation including the run-as roles. Operations which are not read-only, invalidate all entries
+ * with an overlapping address. They do so before they're sent and again once they're finished, so that reads which were
+ * executed while the operation was in flight, don't keep the payload from before the operation.
+ * <p>
+ * Each caller gets its own copy of the payload, so callers are free to modify the payload.
+ */
+public class ReadCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReadCache.class);
+
+    private final boolean enabled;
+    private final int ttl;
+    private final ReadCacheEntries<Promise<ModelNode>> entries;
+    private int hits;
+    private int misses;
+
+    /**
+     * @param enabled whether the cache is enabled
+     * @param ttl     the time to live of a cached payload in milliseconds
+     * @param maxSize the maximum number of cached payloads
+     */
+    ReadCache(boolean enabled, int ttl, int maxSize) {
+        this.enabled = enabled;
+        this.ttl = ttl;
+        this.entries = new ReadCacheEntries<>(ttl, maxSize, System::currentTimeMillis);
+    }
+
+    /**
+     * Returns the cached or in-flight payload for the specified read-only operation. If there's no such payload, the
+     * operation is executed using {@code execute}.
+     */
+    Promise<ModelNode> get(Operation operation, Supplier<Promise<ModelNode>> execute) {
+        String key = operation.asCli();
+        Promise<ModelNode> promise = entries.get(key);
+        if (promise != null) {
+            hits++;
+            logger.debug("Serve {} from read cache", key);
+        } else {
+            misses++;
+            ReadCacheEntries.Entry<Promise<ModelNode>> entry = entries.add(key, addresses(operation));
+            entry.value = execute.get()
+                    .then(payload -> {
+                        entries.resolved(key, entry);
+                        return Promise.resolve(payload);
+                    })
+                    .catch_(error -> {
+                        // do not cache failures
+                        entries.failed(key, entry);
+                        return Promise.reject(error);
+                    });
+            promise = entry.value;
+        }
+        return promise.then(payload -> Promise.resolve(payload.clone()));
+    }
+
+    /**
+     * Executes an operation which is not read-only. Entries with an overlapping address are invalidated before the
+     * operation is executed and again once the operation is finished, no matter if it was successful or not.
+     */
+    <T> Promise<T> write(Operation operation, Supplier<Promise<T>> execute) {
+        invalidate(operation);
+        return execute.get()
+                .then(result -> {
+                    invalidate(operation);
+                    return Promise.resolve(result);
+                })
+                .catch_(error -> {
+                    invalidate(operation);
+                    return Promise.reject(error);
+                });
+    }
+
+    /** Removes all entries with an address which overlaps with one of the addresses of the specified operation. */
+    void invalidate(Operation operation) {
+        entries.invalidate(addresses(operation));
+    }
+
+    /** Removes all entries. */
+    public void clear() {
+        entries.clear();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** @return the number of operations served from the cache or from an in-flight request */
+    public int hits() {
+        return hits;
+    }
+
+    /** @return the number of operations which were executed */
+    public int misses() {
+        return misses;
+    }
+
+    /** @return the number of cached or in-flight payloads */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ReadCache(enabled=" + enabled + ", ttl=" + ttl + ", size=" + entries.size() + ", hits=" + hits
+                + ", misses=" + misses + ")";
+    }
+
+    static List<ResourceAddress> addresses(Operation operation) {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                addresses.add(step.getAddress());
+            }
+        } else {
+            addresses.add(operation.getAddress());
+        }
+        return addresses;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+/**
+ * The entries of the {@link ReadCache}. An entry is in flight until it's {@linkplain #resolved(String, Entry) resolved}
+ * and expires after the TTL. The value of an entry is the promise of the payload, but this class doesn't depend on
+ * promises, so it can be tested in the JVM.
+ */
+class ReadCacheEntries<T> {
+
+    private static final String WILDCARD = "*";
+
+    private final int ttl;
+    private final LongSupplier clock;
+    private final Map<String, Entry<T>> entries;
+
+    /**
+     * @param ttl     the time to live of a resolved entry in milliseconds
+     * @param maxSize the maximum number of entries
+     * @param clock   returns the current time in milliseconds
+     */
+    ReadCacheEntries(int ttl, int maxSize, LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+        this.entries = new LinkedHashMap<String, Entry<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry<T>> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /** @return the value of the in-flight or cached entry or {@code null} if there's no such entry or if it's expired */
+    T get(String key) {
+        Entry<T> entry = entries.get(key);
+        if (entry != null && clock.getAsLong() > entry.expires) {
+            entries.remove(key);
+            entry = null;
+        }
+        return entry != null ? entry.value : null;
+    }
+
+    /** Adds an in-flight entry. The value has to be set by the caller. */
+    Entry<T> add(String key, List<ResourceAddress> addresses) {
+        Entry<T> entry = new Entry<>(addresses);
+        entries.put(key, entry);
+        return entry;
+    }
+
+    /** Starts the TTL of the entry. Entries which have been invalidated in the meantime are not added again. */
+    void resolved(String key, Entry<T> entry) {
+        if (entries.get(key) == entry) {
+            entry.expires = clock.getAsLong() + ttl;
+        }
+    }
+
+    /** Removes the entry unless it has been replaced in the meantime. */
+    void failed(String key, Entry<T> entry) {
+        if (entries.get(key) == entry) {
+            entries.remove(key);
+        }
+    }
+
+    /** Removes all entries with an address which overlaps with one of the specified addresses. */
+    void invalidate(List<ResourceAddress> addresses) {
+        for (Iterator<Entry<T>> iterator = entries.values().iterator(); iterator.hasNext();) {
+            Entry<T> entry = iterator.next();
+            if (entry.overlaps(addresses)) {
+                iterator.remove();
+            }
+        }
+    }
+
+    void clear() {
+        entries.clear();
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    static class Entry<T> {
+
+        private final List<ResourceAddress> addresses;
+        private long expires;
+        T value;
+
+        private Entry(List<ResourceAddress> addresses) {
+            this.addresses = addresses;
+            this.expires = Long.MAX_VALUE; // in flight
+        }
+
+        private boolean overlaps(List<ResourceAddress> others) {
+            for (ResourceAddress address : addresses) {
+                for (ResourceAddress other : others) {
+                    if (overlaps(address, other)) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+
+        /** Two addresses overlap if one is a parent of the other. Wildcards match any value. */
+        private boolean overlaps(ResourceAddress a1, ResourceAddress a2) {
+            List<Property> segments1 = a1.asPropertyList();
+            List<Property> segments2 = a2.asPropertyList();
+            int size = Math.min(segments1.size(), segments2.size());
+            for (int i = 0; i < size; i++) {
+                Property segment1 = segments1.get(i);
+                Property segment2 = segments2.get(i);
+                if (!segment1.getName().equals(segment2.getName())) {
+                    return false;
+                }
+                String value1 = segment1.getValue().asString();
+                String value2 = segment2.getValue().asString();
+                if (!value1.equals(value2) && !WILDCARD.equals(value1) && !WILDCARD.equals(value2)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
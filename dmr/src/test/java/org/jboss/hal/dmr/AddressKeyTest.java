@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AddressKeyTest {
+
+    @Test
+    public void root() {
+        assertSame(AddressKey.root(), AddressKey.of(ResourceAddress.root()));
+        assertSame(AddressKey.root(), AddressKey.of(new ResourceAddress(new ModelNode())));
+        assertEquals("/", AddressKey.root().toString());
+        assertEquals(0, AddressKey.root().size());
+    }
+
+    @Test
+    public void interned() {
+        AddressKey key1 = AddressKey.of(ResourceAddress.from("/subsystem=ee/service=default-bindings"));
+        AddressKey key2 = AddressKey.of(new ResourceAddress().add("subsystem", "ee").add("service", "default-bindings"));
+        assertSame(key1, key2);
+        assertEquals("/subsystem=ee/service=default-bindings", key1.toString());
+        assertEquals(2, key1.size());
+    }
+
+    @Test
+    public void notEqual() {
+        AddressKey key1 = AddressKey.of(ResourceAddress.from("/subsystem=ee"));
+        AddressKey key2 = AddressKey.of(ResourceAddress.from("/subsystem=ejb3"));
+        assertNotEquals(key1, key2);
+    }
+
+    @Test
+    public void escaped() {
+        // both addresses have the same ResourceAddress.toString() representation
+        AddressKey key1 = AddressKey.of(new ResourceAddress().add("a", "b/c=d"));
+        AddressKey key2 = AddressKey.of(new ResourceAddress().add("a", "b").add("c", "d"));
+        assertNotEquals(key1, key2);
+        assertEquals("/a=b\\/c\\=d", key1.toString());
+    }
+
+    @Test
+    public void address() {
+        ResourceAddress address = new ResourceAddress().add("deployment", "foo/bar.war").add("subsystem", "undertow");
+        AddressKey key = AddressKey.of(address);
+        ResourceAddress copy = key.address();
+        assertEquals(address, copy);
+
+        copy.add("servlet", "default");
+        assertEquals(address, key.address());
+    }
+
+    @Test
+    public void equalsAfterOverflow() {
+        AddressKey key = AddressKey.of(ResourceAddress.from("/subsystem=logging"));
+        for (int i = 0; i <= AddressKey.MAX_INTERNED; i++) {
+            AddressKey.of(new ResourceAddress().add("overflow", String.valueOf(i)));
+        }
+        assertTrue(AddressKey.internedSize() <= AddressKey.MAX_INTERNED);
+
+        AddressKey other = AddressKey.of(ResourceAddress.from("/subsystem=logging"));
+        assertEquals(key, other);
+        assertEquals(key.hashCode(), other.hashCode());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+public class Base64Test {
+
+    @Test
+    public void empty() {
+        assertEquals(0, Base64.decodeInPlace(new byte[0]));
+    }
+
+    @Test
+    public void noPadding() {
+        assertDecoded("foobar");
+    }
+
+    @Test
+    public void onePadding() {
+        assertDecoded("fooba");
+    }
+
+    @Test
+    public void twoPaddings() {
+        assertDecoded("foob");
+    }
+
+    @Test
+    public void binary() {
+        byte[] raw = new byte[256];
+        for (int i = 0; i < raw.length; i++) {
+            raw[i] = (byte) i;
+        }
+        byte[] encoded = java.util.Base64.getEncoder().encode(raw);
+        int length = Base64.decodeInPlace(encoded);
+        assertArrayEquals(raw, Arrays.copyOf(encoded, length));
+    }
+
+    @Test
+    public void lineBreaks() {
+        byte[] raw = "The quick brown fox jumps over the lazy dog".getBytes(ISO_8859_1);
+        byte[] encoded = java.util.Base64.getMimeEncoder(8, "\r\n".getBytes(ISO_8859_1)).encode(raw);
+        int length = Base64.decodeInPlace(encoded);
+        assertArrayEquals(raw, Arrays.copyOf(encoded, length));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void illegalCharacter() {
+        Base64.decodeInPlace("Zm9v*mFy".getBytes(ISO_8859_1));
+    }
+
+    private void assertDecoded(String value) {
+        byte[] raw = value.getBytes(ISO_8859_1);
+        byte[] encoded = java.util.Base64.getEncoder().encode(raw);
+        int length = Base64.decodeInPlace(encoded);
+        assertArrayEquals(raw, Arrays.copyOf(encoded, length));
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.IOException;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compares the text based decoding with the eager and lazy in-place decoding of the binary response using the payload of
+ * {@link DecoderTest}. The lazy decoding is measured by accessing the attributes of a single server config.
+ * <p>
+ * Runs on the JVM, so the numbers only show the relative cost of the algorithms. The class doesn't match the naming pattern
+ * of the unit tests and is not part of the regular build. Run it with
+ *
+ * <pre>
+ * mvn test -pl dmr -Dtest=DecoderBenchmark
+ * </pre>
+ */
+public class DecoderBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        DecoderTest.beforeClass();
+    }
+
+    @Test
+    public void compare() {
+        ModelNode expected = DecoderTest.decodeText();
+        assertEquals(expected, DecoderTest.decodeBinary(false));
+        assertEquals(expected, DecoderTest.decodeBinary(true));
+
+        for (int i = 0; i < WARMUP; i++) {
+            run();
+        }
+        long[] times = new long[3];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long[] run = run();
+            for (int j = 0; j < times.length; j++) {
+                times[j] += run[j];
+            }
+        }
+        System.out.printf("Decoded %,d bytes %d times: text %d ms, binary %d ms, lazy %d ms%n",
+                DecoderTest.binary.length, ITERATIONS, times[0] / 1_000_000, times[1] / 1_000_000, times[2] / 1_000_000);
+    }
+
+    private long[] run() {
+        long[] times = new long[3];
+        long start = System.nanoTime();
+        DecoderTest.decodeText();
+        times[0] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        DecoderTest.decodeBinary(false);
+        times[1] = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        ModelNode lazy = DecoderTest.decodeBinary(true);
+        lazy.get("host").get("host-1").get("server-config").get("server-1").asPropertyList();
+        times[2] = System.nanoTime() - start;
+        return times;
+    }
+}
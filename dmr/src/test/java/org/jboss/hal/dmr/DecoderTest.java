@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Checks that the in-place decoding of binary responses, eager and lazy, yields the same model node as the text based decoding
+ * ({@code atob()} -> string -> byte array). The payload is similar to a {@code read-resource(recursive)} response of a domain
+ * with 40 hosts. The text based path is emulated with {@link java.util.Base64} and the char by char copy done in
+ * {@code ModelNode.toBytes()}.
+ * <p>
+ * The payload and the decoders are shared with {@link DecoderBenchmark}.
+ */
+public class DecoderTest {
+
+    private static final int HOSTS = 40;
+    private static final int SERVERS = 20;
+
+    private static String text;
+    static byte[] binary;
+
+    @BeforeClass
+    public static void beforeClass() throws IOException {
+        org.jboss.dmr.ModelNode domain = new org.jboss.dmr.ModelNode();
+        for (int h = 0; h < HOSTS; h++) {
+            org.jboss.dmr.ModelNode host = domain.get("host", "host-" + h);
+            host.get("name").set("host-" + h);
+            host.get("primary").set(h == 0);
+            host.get("management-major-version").set(20);
+            host.get("release-version").set("27.0.0.Final");
+            for (int s = 0; s < SERVERS; s++) {
+                org.jboss.dmr.ModelNode server = host.get("server-config", "server-" + s);
+                server.get("name").set("server-" + s);
+                server.get("group").set("group-" + (s % 4));
+                server.get("auto-start").set(true);
+                server.get("socket-binding-port-offset").set(s * 100);
+                server.get("status").set("STARTED");
+                server.get("update-auto-start-with-server-status").set(false);
+                server.get("jvm", "default", "heap-size").set("64m");
+                server.get("jvm", "default", "max-heap-size").set("512m");
+            }
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        domain.writeBase64(out);
+        text = out.toString(ISO_8859_1.name());
+        binary = out.toByteArray();
+    }
+
+    @Test
+    public void binary() {
+        assertEquals(decodeText(), decodeBinary(false));
+    }
+
+    @Test
+    public void lazy() {
+        ModelNode expected = decodeText();
+        ModelNode lazy = decodeBinary(true);
+        assertEquals(expected.get("host").get("host-1").get("server-config").get("server-1"),
+                lazy.get("host").get("host-1").get("server-config").get("server-1"));
+        assertEquals(expected, lazy);
+    }
+
+    @Test
+    public void concatenated() throws IOException {
+        org.jboss.dmr.ModelNode first = new org.jboss.dmr.ModelNode();
+        first.get("address").add("deployment", "a=b/c.war");
+        first.get("value").get("name").set("first");
+        org.jboss.dmr.ModelNode second = new org.jboss.dmr.ModelNode();
+        second.get("value").add(1).add(2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        first.writeExternal(out);
+        second.writeExternal(out);
+        for (boolean lazy : new boolean[] { false, true }) {
+            List<ModelNode> nodes = ModelNode.fromBinary(out.toByteArray(), lazy);
+            assertEquals(2, nodes.size());
+            assertEquals("a=b/c.war", nodes.get(0).get("address").asList().get(0).asProperty().getValue().asString());
+            assertEquals("first", nodes.get(0).get("value").get("name").asString());
+            assertEquals(2, nodes.get(1).get("value").asList().size());
+        }
+        assertTrue(ModelNode.fromBinary(new byte[0], true).isEmpty());
+    }
+
+    static ModelNode decodeText() {
+        String decoded = new String(java.util.Base64.getMimeDecoder().decode(text), ISO_8859_1);
+        byte[] bytes = new byte[decoded.length()];
+        for (int i = 0; i < decoded.length(); i++) {
+            bytes[i] = (byte) decoded.charAt(i);
+        }
+        ModelNode node = new ModelNode();
+        node.readExternal(new DataInput(bytes));
+        return node;
+    }
+
+    static ModelNode decodeBinary(boolean lazy) {
+        // the buffer is decoded in place, so work on a copy
+        return ModelNode.fromBase64(binary.clone(), lazy);
+    }
+}
@@ -19,6 +19,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.List;
 
 public class ExternalModelNode {
 
@@ -35,4 +36,18 @@ public class ExternalModelNode {
             throw new RuntimeException("Unable to read DMR from input stream: " + e.getMessage());
         }
     }
+
+    /** Writes the nodes one after another using jboss-dmr and reads them back like {@link ModelNode#fromBinary}. */
+    public static List<ModelNode> roundTrip(List<ModelNode> nodes, boolean lazy) {
+        try {
+            ByteArrayOutputStream baos = new ByteArrayOutputStream();
+            DataOutputStream out = new DataOutputStream(baos);
+            for (ModelNode node : nodes) {
+                org.jboss.dmr.ModelNode.fromString(node.toString()).writeExternal(out);
+            }
+            return ModelNode.fromBinary(baos.toByteArray(), lazy);
+        } catch (IOException e) {
+            throw new RuntimeException("Unable to write DMR: " + e.getMessage());
+        }
+    }
 }
@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class LazyModelValueTest {
+
+    private int size;
+    private byte[] bytes;
+    private ModelNode eager;
+    private ModelNode lazy;
+
+    /**
+     * Creates the model node
+     *
+     * <pre>
+     * {
+     *     "outcome" => "success",
+     *     "result" => {
+     *         "big-decimal" => 1.5,
+     *         "big-integer" => 42,
+     *         "bytes" => bytes { 0x01, 0x02 },
+     *         "expression" => expression "${foo:bar}",
+     *         "list" => [1, "two", {"three" => 3L}],
+     *         "property" => ("name" => "value"),
+     *         "type" => STRING,
+     *         "undefined" => undefined
+     *     }
+     * }
+     * </pre>
+     */
+    @Before
+    public void setUp() throws IOException {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("outcome").set("success");
+        org.jboss.dmr.ModelNode result = node.get("result");
+        result.get("big-decimal").set(new BigDecimal("1.5"));
+        result.get("big-integer").set(new BigInteger("42"));
+        result.get("bytes").set(new byte[] { 1, 2 });
+        result.get("expression").setExpression("${foo:bar}");
+        result.get("list").add(1).add("two").add().get("three").set(3L);
+        result.get("property").set("name", "value");
+        result.get("type").set(org.jboss.dmr.ModelType.STRING);
+        result.get("undefined");
+
+        ByteArrayOutputStream binary = new ByteArrayOutputStream();
+        node.writeExternal(binary);
+        size = binary.size();
+        bytes = binary.toByteArray();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        node.writeBase64(out);
+        eager = ModelNode.fromBase64(out.toByteArray(), false);
+        lazy = ModelNode.fromBase64(out.toByteArray(), true);
+    }
+
+    @Test
+    public void equal() {
+        assertEquals(eager, lazy);
+        assertEquals(lazy, eager);
+        assertEquals(eager.hashCode(), lazy.hashCode());
+        assertEquals(eager.toString(), lazy.toString());
+    }
+
+    @Test
+    public void read() {
+        assertTrue(lazy.isDefined());
+        assertEquals(ModelType.OBJECT, lazy.getType());
+        assertEquals("success", lazy.get("outcome").asString());
+        assertEquals(asList("big-decimal", "big-integer", "bytes", "expression", "list", "property", "type", "undefined"),
+                new ArrayList<>(lazy.get("result").keys()));
+        assertEquals(3, lazy.get("result").get("list").asList().size());
+        assertEquals(3L, lazy.get("result").get("list").get(2).get("three").asLong());
+        assertEquals("value", lazy.get("result").get("property").asProperty().getValue().asString());
+        assertFalse(lazy.get("result").get("undefined").isDefined());
+    }
+
+    @Test
+    public void modify() {
+        lazy.get("result").get("list").add("four");
+        lazy.get("result").remove("bytes");
+        assertEquals(4, lazy.get("result").get("list").asList().size());
+        assertFalse(lazy.get("result").has("bytes"));
+    }
+
+    @Test
+    public void encodedSize() {
+        assertEquals(size, eager.encodedSize());
+        assertEquals(size, lazy.encodedSize());
+        assertEquals(eager.get("result").encodedSize(), lazy.get("result").encodedSize());
+    }
+
+    @Test
+    public void encodedSizeModified() {
+        eager.get("result").get("list").add("four");
+        lazy.get("result").get("list").add("four");
+        eager.get("result").get("property").set("name", "\u00e4\u20ac");
+        lazy.get("result").get("property").set("name", "\u00e4\u20ac");
+        assertEquals(eager.encodedSize(), lazy.encodedSize());
+        // "four" adds seven bytes (type, length, chars), the new property value has as many bytes as "value"
+        assertEquals(size + 7, lazy.encodedSize());
+    }
+
+    @Test
+    public void detach() {
+        byte[] payload = bytes.clone();
+        ModelNode node = ModelNode.fromBinary(payload, true).get(0);
+        node.detach();
+
+        // the detached node must not depend on the payload anymore
+        Arrays.fill(payload, (byte) 0);
+        assertEquals(eager, node);
+        assertEquals(size, node.encodedSize());
+    }
+
+    @Test
+    public void detachPartiallyDecoded() {
+        byte[] payload = bytes.clone();
+        ModelNode node = ModelNode.fromBinary(payload, true).get(0);
+        assertEquals("success", node.get("outcome").asString());
+        assertEquals(3, node.get("result").get("list").asList().size());
+        node.detach();
+
+        Arrays.fill(payload, (byte) 0);
+        assertEquals(eager, node);
+        assertEquals(3L, node.get("result").get("list").get(2).get("three").asLong());
+    }
+
+    @Test
+    public void copy() {
+        ModelNode copy = lazy.clone();
+        copy.get("result").get("list").add("four");
+        assertEquals(3, lazy.get("result").get("list").asList().size());
+        assertEquals(4, copy.get("result").get("list").asList().size());
+    }
+}
@@ -0,0 +1,268 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CANCELLED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class BatcherTest {
+
+    private List<Runnable> scheduled;
+    private List<Sent> sent;
+    private List<Operation> recorded;
+    private Map<String, ModelNode> resolved;
+    private Map<String, Object> rejected;
+    private Batcher batcher;
+
+    @Before
+    public void setUp() {
+        scheduled = new ArrayList<>();
+        sent = new ArrayList<>();
+        recorded = new ArrayList<>();
+        resolved = new HashMap<>();
+        rejected = new HashMap<>();
+        batcher = new Batcher(true,
+                (operation, dmrOperation, recordOperation, rejectFailure, resolve, reject) -> sent.add(
+                        new Sent(dmrOperation, recordOperation, rejectFailure, resolve, reject)),
+                recorded::add, scheduled::add);
+    }
+
+    @Test
+    public void single() {
+        add("a");
+        assertTrue(sent.isEmpty());
+        flush();
+
+        assertEquals(1, sent.size());
+        Sent single = sent.get(0);
+        assertFalse(single.operation instanceof Composite);
+        assertTrue(single.recordOperation);
+        assertTrue(single.rejectFailure);
+
+        single.resolve.accept(success("a"));
+        assertEquals("a", resolved.get("a").get(RESULT).get(NAME).asString());
+    }
+
+    @Test
+    public void batch() {
+        add("a");
+        add("b");
+        add("c");
+        assertEquals(1, scheduled.size());
+        flush();
+
+        assertEquals(1, sent.size());
+        Sent batch = sent.get(0);
+        assertTrue(batch.operation instanceof Composite);
+        assertFalse(batch.recordOperation);
+        assertFalse(batch.rejectFailure);
+        assertEquals(3, ((Composite) batch.operation).size());
+
+        batch.resolve.accept(composite(success("a"), success("b"), success("c")));
+        assertEquals(3, resolved.size());
+        assertEquals(3, recorded.size());
+        assertTrue(rejected.isEmpty());
+    }
+
+    @Test
+    public void order() {
+        add("a");
+        add("b");
+        add("c");
+        flush();
+
+        List<String> names = new ArrayList<>();
+        for (Operation operation : (Composite) sent.get(0).operation) {
+            names.add(operation.getAddress().lastValue());
+        }
+        assertEquals(asList("a", "b", "c"), names);
+
+        // the steps are assigned by position
+        sent.get(0).resolve.accept(composite(success("a"), success("b"), success("c")));
+        for (String name : names) {
+            assertEquals(name, resolved.get(name).get(RESULT).get(NAME).asString());
+        }
+        assertEquals("a", recorded.get(0).getAddress().lastValue());
+        assertEquals("c", recorded.get(2).getAddress().lastValue());
+    }
+
+    @Test
+    public void nextBatch() {
+        add("a");
+        add("b");
+        flush();
+        add("c");
+        add("d");
+        assertEquals(1, scheduled.size());
+        flush();
+
+        assertEquals(2, sent.size());
+        assertEquals(2, ((Composite) sent.get(1).operation).size());
+    }
+
+    @Test
+    public void partialFailure() {
+        add("a");
+        add("b");
+        add("c");
+        flush();
+
+        ModelNode payload = composite(success("a"), failure("b not found"), success("c"));
+        assertEquals(Batcher.StepOutcome.FAILED, Batcher.outcome(payload, 1));
+        sent.get(0).resolve.accept(payload);
+
+        // no extra round trip
+        assertEquals(1, sent.size());
+        assertEquals(2, resolved.size());
+        assertTrue(resolved.containsKey("a"));
+        assertTrue(resolved.containsKey("c"));
+        assertEquals(1, rejected.size());
+        assertTrue(String.valueOf(rejected.get("b")).contains("b not found"));
+    }
+
+    @Test
+    public void notExecuted() {
+        add("a");
+        add("b");
+        flush();
+
+        ModelNode cancelled = new ModelNode();
+        cancelled.get(OUTCOME).set(CANCELLED);
+        sent.get(0).resolve.accept(composite(failure("a not found"), cancelled));
+
+        // only the cancelled step is executed again
+        assertEquals(2, sent.size());
+        Sent retry = sent.get(1);
+        assertEquals("b", retry.operation.getAddress().lastValue());
+        assertTrue(retry.rejectFailure);
+        retry.resolve.accept(success("b"));
+        assertTrue(resolved.containsKey("b"));
+        assertTrue(rejected.containsKey("a"));
+    }
+
+    @Test
+    public void fallback() {
+        add("a");
+        add("b");
+        flush();
+
+        // the composite itself failed w/o step results
+        ModelNode payload = new ModelNode();
+        payload.get(OUTCOME).set(FAILED);
+        payload.get(FAILURE_DESCRIPTION).set("Composite failed");
+        sent.get(0).resolve.accept(payload);
+
+        assertEquals(3, sent.size());
+        sent.get(1).resolve.accept(success("a"));
+        sent.get(2).reject.accept("b not found");
+        assertTrue(resolved.containsKey("a"));
+        assertEquals("b not found", rejected.get("b"));
+    }
+
+    @Test
+    public void fallbackOnError() {
+        add("a");
+        add("b");
+        flush();
+
+        sent.get(0).reject.accept("Service unavailable");
+        assertEquals(3, sent.size());
+        assertFalse(sent.get(1).operation instanceof Composite);
+        assertFalse(sent.get(2).operation instanceof Composite);
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private void add(String name) {
+        Operation operation = new Operation.Builder(new ResourceAddress().add("resource", name), READ_RESOURCE_OPERATION)
+                .build();
+        batcher.add(operation, operation, payload -> resolved.put(name, payload), error -> rejected.put(name, error));
+    }
+
+    private void flush() {
+        List<Runnable> tasks = new ArrayList<>(scheduled);
+        scheduled.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private ModelNode success(String name) {
+        ModelNode node = new ModelNode();
+        node.get(OUTCOME).set(SUCCESS);
+        node.get(RESULT).get(NAME).set(name);
+        return node;
+    }
+
+    private ModelNode failure(String description) {
+        ModelNode node = new ModelNode();
+        node.get(OUTCOME).set(FAILED);
+        node.get(FAILURE_DESCRIPTION).set(description);
+        return node;
+    }
+
+    private ModelNode composite(ModelNode... steps) {
+        ModelNode payload = new ModelNode();
+        boolean failed = false;
+        for (int i = 0; i < steps.length; i++) {
+            payload.get(RESULT).get("step-" + (i + 1)).set(steps[i]);
+            failed |= steps[i].isFailure();
+        }
+        payload.get(OUTCOME).set(failed ? FAILED : SUCCESS);
+        return payload;
+    }
+
+    private static class Sent {
+
+        private final Operation operation;
+        private final boolean recordOperation;
+        private final boolean rejectFailure;
+        private final Consumer<ModelNode> resolve;
+        private final Consumer<Object> reject;
+
+        private Sent(Operation operation, boolean recordOperation, boolean rejectFailure, Consumer<ModelNode> resolve,
+                Consumer<Object> reject) {
+            this.operation = operation;
+            this.recordOperation = recordOperation;
+            this.rejectFailure = rejectFailure;
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+}
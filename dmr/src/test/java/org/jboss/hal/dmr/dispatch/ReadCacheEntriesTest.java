@@ -0,0 +1,168 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ReadCacheEntries.Entry;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Collections.singletonList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ReadCacheEntriesTest {
+
+    private static final int TTL = 1_000;
+
+    private long now;
+    private ReadCacheEntries<String> entries;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        entries = new ReadCacheEntries<>(TTL, 10, () -> now);
+    }
+
+    @Test
+    public void coalesce() {
+        Entry<String> entry = add("key", address("foo", "bar"), "in-flight");
+
+        // overlapping reads share the in-flight value, regardless of the time
+        now = 10 * TTL;
+        assertSame(entry.value, entries.get("key"));
+        entries.resolved("key", entry);
+        assertSame(entry.value, entries.get("key"));
+    }
+
+    @Test
+    public void ttl() {
+        Entry<String> entry = add("key", address("foo", "bar"), "payload");
+        entries.resolved("key", entry);
+
+        now = TTL;
+        assertEquals("payload", entries.get("key"));
+        now = TTL + 1;
+        assertNull(entries.get("key"));
+        assertEquals(0, entries.size());
+    }
+
+    @Test
+    public void failed() {
+        Entry<String> entry = add("key", address("foo", "bar"), "failure");
+        entries.failed("key", entry);
+        assertNull(entries.get("key"));
+
+        // a failed entry doesn't remove its successor
+        Entry<String> first = add("key", address("foo", "bar"), "first");
+        add("key", address("foo", "bar"), "second");
+        entries.failed("key", first);
+        assertEquals("second", entries.get("key"));
+    }
+
+    @Test
+    public void maxSize() {
+        entries = new ReadCacheEntries<>(TTL, 2, () -> now);
+        add("a", address("foo", "a"), "a");
+        add("b", address("foo", "b"), "b");
+        add("c", address("foo", "c"), "c");
+
+        assertEquals(2, entries.size());
+        assertNull(entries.get("a"));
+    }
+
+    @Test
+    public void invalidateByWriteAddress() {
+        add("parent", address("subsystem", "foo"), "parent");
+        add("child", address("subsystem", "foo").add("bar", "baz"), "child");
+        add("wildcard", address("subsystem", "foo").add("bar", "*"), "wildcard");
+        add("sibling", address("subsystem", "foo").add("bar", "qux"), "sibling");
+        add("other", address("subsystem", "other"), "other");
+
+        Operation write = new Operation.Builder(address("subsystem", "foo").add("bar", "baz"), WRITE_ATTRIBUTE_OPERATION)
+                .build();
+        entries.invalidate(ReadCache.addresses(write));
+
+        assertNull(entries.get("parent"));
+        assertNull(entries.get("child"));
+        assertNull(entries.get("wildcard"));
+        assertEquals("sibling", entries.get("sibling"));
+        assertEquals("other", entries.get("other"));
+    }
+
+    @Test
+    public void invalidateByComposite() {
+        add("foo", address("subsystem", "foo"), "foo");
+        add("bar", address("subsystem", "bar"), "bar");
+        add("baz", address("subsystem", "baz"), "baz");
+
+        Composite composite = new Composite(
+                new Operation.Builder(address("subsystem", "foo"), WRITE_ATTRIBUTE_OPERATION).build(),
+                new Operation.Builder(address("subsystem", "bar"), WRITE_ATTRIBUTE_OPERATION).build());
+        entries.invalidate(ReadCache.addresses(composite));
+
+        assertNull(entries.get("foo"));
+        assertNull(entries.get("bar"));
+        assertEquals("baz", entries.get("baz"));
+    }
+
+    @Test
+    public void readDuringWrite() {
+        ResourceAddress address = address("subsystem", "foo");
+        Operation write = new Operation.Builder(address, WRITE_ATTRIBUTE_OPERATION).build();
+        Operation read = new Operation.Builder(address, READ_RESOURCE_OPERATION).build();
+
+        // write is sent
+        entries.invalidate(ReadCache.addresses(write));
+        // read starts and finishes while the write is in flight
+        Entry<String> entry = add(read.asCli(), address, "stale");
+        entries.resolved(read.asCli(), entry);
+        // write is finished
+        entries.invalidate(ReadCache.addresses(write));
+
+        assertNull(entries.get(read.asCli()));
+    }
+
+    @Test
+    public void resolvedAfterInvalidation() {
+        ResourceAddress address = address("subsystem", "foo");
+        Entry<String> entry = add("key", address, "stale");
+        entries.invalidate(singletonList(address));
+
+        // the in-flight read finishes after the write: it must not be added again
+        entries.resolved("key", entry);
+        assertNull(entries.get("key"));
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private Entry<String> add(String key, ResourceAddress address, String value) {
+        Entry<String> entry = entries.add(key, singletonList(address));
+        entry.value = value;
+        return entry;
+    }
+
+    private ResourceAddress address(String name, String value) {
+        return new ResourceAddress().add(name, value);
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.function.DoubleSupplier;
+
+/**
+ * Calculates the delay between the iterations of a {@linkplain Repeat repeated} task. Starting with the initial interval, the
+ * delay is multiplied by the backoff factor after each iteration, capped at the maximal interval and randomized by the jitter
+ * (a fraction of the delay added or subtracted at random).
+ */
+class Backoff {
+
+    private final long interval;
+    private final double multiplier;
+    private final long maxInterval;
+    private final double jitter;
+    private final DoubleSupplier random;
+    private double current;
+
+    Backoff(final long interval, final double multiplier, final long maxInterval, final double jitter,
+            final DoubleSupplier random) {
+        this.interval = Math.max(0, interval);
+        this.multiplier = Math.max(1, multiplier);
+        this.maxInterval = maxInterval > 0 ? Math.max(maxInterval, this.interval) : Long.MAX_VALUE;
+        this.jitter = Math.min(1, Math.max(0, jitter));
+        this.random = random;
+        this.current = this.interval;
+    }
+
+    /**
+     * @return the delay in milliseconds before the next iteration
+     */
+    long next() {
+        double delay = current;
+        current = Math.min(current * multiplier, maxInterval);
+        if (jitter > 0) {
+            // random() is in [0, 1) -> factor is in [1 - jitter, 1 + jitter)
+            delay = delay * (1 - jitter + 2 * jitter * random.getAsDouble());
+        }
+        return Math.round(Math.min(delay, maxInterval));
+    }
+}
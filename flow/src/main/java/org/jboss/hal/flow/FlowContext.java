@@ -50,6 +50,7 @@ public class FlowContext {
     final Progress progress;
     FlowStatus status;
     String failure;
+    int iterations;
 
     /**
      * Creates a new instance with a {@linkplain Progress#NOOP noop progress implementation}.
@@ -225,6 +226,13 @@ public class FlowContext {
         return failure;
     }
 
+    /**
+     * @return the number of iterations executed by the last {@linkplain Flow#repeat(FlowContext, Task) repeated} execution
+     */
+    public int iterations() {
+        return iterations;
+    }
+
     @Override
     public String toString() {
         StringBuilder builder = new StringBuilder().append("FlowContext {");
@@ -45,6 +45,21 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
      */
     int DEFAULT_ITERATIONS = -1;
 
+    /**
+     * By default, the interval between the iterations is constant (no backoff).
+     */
+    double DEFAULT_BACKOFF = 1;
+
+    /**
+     * By default, the interval between the iterations is not capped.
+     */
+    long DEFAULT_MAX_INTERVAL = -1;
+
+    /**
+     * By default, the interval between the iterations is not randomized.
+     */
+    double DEFAULT_JITTER = 0;
+
     /**
      * The task is executed as long as the given predicate evaluates to {@code true}. Defaults to a precondition which always
      * returns {@code true}.
@@ -59,6 +74,9 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
 
     /**
      * The interval in milliseconds between the iterations. Defaults to {@value Repeat#DEFAULT_INTERVAL} milliseconds.
+     * <p>
+     * The interval is measured from the moment the previous iteration has settled. An iteration is never started while
+     * the previous one is still in progress.
      */
     Repeat<C> interval(long interval);
 
@@ -71,4 +89,22 @@ public interface Repeat<C extends FlowContext> extends Promisable<C>, Subscripti
      * The maximal number of iterations of the loop. Defaults to an infinite loop ({@value Repeat#DEFAULT_ITERATIONS}).
      */
     Repeat<C> iterations(int iterations);
+
+    /**
+     * The factor by which the interval is multiplied after each iteration (exponential backoff). Values less than or equal
+     * to 1 keep the interval constant. Defaults to {@value Repeat#DEFAULT_BACKOFF}.
+     */
+    Repeat<C> backoff(double multiplier);
+
+    /**
+     * The upper limit in milliseconds for the interval when using {@linkplain #backoff(double) backoff}. Defaults to no
+     * limit ({@value Repeat#DEFAULT_MAX_INTERVAL}).
+     */
+    Repeat<C> maxInterval(long maxInterval);
+
+    /**
+     * Randomizes the interval by the given fraction (between 0 and 1) to spread the iterations of concurrent loops. A
+     * jitter of 0.2 varies the interval by &plusmn;20%. Defaults to {@value Repeat#DEFAULT_JITTER}.
+     */
+    Repeat<C> jitter(double jitter);
 }
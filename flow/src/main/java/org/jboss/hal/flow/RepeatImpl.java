@@ -21,9 +21,7 @@ import elemental2.promise.Promise;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
 import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 
 class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<C> {
@@ -34,8 +32,12 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     private long interval;
     private long timeout;
     private int iterations;
+    private double backoff;
+    private long maxInterval;
+    private double jitter;
     private int index;
-    private String lastFailure;
+    private boolean settled;
+    private Backoff delays;
     private double timeoutHandle;
     private double intervalHandle;
 
@@ -47,8 +49,11 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         this.interval = DEFAULT_INTERVAL;
         this.timeout = DEFAULT_TIMEOUT;
         this.iterations = DEFAULT_ITERATIONS;
+        this.backoff = DEFAULT_BACKOFF;
+        this.maxInterval = DEFAULT_MAX_INTERVAL;
+        this.jitter = DEFAULT_JITTER;
         this.index = 0;
-        this.lastFailure = null;
+        this.settled = false;
         this.timeoutHandle = 0;
         this.intervalHandle = 0;
     }
@@ -85,42 +90,78 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
         return this;
     }
 
+    @Override
+    public Repeat<C> backoff(final double multiplier) {
+        this.backoff = multiplier;
+        return this;
+    }
+
+    @Override
+    public Repeat<C> maxInterval(final long maxInterval) {
+        this.maxInterval = maxInterval;
+        return this;
+    }
+
+    @Override
+    public Repeat<C> jitter(final double jitter) {
+        this.jitter = jitter;
+        return this;
+    }
+
     // ------------------------------------------------------ run
 
     @Override
     Promise<C> run() {
         return new Promise<>((resolve, reject) -> {
+            index = 0;
+            settled = false;
+            context.iterations = 0;
+            delays = new Backoff(interval, backoff, maxInterval, jitter, Math::random);
             timeoutHandle = setTimeout(__ -> cancel(reject, TIMEOUT_ERROR), timeout);
             if (!predicate.test(context)) {
                 finish(resolve, context);
+            } else {
+                next(resolve, reject);
             }
-            until(resolve, reject);
         });
     }
 
-    private void until(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
-        intervalHandle = setInterval(__ -> {
-            if (failFast && lastFailure != null) {
-                cancel(reject, lastFailure);
-            } else {
-                task.apply(context)
-                        .then(c -> {
-                            index++;
-                            c.progress.tick();
-                            if (areWeDone(c)) {
-                                finish(resolve, c);
-                            }
-                            return null;
-                        })
-                        .catch_(error -> {
-                            lastFailure = String.valueOf(error);
-                            if (failFast) {
-                                cancel(reject, lastFailure);
-                            }
-                            return null;
-                        });
-            }
-        }, interval);
+    private void next(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        // schedule the next iteration only after the previous one has settled,
+        // so that slow tasks never overlap
+        if (!settled) {
+            intervalHandle = setTimeout(__ -> iterate(resolve, reject), delays.next());
+        }
+    }
+
+    private void iterate(ResolveCallbackFn<C> resolve, RejectCallbackFn reject) {
+        if (settled) {
+            return;
+        }
+        context.iterations++;
+        task.apply(context)
+                .then(c -> {
+                    if (!settled) {
+                        index++;
+                        c.progress.tick();
+                        if (areWeDone(c)) {
+                            finish(resolve, c);
+                        } else {
+                            next(resolve, reject);
+                        }
+                    }
+                    return null;
+                })
+                .catch_(error -> {
+                    if (!settled) {
+                        if (failFast) {
+                            cancel(reject, String.valueOf(error));
+                        } else {
+                            next(resolve, reject);
+                        }
+                    }
+                    return null;
+                });
     }
 
     // ------------------------------------------------------ helper methods
@@ -145,7 +186,8 @@ class RepeatImpl<C extends FlowContext> extends FlowRunner<C> implements Repeat<
     }
 
     private void cleanup() {
-        clearInterval(intervalHandle);
+        settled = true;
+        clearTimeout(intervalHandle);
         clearTimeout(timeoutHandle);
     }
 }
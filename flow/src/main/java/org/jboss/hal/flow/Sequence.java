@@ -30,6 +30,11 @@ public interface Sequence<C extends FlowContext> extends Promisable<C>, Subscrip
      */
     boolean DEFAULT_FAIL_FAST = true;
 
+    /**
+     * By default, parallel tasks are executed all at once.
+     */
+    int DEFAULT_CONCURRENCY = -1;
+
     /**
      * By default, no timeout is used.
      */
@@ -40,6 +45,14 @@ public interface Sequence<C extends FlowContext> extends Promisable<C>, Subscrip
      */
     Sequence<C> failFast(boolean failFast);
 
+    /**
+     * The maximum number of {@linkplain Task tasks} in flight. Defaults to no limit ({@value #DEFAULT_CONCURRENCY}).
+     * <p>
+     * Please note that this only applies to parallel flows. Whenever a task settles, the next task is started. If the
+     * execution fails fast, no further tasks are started after the first failure.
+     */
+    Sequence<C> concurrency(int concurrency);
+
     /**
      * The timeout in milliseconds for the sequence. Defaults to no timeout ({@value #DEFAULT_TIMEOUT}).
      * <p>
@@ -35,6 +35,7 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
     private final List<Task<C>> tasks;
     private final Iterator<Task<C>> iterator;
     private boolean failFast;
+    private int concurrency;
     private long timeout;
     private double timeoutHandle;
     private boolean timedOut;
@@ -45,6 +46,7 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         this.tasks = tasks;
         this.iterator = tasks.iterator();
         this.failFast = DEFAULT_FAIL_FAST;
+        this.concurrency = DEFAULT_CONCURRENCY;
         this.timeout = DEFAULT_TIMEOUT;
         this.timeoutHandle = 0;
         this.timedOut = false;
@@ -58,6 +60,12 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         return this;
     }
 
+    @Override
+    public Sequence<C> concurrency(final int concurrency) {
+        this.concurrency = concurrency;
+        return this;
+    }
+
     @Override
     public Sequence<C> timeout(final long timeout) {
         this.timeout = timeout;
@@ -73,7 +81,7 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         } else {
             switch (mode) {
                 case PARALLEL:
-                    return parallel();
+                    return concurrency > 0 && concurrency < tasks.size() ? pooled() : parallel();
                 case SEQUENTIAL:
                     return sequential();
                 default:
@@ -105,6 +113,37 @@ class SequenceImpl<C extends FlowContext> extends FlowRunner<C> implements Seque
         }
     }
 
+    // ------------------------------------------------------ run parallel with limited concurrency
+
+    private Promise<C> pooled() {
+        return new Promise<C>((resolve, reject) -> {
+            TaskPool pool = new TaskPool(tasks.size(), concurrency);
+            pool.start(index -> tasks.get(index).apply(context)
+                    .then(c -> {
+                        context.progress.tick();
+                        if (pool.settle()) {
+                            resolve.onInvoke(context);
+                        }
+                        return null;
+                    })
+                    .catch_(error -> {
+                        if (failFast) {
+                            pool.cancel();
+                            reject.onInvoke(error);
+                        } else {
+                            // like parallel(), only successful tasks count as progress
+                            if (pool.settle()) {
+                                resolve.onInvoke(context);
+                            }
+                        }
+                        return null;
+                    }));
+        }).then(c -> {
+            context.progress.finish();
+            return Promise.resolve(context);
+        });
+    }
+
     // ------------------------------------------------------ run sequential
 
     private Promise<C> sequential() {
@@ -0,0 +1,80 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.function.IntConsumer;
+
+/**
+ * Keeps track of the tasks in flight when executing {@linkplain Task tasks} in parallel with a limited concurrency. The pool
+ * starts at most {@code concurrency} tasks. Whenever a task settles, the next task is started.
+ */
+class TaskPool {
+
+    private final int size;
+    private final int concurrency;
+    private IntConsumer launcher;
+    private int next;
+    private int running;
+    private int settled;
+    private boolean cancelled;
+
+    /**
+     * @param size        the number of tasks
+     * @param concurrency the maximum number of tasks in flight
+     */
+    TaskPool(int size, int concurrency) {
+        this.size = size;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Starts the first tasks.
+     *
+     * @param launcher called with the index of the task to start
+     */
+    void start(IntConsumer launcher) {
+        this.launcher = launcher;
+        fill();
+    }
+
+    /**
+     * Must be called when a task settled. Starts the next task unless the pool has been cancelled.
+     *
+     * @return {@code true} if all tasks have been settled, {@code false} otherwise
+     */
+    boolean settle() {
+        running--;
+        settled++;
+        fill();
+        return settled == size;
+    }
+
+    /** Does not start any further tasks. */
+    void cancel() {
+        cancelled = true;
+    }
+
+    int running() {
+        return running;
+    }
+
+    private void fill() {
+        while (!cancelled && running < concurrency && next < size) {
+            running++;
+            launcher.accept(next++);
+        }
+    }
+}
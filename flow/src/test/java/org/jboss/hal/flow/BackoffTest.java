@@ -0,0 +1,66 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class BackoffTest {
+
+    @Test
+    public void constant() {
+        Backoff backoff = new Backoff(1_000, Repeat.DEFAULT_BACKOFF, Repeat.DEFAULT_MAX_INTERVAL, Repeat.DEFAULT_JITTER,
+                () -> 0.5);
+        for (int i = 0; i < 5; i++) {
+            assertEquals(1_000, backoff.next());
+        }
+    }
+
+    @Test
+    public void exponential() {
+        Backoff backoff = new Backoff(100, 2, Repeat.DEFAULT_MAX_INTERVAL, 0, () -> 0.5);
+        assertEquals(100, backoff.next());
+        assertEquals(200, backoff.next());
+        assertEquals(400, backoff.next());
+        assertEquals(800, backoff.next());
+    }
+
+    @Test
+    public void maxInterval() {
+        Backoff backoff = new Backoff(100, 3, 500, 0, () -> 0.5);
+        assertEquals(100, backoff.next());
+        assertEquals(300, backoff.next());
+        assertEquals(500, backoff.next());
+        assertEquals(500, backoff.next());
+    }
+
+    @Test
+    public void jitter() {
+        Backoff low = new Backoff(1_000, 1, -1, 0.2, () -> 0.0);
+        Backoff high = new Backoff(1_000, 1, -1, 0.2, () -> 0.999);
+        assertEquals(800, low.next());
+        long next = high.next();
+        assertTrue(next > 1_000 && next <= 1_200);
+    }
+
+    @Test
+    public void jitterRespectsMaxInterval() {
+        Backoff backoff = new Backoff(1_000, 2, 1_000, 0.5, () -> 0.999);
+        assertEquals(1_000, backoff.next());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.flow;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class TaskPoolTest {
+
+    @Test
+    public void bound() {
+        List<Integer> started = new ArrayList<>();
+        TaskPool pool = new TaskPool(10, 3);
+        pool.start(started::add);
+        assertEquals(asList(0, 1, 2), started);
+        assertEquals(3, pool.running());
+
+        for (int i = 0; i < 7; i++) {
+            assertFalse(pool.settle());
+            assertEquals(3, pool.running());
+            assertEquals(4 + i, started.size());
+        }
+        assertFalse(pool.settle());
+        assertEquals(2, pool.running());
+        assertFalse(pool.settle());
+        assertEquals(1, pool.running());
+        assertTrue(pool.settle());
+        assertEquals(0, pool.running());
+        assertEquals(asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), started);
+    }
+
+    @Test
+    public void lessTasksThanConcurrency() {
+        List<Integer> started = new ArrayList<>();
+        TaskPool pool = new TaskPool(2, 5);
+        pool.start(started::add);
+        assertEquals(asList(0, 1), started);
+        assertFalse(pool.settle());
+        assertTrue(pool.settle());
+    }
+
+    @Test
+    public void synchronousTasks() {
+        // tasks which settle immediately must not exceed the bound either
+        int[] max = new int[1];
+        TaskPool pool = new TaskPool(10, 2);
+        List<Boolean> finished = new ArrayList<>();
+        pool.start(index -> {
+            max[0] = Math.max(max[0], pool.running());
+            finished.add(pool.settle());
+        });
+        assertTrue(max[0] <= 2);
+        assertEquals(10, finished.size());
+        assertTrue(finished.contains(true));
+        assertEquals(0, pool.running());
+    }
+
+    @Test
+    public void cancel() {
+        List<Integer> started = new ArrayList<>();
+        TaskPool pool = new TaskPool(10, 3);
+        pool.start(started::add);
+        pool.cancel();
+        pool.settle();
+        pool.settle();
+        assertEquals(asList(0, 1, 2), started);
+        assertEquals(1, pool.running());
+    }
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.db.PouchDB;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 
 import elemental2.promise.Promise;
@@ -44,8 +45,8 @@ public abstract class AbstractDatabase<T> implements Database<T> {
     }
 
     @Override
-    public Map<ResourceAddress, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates) {
-        return templates.stream().collect(toMap(template -> template.resolve(statementContext), identity()));
+    public Map<AddressKey, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates) {
+        return templates.stream().collect(toMap(template -> template.resolveKey(statementContext), identity()));
     }
 
     @Override
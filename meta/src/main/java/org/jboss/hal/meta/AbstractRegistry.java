@@ -15,7 +15,7 @@
  */
 package org.jboss.hal.meta;
 
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 
 /** Abstract registry which uses the specified statement context to resolve the address template. */
 public abstract class AbstractRegistry<T> implements Registry<T> {
@@ -30,23 +30,24 @@ public abstract class AbstractRegistry<T> implements Registry<T> {
 
     @Override
     public boolean contains(AddressTemplate template) {
-        ResourceAddress address = resolveTemplate(template);
-        return lookupAddress(address) != null;
+        AddressKey key = resolveTemplate(template);
+        return lookupKey(key) != null;
     }
 
     @Override
     public T lookup(AddressTemplate template) throws MissingMetadataException {
-        ResourceAddress address = resolveTemplate(template);
-        T metadata = lookupAddress(address);
+        AddressKey key = resolveTemplate(template);
+        T metadata = lookupKey(key);
         if (metadata == null) {
             throw new MissingMetadataException(type, template);
         }
         return metadata;
     }
 
-    protected ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+    /** Resolves the template using the cached {@link AddressTemplate#resolveKey(StatementContext)}. */
+    protected AddressKey resolveTemplate(AddressTemplate template) {
+        return template.resolveKey(statementContext);
     }
 
-    protected abstract T lookupAddress(ResourceAddress address);
+    protected abstract T lookupKey(AddressKey key);
 }
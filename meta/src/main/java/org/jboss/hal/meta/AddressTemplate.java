@@ -23,7 +23,9 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
 
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelNodeHelper;
 import org.jboss.hal.dmr.Property;
@@ -167,10 +169,14 @@ public final class AddressTemplate implements Iterable<String> {
 
     public static final String OPTIONAL = "opt://";
     private static final String BLANK = "_blank";
+    private static final int MAX_RESOLVED_CONTEXTS = 8;
 
     private final String template;
     private final LinkedList<Token> tokens;
     private final boolean optional;
+    private Placeholder[] placeholders;
+    private AddressKey constantKey;
+    private Map<StatementContext, ResolvedKey> resolvedKeys;
 
     /**
      * Creates a new instance from an encoded string template. '/' characters inside values must have been encoded using
@@ -455,6 +461,70 @@ public final class AddressTemplate implements Iterable<String> {
         return new ResourceAddress(model);
     }
 
+    /**
+     * Resolves this address template against the specified statement context and returns an interned {@link AddressKey}.
+     * <p>
+     * The key is cached per statement context together with the values of the placeholders used in this template. As long as
+     * the statement context resolves these placeholders to the same values, subsequent calls return the cached key without
+     * building a new resource address. Templates without placeholders are resolved only once.
+     *
+     * @param context the statement context
+     * @return the key of the fully qualified resource address
+     */
+    public AddressKey resolveKey(StatementContext context) {
+        if (placeholders == null) {
+            placeholders = placeholders();
+        }
+        if (placeholders.length == 0) {
+            if (constantKey == null) {
+                constantKey = AddressKey.of(resolve(context));
+            }
+            return constantKey;
+        }
+
+        if (resolvedKeys == null) {
+            resolvedKeys = new HashMap<>();
+        }
+        Object[] values = new Object[placeholders.length];
+        ResolvedKey resolved = resolvedKeys.get(context);
+        if (resolved != null && resolved.matches(context, values)) {
+            return resolved.key;
+        }
+        if (resolved == null && resolvedKeys.size() >= MAX_RESOLVED_CONTEXTS) {
+            resolvedKeys.clear();
+        }
+        for (int i = 0; i < placeholders.length; i++) {
+            if (values[i] == null) {
+                values[i] = placeholders[i].resolve(context, this);
+            }
+        }
+        AddressKey key = AddressKey.of(resolve(context));
+        resolvedKeys.put(context, new ResolvedKey(values, key));
+        return key;
+    }
+
+    private Placeholder[] placeholders() {
+        List<Placeholder> placeholders = new ArrayList<>();
+        for (Token token : tokens) {
+            if (token.hasKey()) {
+                addPlaceholder(placeholders, token.getKey(), false);
+                addPlaceholder(placeholders, token.getValue(), false);
+            } else {
+                addPlaceholder(placeholders, token.getValue(), true);
+            }
+        }
+        return placeholders.toArray(new Placeholder[0]);
+    }
+
+    private void addPlaceholder(List<Placeholder> placeholders, String input, boolean tuple) {
+        if (input != null && input.startsWith("{")) {
+            Placeholder placeholder = new Placeholder(input.substring(1, input.length() - 1), tuple);
+            if (!placeholders.contains(placeholder)) {
+                placeholders.add(placeholder);
+            }
+        }
+    }
+
     private String resolveSome(StatementContext context, Memory<String> memory, String input) {
         String resolved;
         if (input.startsWith("{")) {
@@ -527,6 +597,61 @@ public final class AddressTemplate implements Iterable<String> {
         }
     }
 
+    private static class Placeholder {
+
+        final String name;
+        final boolean tuple;
+
+        Placeholder(String name, boolean tuple) {
+            this.name = name;
+            this.tuple = tuple;
+        }
+
+        Object resolve(StatementContext context, AddressTemplate template) {
+            return tuple ? context.resolveTuple(name, template) : context.resolve(name, template);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Placeholder)) {
+                return false;
+            }
+            Placeholder that = (Placeholder) o;
+            return tuple == that.tuple && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * name.hashCode() + (tuple ? 1 : 0);
+        }
+    }
+
+    /** A resolved key together with the placeholder values it was resolved from. */
+    private class ResolvedKey {
+
+        final Object[] values;
+        final AddressKey key;
+
+        ResolvedKey(Object[] values, AddressKey key) {
+            this.values = values;
+            this.key = key;
+        }
+
+        /** Resolves the placeholders one by one into {@code current} and stops at the first value which has changed. */
+        boolean matches(StatementContext context, Object[] current) {
+            for (int i = 0; i < placeholders.length; i++) {
+                current[i] = placeholders[i].resolve(context, AddressTemplate.this);
+                if (!Objects.deepEquals(values[i], current[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
     private static class StringTokenizer {
 
         private static final String DELIMITER = "/";
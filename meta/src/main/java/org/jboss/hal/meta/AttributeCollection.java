@@ -15,9 +15,12 @@
  */
 package org.jboss.hal.meta;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
@@ -26,7 +29,6 @@ import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Property;
 
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toList;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ALTERNATIVES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTE_GROUP;
@@ -39,21 +41,29 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
 
-/** Wrapper around a set of attribute descriptions to avoid direct manipulation of the underlying ModelNode */
+/**
+ * Wrapper around a set of attribute descriptions to avoid direct manipulation of the underlying ModelNode
+ * <p>
+ * Lookups by name, groups, required attributes and the alternatives / requires relations are backed by indexes. The indexes
+ * are built on first use and reset if the collection is modified. Methods returning lists return a copy of the index.
+ */
 public class AttributeCollection implements Collection<Property> {
-    private List<Property> list;
+
+    private final List<Property> list;
+    private Map<String, Property> byName;
+    private Map<String, List<Property>> byGroup;
+    private List<Property> required;
+    private Map<String, List<String>> requiredBy;
+    private final Map<String, List<String>> alternatives;
 
     public AttributeCollection(List<Property> list) {
         this.list = list;
+        this.alternatives = new HashMap<>();
     }
 
     public ModelNode get(String name) {
-        for (Property p : this) {
-            if (p.getName().equals(name)) {
-                return p.getValue();
-            }
-        }
-        return new ModelNode();
+        Property property = byName().get(name);
+        return property != null ? property.getValue() : new ModelNode();
     }
 
     public Property property(String name) {
@@ -69,27 +79,36 @@ public class AttributeCollection implements Collection<Property> {
     }
 
     public List<Property> group(String group) {
-        return stream()
-                .filter(property -> {
-                    ModelNode attributeDescription = property.getValue();
-                    return attributeDescription.hasDefined(ATTRIBUTE_GROUP) &&
-                            group.equals(attributeDescription.get(ATTRIBUTE_GROUP).asString());
-                })
-                .collect(toList());
+        if (byGroup == null) {
+            byGroup = new HashMap<>();
+            for (Property property : list) {
+                ModelNode attributeDescription = property.getValue();
+                if (attributeDescription.hasDefined(ATTRIBUTE_GROUP)) {
+                    byGroup.computeIfAbsent(attributeDescription.get(ATTRIBUTE_GROUP).asString(),
+                            g -> new ArrayList<>()).add(property);
+                }
+            }
+        }
+        return new ArrayList<>(byGroup.getOrDefault(group, emptyList()));
     }
 
     public List<Property> required() {
-        return stream()
-                .filter(property -> {
-                    ModelNode attributeDescription = property.getValue();
-                    if (attributeDescription.hasDefined(REQUIRED)) {
-                        return attributeDescription.get(REQUIRED).asBoolean();
-                    } else if (attributeDescription.hasDefined(NILLABLE)) {
-                        return !attributeDescription.get(NILLABLE).asBoolean();
+        if (required == null) {
+            required = new ArrayList<>();
+            for (Property property : list) {
+                ModelNode attributeDescription = property.getValue();
+                if (attributeDescription.hasDefined(REQUIRED)) {
+                    if (attributeDescription.get(REQUIRED).asBoolean()) {
+                        required.add(property);
+                    }
+                } else if (attributeDescription.hasDefined(NILLABLE)) {
+                    if (!attributeDescription.get(NILLABLE).asBoolean()) {
+                        required.add(property);
                     }
-                    return false;
-                })
-                .collect(toList());
+                }
+            }
+        }
+        return new ArrayList<>(required);
     }
 
     /**
@@ -101,13 +120,14 @@ public class AttributeCollection implements Collection<Property> {
      *         {@code name}
      */
     public List<String> alternatives(String name) {
-        ModelNode attribute = get(name);
-        if (attribute.hasDefined(ALTERNATIVES)) {
-            return attribute.get(ALTERNATIVES).asList().stream()
-                    .map(ModelNode::asString)
-                    .collect(toList());
-        }
-        return emptyList();
+        List<String> names = alternatives.computeIfAbsent(name, n -> {
+            ModelNode attribute = get(n);
+            if (attribute.hasDefined(ALTERNATIVES)) {
+                return asStrings(attribute.get(ALTERNATIVES));
+            }
+            return emptyList();
+        });
+        return new ArrayList<>(names);
     }
 
     /**
@@ -119,18 +139,20 @@ public class AttributeCollection implements Collection<Property> {
      *         attribute {@code name}
      */
     public List<String> requiredBy(String name) {
-        return stream()
-                .filter(attribute -> {
-                    if (attribute.getValue().hasDefined(REQUIRES)) {
-                        List<String> requires = attribute.getValue().get(REQUIRES).asList().stream()
-                                .map(ModelNode::asString)
-                                .collect(toList());
-                        return requires.contains(name);
+        if (requiredBy == null) {
+            requiredBy = new HashMap<>();
+            for (Property attribute : list) {
+                if (attribute.getValue().hasDefined(REQUIRES)) {
+                    for (String required : asStrings(attribute.getValue().get(REQUIRES))) {
+                        List<String> names = requiredBy.computeIfAbsent(required, r -> new ArrayList<>());
+                        if (names.isEmpty() || !names.get(names.size() - 1).equals(attribute.getName())) {
+                            names.add(attribute.getName());
+                        }
                     }
-                    return false;
-                })
-                .map(Property::getName)
-                .collect(toList());
+                }
+            }
+        }
+        return new ArrayList<>(requiredBy.getOrDefault(name, emptyList()));
     }
 
     public boolean isDefaultValue(String name, Object value) {
@@ -154,10 +176,38 @@ public class AttributeCollection implements Collection<Property> {
         return get(name).has(DEPRECATED);
     }
 
+    private Map<String, Property> byName() {
+        if (byName == null) {
+            byName = new HashMap<>();
+            for (Property property : list) {
+                byName.putIfAbsent(property.getName(), property);
+            }
+        }
+        return byName;
+    }
+
+    private List<String> asStrings(ModelNode node) {
+        List<ModelNode> nodes = node.asList();
+        List<String> strings = new ArrayList<>(nodes.size());
+        for (ModelNode n : nodes) {
+            strings.add(n.asString());
+        }
+        return strings;
+    }
+
+    private void invalidate() {
+        byName = null;
+        byGroup = null;
+        required = null;
+        requiredBy = null;
+        alternatives.clear();
+    }
+
     // ------------ collection overrides
 
     @Override
     public boolean add(Property property) {
+        invalidate();
         return list.add(property);
     }
 
@@ -178,7 +228,24 @@ public class AttributeCollection implements Collection<Property> {
 
     @Override
     public Iterator<Property> iterator() {
-        return list.iterator();
+        Iterator<Property> iterator = list.iterator();
+        return new Iterator<Property>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public Property next() {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                invalidate();
+            }
+        };
     }
 
     @Override
@@ -193,6 +260,7 @@ public class AttributeCollection implements Collection<Property> {
 
     @Override
     public boolean remove(Object o) {
+        invalidate();
         return list.remove(o);
     }
 
@@ -203,21 +271,25 @@ public class AttributeCollection implements Collection<Property> {
 
     @Override
     public boolean addAll(Collection<? extends Property> collection) {
+        invalidate();
         return list.addAll(collection);
     }
 
     @Override
     public boolean removeAll(Collection<?> collection) {
+        invalidate();
         return list.removeAll(collection);
     }
 
     @Override
     public boolean retainAll(Collection<?> collection) {
+        invalidate();
         return list.retainAll(collection);
     }
 
     @Override
     public void clear() {
+        invalidate();
         list.clear();
     }
 
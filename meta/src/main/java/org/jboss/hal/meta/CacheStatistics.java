@@ -0,0 +1,35 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+/** Read-only statistics of a {@linkplain WeightedCache weighted cache}. */
+public interface CacheStatistics {
+
+    int size();
+
+    long weight();
+
+    long maxWeight();
+
+    long hits();
+
+    long misses();
+
+    long evictions();
+
+    /** @return the ratio of hits to lookups or {@code 1.0} if there were no lookups (like Guava's {@code CacheStats}) */
+    double hitRate();
+}
@@ -19,6 +19,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.jboss.hal.db.Document;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 
 import elemental2.promise.Promise;
@@ -30,8 +31,8 @@ public interface Database<T> {
     /** Turns a template into a resource addresses for later lookup. */
     ResourceAddress resolveTemplate(AddressTemplate template);
 
-    /** Turns the templates into resource addresses and returns a map for later lookup. */
-    Map<ResourceAddress, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates);
+    /** Turns the templates into address keys and returns a map for later lookup. */
+    Map<AddressKey, AddressTemplate> resolveTemplates(Set<AddressTemplate> templates);
 
     /** Returns a map with metadata for the specified templates. */
     Promise<Map<ResourceAddress, T>> getAll(Set<AddressTemplate> templates);
@@ -19,7 +19,9 @@ import org.jboss.hal.meta.capabilitiy.Capabilities;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
 import org.jboss.hal.meta.processing.MetadataProcessor;
+import org.jboss.hal.meta.processing.MetadataSnapshot;
 import org.jboss.hal.meta.processing.WorkerChannel;
+import org.jboss.hal.meta.search.SearchEngine;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.jboss.hal.spi.GinModule;
@@ -35,8 +37,10 @@ public class MetaModule extends AbstractGinModule {
         bind(Capabilities.class).in(Singleton.class);
         bind(MetadataProcessor.class).in(Singleton.class);
         bind(MetadataRegistry.class).in(Singleton.class);
+        bind(MetadataSnapshot.class).in(Singleton.class);
         bind(ResourceDescriptionDatabase.class).in(Singleton.class);
         bind(ResourceDescriptionRegistry.class).in(Singleton.class);
+        bind(SearchEngine.class).in(Singleton.class);
         bind(SecurityContextDatabase.class).in(Singleton.class);
         bind(SecurityContextRegistry.class).in(Singleton.class);
         bind(WorkerChannel.class).in(Singleton.class);
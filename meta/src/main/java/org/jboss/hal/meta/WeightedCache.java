@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.ToIntFunction;
+
+/**
+ * A least recently used cache which limits the total weight of its entries rather than the number of entries. Used by
+ * the metadata registries to limit the memory used by resource descriptions and security contexts, whose size differs by
+ * orders of magnitude.
+ * <p>
+ * The most recently added entry is never evicted, even if its weight exceeds the maximum weight on its own.
+ */
+public class WeightedCache<K, V> implements CacheStatistics {
+
+    private final long maxWeight;
+    private final ToIntFunction<V> weigher;
+    private final BiConsumer<K, V> evictionListener;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private long weight;
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    public WeightedCache(long maxWeight, ToIntFunction<V> weigher, BiConsumer<K, V> evictionListener) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.evictionListener = evictionListener;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null) {
+            hits++;
+            return entry.value;
+        }
+        misses++;
+        return null;
+    }
+
+    public void put(K key, V value) {
+        Entry<V> entry = new Entry<>(value, Math.max(0, weigher.applyAsInt(value)));
+        Entry<V> previous = entries.put(key, entry);
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += entry.weight;
+        evict(key);
+    }
+
+    private void evict(K keep) {
+        Iterator<Map.Entry<K, Entry<V>>> iterator = entries.entrySet().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            Map.Entry<K, Entry<V>> eldest = iterator.next();
+            if (!eldest.getKey().equals(keep)) {
+                iterator.remove();
+                weight -= eldest.getValue().weight;
+                evictions++;
+                evictionListener.accept(eldest.getKey(), eldest.getValue().value);
+            }
+        }
+    }
+
+    /** @return an unmodifiable map with the cached values. Accessing the map doesn't change the access order. */
+    public Map<K, V> asMap() {
+        Map<K, V> map = new LinkedHashMap<>();
+        entries.forEach((key, entry) -> map.put(key, entry.value));
+        return Collections.unmodifiableMap(map);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public long weight() {
+        return weight;
+    }
+
+    @Override
+    public long maxWeight() {
+        return maxWeight;
+    }
+
+    @Override
+    public long hits() {
+        return hits;
+    }
+
+    @Override
+    public long misses() {
+        return misses;
+    }
+
+    @Override
+    public long evictions() {
+        return evictions;
+    }
+
+    @Override
+    public double hitRate() {
+        long lookups = hits + misses;
+        return lookups == 0 ? 1.0 : (double) hits / lookups;
+    }
+
+    @Override
+    public String toString() {
+        return "WeightedCache(" + size() + " entries, " + weight + "/" + maxWeight + " weight, " + hits + " hits, "
+                + misses + " misses, " + evictions + " evictions)";
+    }
+
+    private static class Entry<V> {
+
+        final V value;
+        final int weight;
+
+        Entry(V value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+}
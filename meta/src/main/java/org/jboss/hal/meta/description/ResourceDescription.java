@@ -86,6 +86,10 @@ public class ResourceDescription extends ModelNode {
     }
 
     private AttributeCollection getAttributes(String path) {
+        AttributeCollection cached = map.get(path);
+        if (cached != null) {
+            return cached;
+        }
         ModelNode attributes = ModelNodeHelper.failSafeGet(this, path);
         if (attributes.isDefined()) {
             if (!map.containsKey(path)) {
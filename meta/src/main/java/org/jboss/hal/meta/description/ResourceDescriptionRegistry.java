@@ -15,58 +15,132 @@
  */
 package org.jboss.hal.meta.description;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.CacheStatistics;
 import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.WeightedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import static java.util.Collections.unmodifiableMap;
 
+import static org.jboss.hal.config.Settings.Key.METADATA_CACHE_SIZE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 /** A registry for resource descriptions. */
 public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescription> {
 
-    private static final int CACHE_SIZE = 250;
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
+    private static final int MAX_PROCESSED_TEMPLATES = 1_000;
     private static final Logger logger = LoggerFactory.getLogger(ResourceDescriptionRegistry.class);
 
-    private final Cache<ResourceAddress, ResourceDescription> cache;
+    private final Settings settings;
+    private WeightedCache<AddressKey, ResourceDescription> cache;
     private final ResourceDescriptionTemplateProcessor templateProcessor;
+    private final Map<AddressTemplate, AddressTemplate> processedTemplates;
+    private final List<BiConsumer<AddressKey, ResourceDescription>> listeners;
+    private final List<Consumer<AddressKey>> evictionListeners;
 
     @Inject
-    public ResourceDescriptionRegistry(StatementContext statementContext, Environment environment) {
+    public ResourceDescriptionRegistry(StatementContext statementContext, Environment environment, Settings settings) {
         super(new ResourceDescriptionStatementContext(statementContext, environment), RESOURCE_DESCRIPTION_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
+        this.settings = settings;
         this.templateProcessor = new ResourceDescriptionTemplateProcessor();
+        this.processedTemplates = new HashMap<>();
+        this.listeners = new ArrayList<>();
+        this.evictionListeners = new ArrayList<>();
     }
 
     public void add(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
         resourceDescription.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, resourceDescription);
+        // don't keep the response of the r-r-d operation alive
+        resourceDescription.detach();
+        AddressKey key = AddressKey.of(address);
+        cache().put(key, resourceDescription);
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
+        for (BiConsumer<AddressKey, ResourceDescription> listener : listeners) {
+            listener.accept(key, resourceDescription);
+        }
+    }
+
+    /** Registers a listener which is called for each resource description added to this registry. */
+    public void addListener(BiConsumer<AddressKey, ResourceDescription> listener) {
+        listeners.add(listener);
+    }
+
+    /** Registers a listener which is called for each resource description evicted from this registry. */
+    public void addEvictionListener(Consumer<AddressKey> listener) {
+        evictionListeners.add(listener);
+    }
+
+    /** @return the key which is used to store the resource description for the specified template */
+    public AddressKey key(AddressTemplate template) {
+        return resolveTemplate(template);
+    }
+
+    /** @return an unmodifiable view of the resource descriptions in this registry */
+    public Map<ResourceAddress, ResourceDescription> asMap() {
+        Map<ResourceAddress, ResourceDescription> map = new LinkedHashMap<>();
+        cache().asMap().forEach((key, resourceDescription) -> map.put(key.address(), resourceDescription));
+        return unmodifiableMap(map);
+    }
+
+    /** @return hit rate, evictions and weight of this registry */
+    public CacheStatistics statistics() {
+        return cache();
     }
 
     @Override
-    protected ResourceDescription lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+    protected ResourceDescription lookupKey(AddressKey key) {
+        return cache().get(key);
     }
 
     @Override
-    protected ResourceAddress resolveTemplate(AddressTemplate template) {
-        AddressTemplate modifiedTemplate = templateProcessor.apply(template);
+    protected AddressKey resolveTemplate(AddressTemplate template) {
+        // keep the processed templates, so that their resolve cache survives subsequent lookups
+        AddressTemplate modifiedTemplate = processedTemplates.get(template);
+        if (modifiedTemplate == null) {
+            if (processedTemplates.size() >= MAX_PROCESSED_TEMPLATES) {
+                processedTemplates.clear();
+            }
+            modifiedTemplate = templateProcessor.apply(template);
+            processedTemplates.put(template, modifiedTemplate);
+        }
         return super.resolveTemplate(modifiedTemplate);
     }
+
+    /**
+     * The cache is created on first use, since the budget is read from the settings which are not available when this
+     * registry is created. The weight of an entry is the size of its binary encoded form. Entries are detached from the
+     * response before they're added, so the weight is what the entry actually retains.
+     */
+    private WeightedCache<AddressKey, ResourceDescription> cache() {
+        if (cache == null) {
+            int megabytes = settings.get(METADATA_CACHE_SIZE).asInt(Settings.DEFAULT_METADATA_CACHE_SIZE);
+            long maxWeight = megabytes * 1024L * 1024L;
+            cache = new WeightedCache<>(maxWeight, ResourceDescription::encodedSize,
+                    (key, resourceDescription) -> {
+                        logger.debug("Evict {} from {} cache", key, type);
+                        for (Consumer<AddressKey> listener : evictionListeners) {
+                            listener.accept(key);
+                        }
+                    });
+        }
+        return cache;
+    }
 }
@@ -0,0 +1,79 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+/**
+ * Chooses the number of r-r-d operations per composite operation based on the observed response size and latency. The
+ * batch size is chosen so that one composite stays below {@link #TARGET_BYTES} and {@link #TARGET_MILLIS}.
+ */
+final class BatchSize {
+
+    static final int MIN = 1;
+    static final int MAX = 10;
+    static final int TARGET_BYTES = 512 * 1024;
+    static final int TARGET_MILLIS = 1_000;
+
+    /** Weight of the latest measurement for the exponential moving average. */
+    private static final double WEIGHT = 0.5;
+
+    private int size;
+    private double bytesPerOperation;
+    private double millisPerOperation;
+
+    BatchSize(int initial) {
+        this.size = clamp(initial);
+        this.bytesPerOperation = 0;
+        this.millisPerOperation = 0;
+    }
+
+    int get() {
+        return size;
+    }
+
+    /**
+     * Records the response of a composite operation and adjusts the batch size.
+     *
+     * @param operations the number of operations in the composite
+     * @param bytes the size of the response in bytes or a negative value if unknown (e.g. cached responses)
+     * @param millis the time in milliseconds it took to execute the composite
+     */
+    void record(int operations, int bytes, long millis) {
+        if (operations > 0) {
+            if (bytes >= 0) {
+                bytesPerOperation = average(bytesPerOperation, (double) bytes / operations);
+            }
+            millisPerOperation = average(millisPerOperation, (double) millis / operations);
+
+            double bySize = bytesPerOperation > 0 ? TARGET_BYTES / bytesPerOperation : MAX;
+            double byTime = millisPerOperation > 0 ? TARGET_MILLIS / millisPerOperation : MAX;
+            size = clamp((int) Math.min(bySize, byTime));
+        }
+    }
+
+    private double average(double current, double value) {
+        return current == 0 ? value : WEIGHT * value + (1 - WEIGHT) * current;
+    }
+
+    private static int clamp(int size) {
+        return Math.max(MIN, Math.min(MAX, size));
+    }
+
+    @Override
+    public String toString() {
+        return "BatchSize(" + size + ", " + Math.round(bytesPerOperation) + " bytes/op, " + Math.round(millisPerOperation)
+                + " ms/op)";
+    }
+}
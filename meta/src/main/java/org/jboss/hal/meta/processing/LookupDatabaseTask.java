@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.Flow;
@@ -152,13 +153,13 @@ final class LookupDatabaseTask implements Task<LookupContext> {
             }
         }
 
-        Map<ResourceAddress, AddressTemplate> rdLookup = resourceDescriptionDatabase.resolveTemplates(rdTemplates);
+        Map<AddressKey, AddressTemplate> rdLookup = resourceDescriptionDatabase.resolveTemplates(rdTemplates);
         Task<LookupContext> rdTask = (LookupContext c) -> resourceDescriptionDatabase.getAll(rdTemplates)
                 .then(resourceDescriptions -> {
                     for (Map.Entry<ResourceAddress, ResourceDescription> entry : resourceDescriptions.entrySet()) {
                         ResourceAddress address = entry.getKey();
                         ResourceDescription resourceDescription = entry.getValue();
-                        AddressTemplate template = rdLookup.get(address);
+                        AddressTemplate template = rdLookup.get(AddressKey.of(address));
                         if (template != null) {
                             lookupResult.markMetadataPresent(template, RESOURCE_DESCRIPTION_PRESENT);
                             context.toResourceDescriptionRegistry.put(address, resourceDescription);
@@ -167,14 +168,14 @@ final class LookupDatabaseTask implements Task<LookupContext> {
                     return Promise.resolve(c);
                 });
 
-        Map<ResourceAddress, AddressTemplate> scLookup = securityContextDatabase.resolveTemplates(scTemplates);
+        Map<AddressKey, AddressTemplate> scLookup = securityContextDatabase.resolveTemplates(scTemplates);
         Task<LookupContext> scTask = (LookupContext c) -> securityContextDatabase.getAll(scTemplates)
                 .then(securityContexts -> {
                     for (Map.Entry<ResourceAddress, SecurityContext> entry : securityContexts.entrySet()) {
                         ResourceAddress address = entry.getKey();
                         SecurityContext securityContext = entry.getValue();
                         if (securityContext != null) {
-                            AddressTemplate template = scLookup.get(address);
+                            AddressTemplate template = scLookup.get(AddressKey.of(address));
                             if (template != null) {
                                 lookupResult.markMetadataPresent(template, SECURITY_CONTEXT_PRESENT);
                                 context.toSecurityContextRegistry.put(address, securityContext);
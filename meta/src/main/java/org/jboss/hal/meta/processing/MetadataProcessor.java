@@ -58,9 +58,12 @@ public class MetadataProcessor {
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
     static final int RRD_DEPTH = 3;
 
-    /** Number of r-r-d operations part of one composite operation. */
+    /** Initial number of r-r-d operations part of one composite operation. Adjusted by {@link BatchSize}. */
     private static final int BATCH_SIZE = 3;
 
+    /** Number of composite r-r-d operations executed in parallel. */
+    private static final int CONCURRENCY = 4;
+
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
     private final Environment environment;
@@ -74,6 +77,8 @@ public class MetadataProcessor {
     private final SecurityContextRegistry securityContextRegistry;
     private final Settings settings;
     private final WorkerChannel workerChannel;
+    private final MetadataSnapshot metadataSnapshot;
+    private final BatchSize batchSize;
 
     @Inject
     public MetadataProcessor(Environment environment,
@@ -86,7 +91,8 @@ public class MetadataProcessor {
             ResourceDescriptionDatabase resourceDescriptionDatabase,
             ResourceDescriptionRegistry resourceDescriptionRegistry,
             Settings settings,
-            WorkerChannel workerChannel) {
+            WorkerChannel workerChannel,
+            MetadataSnapshot metadataSnapshot) {
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -98,6 +104,8 @@ public class MetadataProcessor {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.settings = settings;
         this.workerChannel = workerChannel;
+        this.metadataSnapshot = metadataSnapshot;
+        this.batchSize = new BatchSize(BATCH_SIZE);
     }
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
@@ -148,7 +156,8 @@ public class MetadataProcessor {
             if (!ie) {
                 tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
             }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, batchSize, CONCURRENCY,
+                    RRD_DEPTH));
             tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
             if (!ie) {
                 tasks.add(new UpdateDatabaseTask(workerChannel));
@@ -160,6 +169,9 @@ public class MetadataProcessor {
                     c -> {
                         stopwatch.stop();
                         logger.info("Successfully processed metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
+                        if (c.updateRegistry()) {
+                            metadataSnapshot.save();
+                        }
                         return Promise.resolve((Void) null);
                     });
         }
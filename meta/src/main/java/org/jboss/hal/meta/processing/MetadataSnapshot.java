@@ -0,0 +1,282 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.db.Compression;
+import org.jboss.hal.db.Document;
+import org.jboss.hal.db.PouchDB;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.security.SecurityContext;
+import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.jboss.hal.meta.security.SecurityContextRegistry;
+import org.jboss.hal.resources.Ids;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.common.base.Stopwatch;
+
+import elemental2.core.Int8Array;
+import elemental2.dom.Blob;
+import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
+import elemental2.promise.Promise;
+import jsinterop.base.JsPropertyMap;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
+
+/**
+ * Stores the resource descriptions and security contexts of the registries as one compressed binary snapshot and loads the
+ * snapshot into the registries during bootstrap. This replaces the many single lookups in the databases with one read.
+ * <p>
+ * The snapshot is a sequence of binary encoded entries, each holding the type, the address segments and the resource
+ * description or security context. An entry is encoded once and reused for subsequent saves as long as the registry holds
+ * the same instance for the address.
+ * <p>
+ * The snapshot is keyed by the names of the {@linkplain ResourceDescriptionDatabase resource description} and
+ * {@linkplain SecurityContextDatabase security context} databases, which include the build, stability level, locale,
+ * roles and management version. Snapshots of other management versions are removed when the snapshot is loaded.
+ */
+public class MetadataSnapshot {
+
+    private static final String DATABASE = "hal-db-snapshot";
+    // snapshots saved as base64 text used the attachment "snapshot" and are ignored
+    private static final String ATTACHMENT = "entries";
+    private static final String ATTACHMENTS = "_attachments";
+    private static final String REVISION = "_rev";
+    private static final String VERSION = "version";
+    private static final String TYPE = "type";
+    private static final String ADDRESS = "address";
+    private static final String VALUE = "value";
+    static final String RESOURCE_DESCRIPTION = "resource-description";
+    static final String SECURITY_CONTEXT = "security-context";
+
+    /** Wait this amount of milliseconds after the last change before the snapshot is saved. */
+    private static final int SAVE_DELAY = 5_000;
+
+    private static final Logger logger = LoggerFactory.getLogger(MetadataSnapshot.class);
+
+    private final Environment environment;
+    private final ResourceDescriptionDatabase resourceDescriptionDatabase;
+    private final ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private final SecurityContextDatabase securityContextDatabase;
+    private final SecurityContextRegistry securityContextRegistry;
+    private final Map<ResourceAddress, Encoded> encodedResourceDescriptions;
+    private final Map<ResourceAddress, Encoded> encodedSecurityContexts;
+    private PouchDB database;
+    private double saveHandle;
+
+    @Inject
+    public MetadataSnapshot(Environment environment,
+            ResourceDescriptionDatabase resourceDescriptionDatabase,
+            ResourceDescriptionRegistry resourceDescriptionRegistry,
+            SecurityContextDatabase securityContextDatabase,
+            SecurityContextRegistry securityContextRegistry) {
+        this.environment = environment;
+        this.resourceDescriptionDatabase = resourceDescriptionDatabase;
+        this.resourceDescriptionRegistry = resourceDescriptionRegistry;
+        this.securityContextDatabase = securityContextDatabase;
+        this.securityContextRegistry = securityContextRegistry;
+        this.encodedResourceDescriptions = new HashMap<>();
+        this.encodedSecurityContexts = new HashMap<>();
+        this.saveHandle = 0;
+    }
+
+    // ------------------------------------------------------ load
+
+    /**
+     * Loads the snapshot for the current databases into the registries. The promise is never rejected.
+     *
+     * @return the number of resource descriptions and security contexts added to the registries
+     */
+    public Promise<Integer> load() {
+        if (!supported()) {
+            return Promise.resolve(0);
+        }
+
+        String id = id();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        return database().getAttachment(id, ATTACHMENT)
+                .then(Compression::decompress)
+                .then(buffer -> {
+                    int count = apply(ModelNode.fromBinary(buffer, true));
+                    logger.info("Loaded {} entries from metadata snapshot {} ({} bytes) in {} ms", count, id,
+                            (long) buffer.byteLength, stopwatch.stop().elapsed(MILLISECONDS));
+                    return Promise.resolve(count);
+                })
+                .catch_(error -> {
+                    logger.debug("No metadata snapshot {}: {}", id, error);
+                    return Promise.resolve(0);
+                })
+                .then(count -> removeStale().then(__ -> Promise.resolve(count)));
+    }
+
+    int apply(List<ModelNode> entries) {
+        int count = 0;
+        for (ModelNode entry : entries) {
+            ResourceAddress address = new ResourceAddress(entry.get(ADDRESS));
+            String type = entry.get(TYPE).asString();
+            if (RESOURCE_DESCRIPTION.equals(type)) {
+                ResourceDescription resourceDescription = new ResourceDescription(entry.get(VALUE));
+                resourceDescriptionRegistry.add(address, resourceDescription,
+                        resourceDescription.get(HAL_RECURSIVE).asBoolean(false));
+                count++;
+            } else if (SECURITY_CONTEXT.equals(type)) {
+                SecurityContext securityContext = new SecurityContext(entry.get(VALUE));
+                securityContextRegistry.add(address, securityContext, securityContext.get(HAL_RECURSIVE).asBoolean(false));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Promise<Void> removeStale() {
+        String version = environment.getManagementVersion().toString();
+        return database().removeIf(document -> !version.equals(document.get(VERSION)))
+                .then(ids -> {
+                    if (!ids.isEmpty()) {
+                        logger.debug("Removed stale metadata snapshots {}", ids);
+                    }
+                    return Promise.resolve((Void) null);
+                })
+                .catch_(error -> {
+                    logger.error("Unable to remove stale metadata snapshots: {}", error);
+                    return Promise.resolve((Void) null);
+                });
+    }
+
+    // ------------------------------------------------------ save
+
+    /** Saves the content of the registries as snapshot. Subsequent calls within a short period are merged. */
+    public void save() {
+        if (supported()) {
+            clearTimeout(saveHandle);
+            saveHandle = setTimeout(__ -> saveNow(), SAVE_DELAY);
+        }
+    }
+
+    private void saveNow() {
+        String id = id();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        Map<ResourceAddress, ResourceDescription> resourceDescriptions = resourceDescriptionRegistry.asMap();
+        Map<ResourceAddress, SecurityContext> securityContexts = securityContextRegistry.asMap();
+        List<Int8Array> parts = new ArrayList<>();
+        encode(RESOURCE_DESCRIPTION, resourceDescriptions, encodedResourceDescriptions, parts);
+        encode(SECURITY_CONTEXT, securityContexts, encodedSecurityContexts, parts);
+        ConstructorBlobPartsArrayUnionType[] blobParts = new ConstructorBlobPartsArrayUnionType[parts.size()];
+        for (int i = 0; i < parts.size(); i++) {
+            blobParts[i] = ConstructorBlobPartsArrayUnionType.of(parts.get(i));
+        }
+        Blob data = new Blob(blobParts);
+
+        PouchDB db = database();
+        Promise<Object> revision = db.get(id)
+                .then(document -> Promise.resolve(document.get(REVISION)))
+                .catch_(error -> Promise.resolve((Object) null));
+        Promise.all(Compression.compress(data), revision)
+                .then(results -> {
+                    Document document = Document.of(id);
+                    if (results[1] != null) {
+                        document.set(REVISION, results[1]);
+                    }
+                    document.set(VERSION, environment.getManagementVersion().toString());
+                    document.set(ATTACHMENTS, JsPropertyMap.of(ATTACHMENT, JsPropertyMap.of(
+                            "content_type", Compression.CONTENT_TYPE,
+                            "data", results[0])));
+                    return db.put(document);
+                })
+                .then(__ -> {
+                    logger.info("Saved {} resource descriptions and {} security contexts as metadata snapshot {} in {} ms",
+                            resourceDescriptions.size(), securityContexts.size(), id,
+                            stopwatch.stop().elapsed(MILLISECONDS));
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.error("Unable to save metadata snapshot {}: {}", id, error);
+                    return null;
+                });
+    }
+
+    /**
+     * Adds the binary form of the entries to {@code parts}. Entries are only encoded if they're not in {@code encoded} yet
+     * or if the registry holds another instance for the address. Entries which are no longer in the registry are removed
+     * from {@code encoded}.
+     */
+    private <T extends ModelNode> void encode(String type, Map<ResourceAddress, T> entries,
+            Map<ResourceAddress, Encoded> encoded, List<Int8Array> parts) {
+        Map<ResourceAddress, Encoded> current = new HashMap<>();
+        entries.forEach((address, value) -> {
+            Encoded e = encoded.get(address);
+            if (e == null || e.value != value) {
+                e = new Encoded(value, entry(type, address, value).toBinary());
+            }
+            current.put(address, e);
+            parts.add(e.bytes);
+        });
+        encoded.clear();
+        encoded.putAll(current);
+    }
+
+    static ModelNode entry(String type, ResourceAddress address, ModelNode value) {
+        ModelNode entry = new ModelNode();
+        entry.get(TYPE).set(type);
+        entry.get(ADDRESS).set(address);
+        entry.get(VALUE).set(value);
+        return entry;
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private boolean supported() {
+        return !Browser.isIE() && Compression.supported();
+    }
+
+    private String id() {
+        return Ids.build(resourceDescriptionDatabase.name(), securityContextDatabase.name());
+    }
+
+    private PouchDB database() {
+        if (database == null) {
+            database = new PouchDB(DATABASE);
+        }
+        return database;
+    }
+
+    private static class Encoded {
+
+        private final ModelNode value;
+        private final Int8Array bytes;
+
+        private Encoded(ModelNode value, Int8Array bytes) {
+            this.value = value;
+            this.bytes = bytes;
+        }
+    }
+}
@@ -31,10 +31,12 @@ import org.jboss.hal.meta.StatementContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.base.Stopwatch;
 import com.google.common.collect.Lists;
 
 import elemental2.promise.Promise;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
 
 /** Creates, executes and parses the {@code read-resource-description} operations to read the missing metadata. */
@@ -43,13 +45,15 @@ final class RrdTask implements Task<LookupContext> {
     private static final Logger logger = LoggerFactory.getLogger(RrdTask.class);
 
     private final Dispatcher dispatcher;
-    private final int batchSize;
+    private final BatchSize batchSize;
+    private final int concurrency;
     private final CreateRrdOperations rrdOps;
 
     RrdTask(Environment environment, Dispatcher dispatcher, StatementContext statementContext, Settings settings,
-            int batchSize, int depth) {
+            BatchSize batchSize, int concurrency, int depth) {
         this.dispatcher = dispatcher;
         this.batchSize = batchSize;
+        this.concurrency = concurrency;
         this.rrdOps = new CreateRrdOperations(environment, statementContext, settings.get(Settings.Key.LOCALE).value(),
                 depth);
     }
@@ -61,13 +65,30 @@ final class RrdTask implements Task<LookupContext> {
 
         // create and partition non-optional operations
         List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
+        List<List<Operation>> piles = Lists.partition(operations, batchSize.get());
         List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
+        // Failures are collected instead of failing fast: Composites which are still in flight would otherwise write
+        // their results to the context and registries after the caller has already failed.
+        List<Object> failures = new ArrayList<>();
         for (Composite composite : composites) {
-            tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
-                parseRrdAction(context, composite, result);
-                return Promise.resolve(c);
-            }));
+            tasks.add((LookupContext c) -> {
+                int[] bytes = new int[] { -1 };
+                Stopwatch stopwatch = Stopwatch.createStarted();
+                return dispatcher.executeWithSize(composite, size -> bytes[0] = size)
+                        .then(result -> {
+                            long millis = stopwatch.stop().elapsed(MILLISECONDS);
+                            batchSize.record(composite.size(), bytes[0], millis);
+                            logger.debug("Executed composite with {} operations: {} bytes in {} ms, next {}",
+                                    composite.size(), bytes[0], millis, batchSize);
+                            parseRrdAction(context, composite, result);
+                            return Promise.resolve(c);
+                        })
+                        .catch_(error -> {
+                            logger.debug("Composite operation {} failed: {}", composite.asCli(), error);
+                            failures.add(error);
+                            return Promise.resolve(c);
+                        });
+            });
         }
 
         // create optional operations w/o partitioning!
@@ -91,8 +112,9 @@ final class RrdTask implements Task<LookupContext> {
 
         if (!tasks.isEmpty()) {
             if (logger.isDebugEnabled()) {
-                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional)",
-                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size());
+                logger.debug("About to execute {} ({}+{}) composite operations (regular+optional) using {}",
+                        composites.size() + optionalComposites.size(), composites.size(), optionalComposites.size(),
+                        batchSize);
                 String compositeOps = composites.stream().map(Composite::asCli).collect(Collectors.joining(", "));
                 logger.debug("Composite operations: {}", compositeOps);
                 if (!optionalComposites.isEmpty()) {
@@ -102,7 +124,11 @@ final class RrdTask implements Task<LookupContext> {
                     logger.debug("Optional operations: {}", optionalOps);
                 }
             }
-            return Flow.sequential(context, tasks).promise();
+            return Flow.parallel(context, tasks)
+                    .concurrency(concurrency)
+                    .failFast(false)
+                    .promise()
+                    .then(c -> failures.isEmpty() ? Promise.resolve(c) : Promise.reject(failures.get(0)));
         } else {
             logger.debug("No DMR operations necessary");
             return Promise.resolve(context);
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.meta.processing;
 
+import java.util.Map;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.db.Document;
@@ -25,6 +27,7 @@ import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 
+import elemental2.core.JsArray;
 import elemental2.dom.Worker;
 import jsinterop.annotations.JsProperty;
 import jsinterop.annotations.JsType;
@@ -54,30 +57,46 @@ public class WorkerChannel {
         this.worker = Browser.isIE() ? null : WorkerProvider.metadataChannel;
     }
 
-    void postResourceDescription(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
-        if (worker != null) {
-            resourceDescription.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = resourceDescriptionDatabase.name();
-            message.document = resourceDescriptionDatabase.asDocument(address, resourceDescription);
-            worker.postMessage(message);
+    /** Posts all resource descriptions as one batch which the worker writes in a single bulk operation. */
+    int postResourceDescriptions(Map<ResourceAddress, ResourceDescription> resourceDescriptions, boolean recursive) {
+        if (worker != null && !resourceDescriptions.isEmpty()) {
+            JsArray<Document> documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, ResourceDescription> entry : resourceDescriptions.entrySet()) {
+                ResourceDescription resourceDescription = entry.getValue();
+                resourceDescription.get(HAL_RECURSIVE).set(recursive);
+                documents.push(resourceDescriptionDatabase.asDocument(entry.getKey(), resourceDescription));
+            }
+            return post(resourceDescriptionDatabase.name(), documents);
         }
+        return 0;
     }
 
-    void postSecurityContext(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
-        if (worker != null) {
-            securityContext.get(HAL_RECURSIVE).set(recursive);
-            UpdateMessage message = new UpdateMessage();
-            message.database = securityContextDatabase.name();
-            message.document = securityContextDatabase.asDocument(address, securityContext);
-            worker.postMessage(message);
+    /** Posts all security contexts as one batch which the worker writes in a single bulk operation. */
+    int postSecurityContexts(Map<ResourceAddress, SecurityContext> securityContexts, boolean recursive) {
+        if (worker != null && !securityContexts.isEmpty()) {
+            JsArray<Document> documents = new JsArray<>();
+            for (Map.Entry<ResourceAddress, SecurityContext> entry : securityContexts.entrySet()) {
+                SecurityContext securityContext = entry.getValue();
+                securityContext.get(HAL_RECURSIVE).set(recursive);
+                documents.push(securityContextDatabase.asDocument(entry.getKey(), securityContext));
+            }
+            return post(securityContextDatabase.name(), documents);
         }
+        return 0;
+    }
+
+    private int post(String database, JsArray<Document> documents) {
+        UpdateMessage message = new UpdateMessage();
+        message.database = database;
+        message.documents = documents;
+        worker.postMessage(message);
+        return 1;
     }
 
     @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
     private static class UpdateMessage {
 
         String database;
-        Document document;
+        JsArray<Document> documents;
     }
 }
@@ -0,0 +1,89 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static java.util.Collections.emptyList;
+
+/**
+ * Keeps track of the attribute documents in the index of the search worker. The worker only knows the canonical string of
+ * the address keys, which is escaped. This class maps the string back to the key, so that search hits resolve to the
+ * original address, and knows the documents to remove once a resource description leaves the registry.
+ */
+class IndexedAttributes {
+
+    private static final String SEPARATOR = "@";
+
+    private final Map<String, AddressKey> keys;
+    private final Map<AddressKey, Set<String>> ids;
+
+    IndexedAttributes() {
+        this.keys = new HashMap<>();
+        this.ids = new HashMap<>();
+    }
+
+    /** @return the id of the document for the specified attribute */
+    static String id(AddressKey key, String attribute) {
+        return key + SEPARATOR + attribute;
+    }
+
+    /**
+     * Records the documents for the attributes of the specified address.
+     *
+     * @return the ids of documents which were indexed for the address before, but are not part of the attributes anymore
+     */
+    List<String> add(AddressKey key, Set<String> attributes) {
+        Set<String> current = new LinkedHashSet<>();
+        for (String attribute : attributes) {
+            current.add(id(key, attribute));
+        }
+        Set<String> previous = ids.put(key, current);
+        keys.put(key.toString(), key);
+
+        if (previous == null) {
+            return emptyList();
+        }
+        List<String> stale = new ArrayList<>(previous);
+        stale.removeAll(current);
+        return stale;
+    }
+
+    /** @return the ids of all documents indexed for the specified address */
+    List<String> remove(AddressKey key) {
+        keys.remove(key.toString());
+        Set<String> removed = ids.remove(key);
+        return removed != null ? new ArrayList<>(removed) : emptyList();
+    }
+
+    /** @return the address for the canonical string of an address key or {@code null} if the address is not indexed */
+    ResourceAddress address(String canonical) {
+        AddressKey key = canonical != null ? keys.get(canonical) : null;
+        return key != null ? key.address() : null;
+    }
+
+    int size() {
+        return ids.size();
+    }
+}
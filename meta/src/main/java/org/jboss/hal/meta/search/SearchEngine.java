@@ -0,0 +1,258 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.resource.RequiredResources;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.core.JsArray;
+import elemental2.dom.MessageEvent;
+import elemental2.dom.Worker;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import static java.util.Collections.emptyList;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Client side full text search over the pages of the console and the attributes of the resource descriptions.
+ * <p>
+ * The index lives in a web worker (app/src/web/script/search.js) which keeps an inverted index and answers prefix queries.
+ * This class feeds the worker and correlates the responses. The pages are taken from the generated {@link SearchIndex}. The
+ * attributes are taken from the {@link ResourceDescriptionRegistry}: Descriptions already in the registry are indexed by
+ * {@link #init()}, descriptions added later are indexed as they arrive and removed once they're evicted from the registry.
+ * An attribute hit links to the page which requires the resource description, if there's one.
+ */
+public class SearchEngine {
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker searchChannel;
+    }
+
+    private static final String ADD = "add";
+    private static final String REMOVE = "remove";
+    private static final String SEARCH = "search";
+    private static final Logger logger = LoggerFactory.getLogger(SearchEngine.class);
+
+    private final Environment environment;
+    private final SearchIndex searchIndex;
+    private final RequiredResources requiredResources;
+    private final ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private final Worker worker;
+    private final Map<AddressKey, String> tokensByAddress;
+    private final IndexedAttributes indexedAttributes;
+    private boolean initialized;
+    private int request;
+    private Consumer<List<SearchHit>> callback;
+
+    @Inject
+    public SearchEngine(Environment environment,
+            SearchIndex searchIndex,
+            RequiredResources requiredResources,
+            ResourceDescriptionRegistry resourceDescriptionRegistry) {
+        this.environment = environment;
+        this.searchIndex = searchIndex;
+        this.requiredResources = requiredResources;
+        this.resourceDescriptionRegistry = resourceDescriptionRegistry;
+        this.worker = Browser.isIE() ? null : WorkerProvider.searchChannel;
+        this.tokensByAddress = new HashMap<>();
+        this.indexedAttributes = new IndexedAttributes();
+        if (worker != null) {
+            worker.addEventListener("message", event -> onResponse(Js.uncheckedCast(event)));
+        }
+    }
+
+    /**
+     * Indexes the pages and the resource descriptions which are already in the registry and registers listeners for new
+     * and evicted resource descriptions. Subsequent calls are no-ops. Called on first use, so there's no indexing cost if the
+     * search is not used.
+     */
+    public void init() {
+        if (worker != null && !initialized) {
+            initialized = true;
+            JsArray<SearchDocument> documents = new JsArray<>();
+            for (String token : searchIndex.getTokens(environment.isStandalone())) {
+                documents.push(page(token));
+                for (String resource : requiredResources.getResources(token)) {
+                    AddressKey key = resourceDescriptionRegistry.key(AddressTemplate.of(resource));
+                    tokensByAddress.putIfAbsent(key, token);
+                }
+            }
+            resourceDescriptionRegistry.asMap().forEach((address, resourceDescription) -> attributes(
+                    AddressKey.of(address), resourceDescription, documents));
+            post(documents);
+            resourceDescriptionRegistry.addListener((key, resourceDescription) -> {
+                JsArray<SearchDocument> added = new JsArray<>();
+                attributes(key, resourceDescription, added);
+                post(added);
+            });
+            resourceDescriptionRegistry.addEvictionListener(key -> remove(indexedAttributes.remove(key)));
+        }
+    }
+
+    /**
+     * Searches for the specified query. Each word of the query is used as prefix. Only the callback of the latest search is
+     * called, the results of older searches are dropped.
+     */
+    public void search(String query, int limit, Consumer<List<SearchHit>> callback) {
+        init();
+        if (worker == null || query == null || query.trim().isEmpty()) {
+            this.callback = null;
+            callback.accept(emptyList());
+        } else {
+            this.callback = callback;
+            SearchMessage message = new SearchMessage();
+            message.type = SEARCH;
+            message.request = ++request;
+            message.query = query;
+            message.limit = limit;
+            worker.postMessage(message);
+        }
+    }
+
+    private void onResponse(MessageEvent<SearchResponse> event) {
+        SearchResponse response = event.data;
+        if (response.request == request && callback != null) {
+            List<SearchHit> hits = new ArrayList<>();
+            for (int i = 0; i < response.hits.length; i++) {
+                SearchDocument document = response.hits.getAt(i);
+                hits.add(new SearchHit(SearchHit.Kind.valueOf(document.kind), document.title, document.description,
+                        document.token, indexedAttributes.address(document.address)));
+            }
+            logger.debug("Found {} hits for request {} in {} ms", hits.size(), response.request, response.took);
+            callback.accept(hits);
+        }
+    }
+
+    private SearchDocument page(String token) {
+        SearchDocument document = new SearchDocument();
+        document.id = token;
+        document.kind = SearchHit.Kind.PAGE.name();
+        document.title = token;
+        document.token = token;
+        document.keywords = new JsArray<>();
+        for (String keyword : searchIndex.getKeywords(token)) {
+            document.keywords.push(keyword);
+        }
+        return document;
+    }
+
+    private void attributes(AddressKey key, ResourceDescription resourceDescription, JsArray<SearchDocument> documents) {
+        String token = tokensByAddress.get(key);
+        Set<String> names = new LinkedHashSet<>();
+        for (Property attribute : resourceDescription.attributes()) {
+            if (names.add(attribute.getName())) {
+                SearchDocument document = new SearchDocument();
+                document.id = IndexedAttributes.id(key, attribute.getName());
+                document.kind = SearchHit.Kind.ATTRIBUTE.name();
+                document.title = attribute.getName();
+                document.description = resourceDescription.attributes().description(attribute.getName());
+                document.token = token;
+                document.address = key.toString();
+                documents.push(document);
+            }
+        }
+        remove(indexedAttributes.add(key, names));
+    }
+
+    private void post(JsArray<SearchDocument> documents) {
+        if (documents.length != 0) {
+            IndexMessage message = new IndexMessage();
+            message.type = ADD;
+            message.documents = documents;
+            worker.postMessage(message);
+        }
+    }
+
+    private void remove(List<String> ids) {
+        if (!ids.isEmpty()) {
+            RemoveMessage message = new RemoveMessage();
+            message.type = REMOVE;
+            message.ids = new JsArray<>();
+            for (String id : ids) {
+                message.ids.push(id);
+            }
+            worker.postMessage(message);
+        }
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchDocument {
+
+        String id;
+        String kind;
+        String title;
+        String description;
+        String token;
+        String address;
+        JsArray<String> keywords;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class IndexMessage {
+
+        String type;
+        JsArray<SearchDocument> documents;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class RemoveMessage {
+
+        String type;
+        JsArray<String> ids;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchMessage {
+
+        String type;
+        int request;
+        String query;
+        int limit;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchResponse {
+
+        int request;
+        double took;
+        JsArray<SearchDocument> hits;
+    }
+}
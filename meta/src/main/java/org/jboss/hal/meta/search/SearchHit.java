@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import org.jboss.hal.dmr.ResourceAddress;
+
+/** A search result of the {@link SearchEngine}. */
+public class SearchHit {
+
+    public enum Kind {
+        /** A name token, i.e. a page of the console. */
+        PAGE,
+
+        /** An attribute of a resource description. */
+        ATTRIBUTE
+    }
+
+    private final Kind kind;
+    private final String title;
+    private final String description;
+    private final String token;
+    private final ResourceAddress address;
+
+    SearchHit(Kind kind, String title, String description, String token, ResourceAddress address) {
+        this.kind = kind;
+        this.title = title;
+        this.description = description;
+        this.token = token;
+        this.address = address;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchHit(" + kind + ", " + title + ", " + token + ")";
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    /** @return the description of the attribute or {@code null} for pages */
+    public String getDescription() {
+        return description;
+    }
+
+    /** @return the name token to navigate to or {@code null} if there's no page for an attribute */
+    public String getToken() {
+        return token;
+    }
+
+    /** @return the address of the resource description of an attribute or {@code null} for pages */
+    public ResourceAddress getAddress() {
+        return address;
+    }
+}
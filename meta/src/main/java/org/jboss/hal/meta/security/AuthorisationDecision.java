@@ -59,15 +59,15 @@ public class AuthorisationDecision {
                 return Optional.of(securityContextRegistry.lookup(constraint.getTemplate()));
             }
             return Optional.empty();
-        });
+        }, securityContextRegistry);
     }
 
     public static AuthorisationDecision from(Environment environment, SecurityContext securityContext) {
-        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext));
+        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext), null);
     }
 
     public static AuthorisationDecision from(Environment environment, SecurityContextResolver resolver) {
-        return new AuthorisationDecision(environment, resolver);
+        return new AuthorisationDecision(environment, resolver, null);
     }
 
     // ------------------------------------------------------ instance
@@ -76,10 +76,13 @@ public class AuthorisationDecision {
 
     private final Environment environment;
     private final SecurityContextResolver resolver;
+    private final SecurityContextRegistry securityContextRegistry;
 
-    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver) {
+    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver,
+            SecurityContextRegistry securityContextRegistry) {
         this.environment = environment;
         this.resolver = resolver;
+        this.securityContextRegistry = securityContextRegistry;
     }
 
     public boolean isAllowed(Constraints constraints) {
@@ -102,10 +105,21 @@ public class AuthorisationDecision {
         }
     }
 
+    /**
+     * If this instance was created using a {@link SecurityContextRegistry}, the decision is cached by the registry until the
+     * registry is modified or the run-as roles change.
+     */
     public boolean isAllowed(Constraint constraint) {
         if (environment.getAccessControlProvider() == AccessControlProvider.SIMPLE) {
             return true;
         }
+        if (securityContextRegistry != null) {
+            return securityContextRegistry.isAllowed(constraint, this::decide);
+        }
+        return decide(constraint);
+    }
+
+    private boolean decide(Constraint constraint) {
         boolean allowed = false;
         Optional<SecurityContext> optional = resolver.resolve(constraint);
         if (optional.isPresent()) {
@@ -15,13 +15,16 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Splitter;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.stream.Collectors.joining;
 
 import static com.google.common.base.Strings.emptyToNull;
@@ -96,34 +99,54 @@ public class Constraints implements Iterable<Constraint> {
 
     // ------------------------------------------------------ parse
 
+    /** The parsed constraints are dropped once this limit is reached. */
+    static final int MAX_PARSED = 1_000;
+    private static final Map<String, Constraints> parsed = new HashMap<>();
+
+    /**
+     * Parses the specified input. Constraints are immutable, so the results are cached and the same input returns the same
+     * instance. This is important for {@link ElementGuard} which parses the {@code data-constraint} attributes over and over
+     * again.
+     */
     public static Constraints parse(String input) {
         if (emptyToNull(input) != null) {
-            Operator operator;
-            if (input.contains(AND.operator)) {
-                operator = AND;
-            } else if (input.contains(OR.operator)) {
-                operator = OR;
-            } else {
-                operator = AND;
-            }
-            Iterable<String> values = Splitter.on(operator.operator)
-                    .omitEmptyStrings()
-                    .trimResults()
-                    .split(input);
-            LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
-            for (String value : values) {
-                try {
-                    constraints.add(Constraint.parse(value));
-                } catch (IllegalArgumentException ignored) {
+            Constraints constraints = parsed.get(input);
+            if (constraints == null) {
+                if (parsed.size() >= MAX_PARSED) {
+                    parsed.clear();
                 }
+                constraints = parseInternal(input);
+                parsed.put(input, constraints);
             }
-            return new Constraints(constraints, operator);
-
+            return constraints;
         } else {
             return empty();
         }
     }
 
+    private static Constraints parseInternal(String input) {
+        Operator operator;
+        if (input.contains(AND.operator)) {
+            operator = AND;
+        } else if (input.contains(OR.operator)) {
+            operator = OR;
+        } else {
+            operator = AND;
+        }
+        Iterable<String> values = Splitter.on(operator.operator)
+                .omitEmptyStrings()
+                .trimResults()
+                .split(input);
+        LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
+        for (String value : values) {
+            try {
+                constraints.add(Constraint.parse(value));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return new Constraints(constraints, operator);
+    }
+
     // ------------------------------------------------------ instance
 
     private final LinkedHashSet<Constraint> constraints;
@@ -152,7 +175,7 @@ public class Constraints implements Iterable<Constraint> {
 
     @Override
     public Iterator<Constraint> iterator() {
-        return constraints.iterator();
+        return unmodifiableSet(constraints).iterator();
     }
 
     public int size() {
@@ -168,7 +191,7 @@ public class Constraints implements Iterable<Constraint> {
     }
 
     public Set<Constraint> getConstraints() {
-        return constraints;
+        return unmodifiableSet(constraints);
     }
 
     public Operator getOperator() {
@@ -15,6 +15,8 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -53,10 +55,24 @@ public class ElementGuard {
         processElements(authorisationDecision, element.querySelectorAll("[" + data(UIConstants.CONSTRAINT + "]")));
     }
 
+    /**
+     * Processes the elements in two passes: The first pass makes the decisions and collects the elements whose decision has
+     * changed. The second pass modifies just these elements. This way the DOM isn't touched for elements which keep their
+     * state and reads and writes are not interleaved.
+     */
     private static void processElements(AuthorisationDecision authorisationDecision, NodeList<Element> elements) {
+        Toggle toggle = new Toggle(authorisationDecision);
+        List<HTMLElement> changed = new ArrayList<>();
         Elements.stream(elements)
                 .filter(new Visible()) // prevent that hidden elements become visible by Toggle()
-                .forEach(new Toggle(authorisationDecision));
+                .forEach(element -> {
+                    if (toggle.changed(element)) {
+                        changed.add((HTMLElement) element);
+                    }
+                });
+        for (HTMLElement element : changed) {
+            Elements.toggle(element, rbacHidden, !element.classList.contains(rbacHidden));
+        }
     }
 
     private ElementGuard() {
@@ -87,14 +103,22 @@ public class ElementGuard {
 
         @Override
         public void accept(Element element) {
+            if (changed(element)) {
+                Elements.toggle((HTMLElement) element, rbacHidden, !element.classList.contains(rbacHidden));
+            }
+        }
+
+        /** @return whether the CSS class {@link org.jboss.hal.resources.CSS#rbacHidden} needs to be toggled */
+        boolean changed(Element element) {
             if (element instanceof HTMLElement) {
                 HTMLElement htmlElement = (HTMLElement) element;
                 String data = String.valueOf(htmlElement.dataset.get(UIConstants.CONSTRAINT));
                 if (data != null) {
-                    Constraints constraints = Constraints.parse(data);
-                    Elements.toggle(htmlElement, rbacHidden, !authorisationDecision.isAllowed(constraints));
+                    boolean hide = !authorisationDecision.isAllowed(Constraints.parse(data));
+                    return hide != htmlElement.classList.contains(rbacHidden);
                 }
             }
+            return false;
         }
     }
 }
@@ -15,48 +15,147 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Predicate;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
+import org.jboss.hal.meta.CacheStatistics;
 import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.WeightedCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import static java.util.Collections.unmodifiableMap;
 
+import static org.jboss.hal.config.Settings.Key.METADATA_CACHE_SIZE;
+import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
 public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
 
-    private static final int CACHE_SIZE = 500;
     private static final String SECURITY_CONTEXT_TYPE = "security context";
+    private static final int MAX_DECISIONS = 5_000;
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
-    private final Cache<ResourceAddress, SecurityContext> cache;
+    private final Settings settings;
+    private final Map<Decision, Boolean> decisions;
+    private WeightedCache<AddressKey, SecurityContext> cache;
+    private int generation;
+    private int decisionsGeneration;
+    private String decisionsRunAs;
 
     @Inject
-    public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
+    public SecurityContextRegistry(StatementContext statementContext, Environment environment, Settings settings) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
-        this.cache = CacheBuilder.newBuilder()
-                .maximumSize(CACHE_SIZE)
-                .recordStats()
-                .removalListener(
-                        notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
-                                notification.getCause()))
-                .build();
+        this.settings = settings;
+        this.decisions = new HashMap<>();
     }
 
     public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
         securityContext.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, securityContext);
+        // don't keep the response of the r-r-d operation alive
+        securityContext.detach();
+        cache().put(AddressKey.of(address), securityContext);
+        generation++;
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /** @return an unmodifiable view of the security contexts in this registry */
+    public Map<ResourceAddress, SecurityContext> asMap() {
+        Map<ResourceAddress, SecurityContext> map = new LinkedHashMap<>();
+        cache().asMap().forEach((key, securityContext) -> map.put(key.address(), securityContext));
+        return unmodifiableMap(map);
+    }
+
+    /** @return hit rate, evictions and weight of this registry */
+    public CacheStatistics statistics() {
+        return cache();
+    }
+
+    /** @return a number which changes whenever security contexts are added to or evicted from this registry */
+    public int generation() {
+        return generation;
+    }
+
     @Override
-    protected SecurityContext lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+    protected SecurityContext lookupKey(AddressKey key) {
+        return cache().get(key);
+    }
+
+    /**
+     * Returns the cached decision for the specified constraint or uses the specified function to make and cache the decision.
+     * Decisions are keyed by the resolved address of the constraint, so they take the current statement context into account.
+     * All decisions are dropped if the {@linkplain #generation() generation} of this registry or the run-as roles change.
+     */
+    boolean isAllowed(Constraint constraint, Predicate<Constraint> decision) {
+        String runAs = settings.get(RUN_AS).value();
+        if (decisionsGeneration != generation || !Objects.equals(decisionsRunAs, runAs)
+                || decisions.size() >= MAX_DECISIONS) {
+            decisions.clear();
+            decisionsGeneration = generation;
+            decisionsRunAs = runAs;
+        }
+        Decision key = new Decision(resolveTemplate(constraint.getTemplate()), constraint);
+        Boolean allowed = decisions.get(key);
+        if (allowed == null) {
+            allowed = decision.test(constraint);
+            decisions.put(key, allowed);
+        }
+        return allowed;
+    }
+
+    /**
+     * The cache is created on first use, since the budget is read from the settings which are not available when this
+     * registry is created. The weight of an entry is the size of its binary encoded form. Entries are detached from the
+     * response before they're added, so the weight is what the entry actually retains.
+     */
+    private WeightedCache<AddressKey, SecurityContext> cache() {
+        if (cache == null) {
+            int megabytes = settings.get(METADATA_CACHE_SIZE).asInt(Settings.DEFAULT_METADATA_CACHE_SIZE);
+            long maxWeight = megabytes * 1024L * 1024L;
+            cache = new WeightedCache<>(maxWeight, SecurityContext::encodedSize,
+                    (address, securityContext) -> {
+                        generation++;
+                        logger.debug("Evict {} from {} cache", address, type);
+                    });
+        }
+        return cache;
+    }
+
+    private static class Decision {
+
+        private final AddressKey address;
+        private final Constraint constraint;
+
+        private Decision(AddressKey address, Constraint constraint) {
+            this.address = address;
+            this.constraint = constraint;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Decision)) {
+                return false;
+            }
+            Decision that = (Decision) o;
+            return address.equals(that.address) && constraint.equals(that.constraint);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * address.hashCode() + constraint.hashCode();
+        }
     }
 }
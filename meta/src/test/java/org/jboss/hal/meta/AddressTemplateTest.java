@@ -17,6 +17,7 @@ package org.jboss.hal.meta;
 
 import java.util.List;
 
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ModelNodeHelper;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -24,7 +25,9 @@ import org.junit.Test;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 @SuppressWarnings("HardCodedStringLiteral")
@@ -267,6 +270,40 @@ public class AddressTemplateTest {
         assertEquals("a=b/c=%2F/d=e", at.getTemplate());
     }
 
+    @Test
+    public void resolveKey() {
+        AddressTemplate at = AddressTemplate.of("a=b/c=d");
+        AddressKey key = at.resolveKey(StatementContext.NOOP);
+        assertEquals(AddressKey.of(at.resolve(StatementContext.NOOP)), key);
+        assertSame(key, at.resolveKey(StatementContext.NOOP));
+    }
+
+    @Test
+    public void resolveKeyCached() {
+        CountingStatementContext context = new CountingStatementContext("foo");
+        AddressTemplate at = AddressTemplate.of("{a}/b={c}");
+        AddressKey key = at.resolveKey(context);
+        assertEquals(AddressKey.of(at.resolve(context)), key);
+
+        context.count = 0;
+        assertSame(key, at.resolveKey(context));
+        assertEquals(2, context.count); // one call per placeholder, but no resolve()
+
+        context.value = "bar";
+        AddressKey changed = at.resolveKey(context);
+        assertNotEquals(key, changed);
+        assertEquals("/a=bar/b=bar", changed.toString());
+    }
+
+    @Test
+    public void resolveKeyPerContext() {
+        AddressTemplate at = AddressTemplate.of("a={b}");
+        AddressKey foo = at.resolveKey(new CountingStatementContext("foo"));
+        AddressKey bar = at.resolveKey(new CountingStatementContext("bar"));
+        assertEquals("/a=foo", foo.toString());
+        assertEquals("/a=bar", bar.toString());
+    }
+
     private void assertResolved(String[][] tuples, ResourceAddress resourceAddress) {
         List<Property> properties = resourceAddress.asPropertyList();
         assertEquals(tuples.length, properties.size());
@@ -277,4 +314,56 @@ public class AddressTemplateTest {
             i++;
         }
     }
-}
\ No newline at end of file
+
+    private static class CountingStatementContext implements StatementContext {
+
+        String value;
+        int count;
+
+        CountingStatementContext(String value) {
+            this.value = value;
+        }
+
+        @Override
+        public String resolve(String placeholder, AddressTemplate template) {
+            count++;
+            return value;
+        }
+
+        @Override
+        public String[] resolveTuple(String placeholder, AddressTemplate template) {
+            count++;
+            return new String[] { placeholder, value };
+        }
+
+        @Override
+        public String domainController() {
+            return null;
+        }
+
+        @Override
+        public String selectedProfile() {
+            return null;
+        }
+
+        @Override
+        public String selectedServerGroup() {
+            return null;
+        }
+
+        @Override
+        public String selectedHost() {
+            return null;
+        }
+
+        @Override
+        public String selectedServerConfig() {
+            return null;
+        }
+
+        @Override
+        public String selectedServer() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTE_GROUP;
+import static org.jboss.hal.meta.AttributeCollectionTest.linearAlternatives;
+import static org.jboss.hal.meta.AttributeCollectionTest.linearGet;
+import static org.jboss.hal.meta.AttributeCollectionTest.linearGroup;
+import static org.jboss.hal.meta.AttributeCollectionTest.linearRequired;
+import static org.jboss.hal.meta.AttributeCollectionTest.linearRequiredBy;
+
+/**
+ * Compares the indexed lookups of {@link AttributeCollection} with the linear scans used before. Uses the descriptions of
+ * {@link AttributeCollectionTest}. The access pattern emulates a form build: for each attribute the form looks up the
+ * attribute, its alternatives, the attributes which require it, the required attributes and the attributes of its group.
+ * <p>
+ * Runs on the JVM, so the numbers only show the relative cost of the two algorithms. The class doesn't match the naming
+ * pattern of the unit tests and is not part of the regular build. Run it with
+ *
+ * <pre>
+ * mvn test -pl meta -Dtest=AttributeCollectionBenchmark
+ * </pre>
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class AttributeCollectionBenchmark {
+
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 20;
+
+    @BeforeClass
+    public static void beforeClass() {
+        AttributeCollectionTest.beforeClass();
+    }
+
+    @Test
+    public void compare() {
+        for (int i = 0; i < WARMUP; i++) {
+            run();
+        }
+        long linearTime = 0;
+        long indexedTime = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long[] run = run();
+            linearTime += run[0];
+            indexedTime += run[1];
+        }
+        int attributeCount = 0;
+        for (ModelNode description : AttributeCollectionTest.descriptions) {
+            attributeCount += new ResourceDescription(description).attributes().size();
+        }
+        System.out.printf("Built forms for %,d attributes in %d descriptions %d times: linear %d ms, indexed %d ms%n",
+                attributeCount, AttributeCollectionTest.descriptions.size(), ITERATIONS, linearTime / 1_000_000,
+                indexedTime / 1_000_000);
+    }
+
+    private long[] run() {
+        long[] times = new long[2];
+        for (ModelNode description : AttributeCollectionTest.descriptions) {
+            // new resource descriptions in each run: the indexes must be built as part of the measurement
+            AttributeCollection attributes = new ResourceDescription(description.clone()).attributes();
+            List<Property> properties = new ArrayList<>(attributes);
+
+            long start = System.nanoTime();
+            buildFormLinear(properties);
+            times[0] += System.nanoTime() - start;
+
+            start = System.nanoTime();
+            buildFormIndexed(attributes);
+            times[1] += System.nanoTime() - start;
+        }
+        return times;
+    }
+
+    private void buildFormLinear(List<Property> properties) {
+        for (Property property : properties) {
+            String name = property.getName();
+            linearGet(properties, name);
+            linearAlternatives(properties, name);
+            linearRequiredBy(properties, name);
+            linearRequired(properties);
+            if (property.getValue().hasDefined(ATTRIBUTE_GROUP)) {
+                linearGroup(properties, property.getValue().get(ATTRIBUTE_GROUP).asString());
+            }
+        }
+    }
+
+    private void buildFormIndexed(AttributeCollection attributes) {
+        for (Property property : attributes) {
+            String name = property.getName();
+            attributes.get(name);
+            attributes.alternatives(name);
+            attributes.requiredBy(name);
+            attributes.required();
+            if (property.getValue().hasDefined(ATTRIBUTE_GROUP)) {
+                attributes.group(property.getValue().get(ATTRIBUTE_GROUP).asString());
+            }
+        }
+    }
+}
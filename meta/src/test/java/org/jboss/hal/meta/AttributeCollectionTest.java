@@ -0,0 +1,205 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jboss.hal.dmr.ExternalModelNode;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ALTERNATIVES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTE_GROUP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NILLABLE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+/**
+ * Checks that the indexed lookups of {@link AttributeCollection} return the same results as the linear scans used before.
+ * Uses the resource descriptions of the meta test fixtures plus a synthetic description with lots of attributes.
+ * <p>
+ * The descriptions and the linear scans are shared with {@link AttributeCollectionBenchmark}.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+public class AttributeCollectionTest {
+
+    private static final String[] FIXTURES = new String[] {
+            "processing/composite_rrd_recursive_description_only.dmr",
+            "processing/rrd_concrete_resource_description_only.dmr",
+            "processing/rrd_wildcard_resource_description_only.dmr",
+    };
+    private static final int SYNTHETIC_ATTRIBUTES = 300;
+
+    static List<ModelNode> descriptions;
+
+    @BeforeClass
+    public static void beforeClass() {
+        descriptions = new ArrayList<>();
+        for (String fixture : FIXTURES) {
+            collect(ExternalModelNode.read(AttributeCollectionTest.class.getResourceAsStream(fixture)),
+                    descriptions);
+        }
+        descriptions.add(synthetic());
+    }
+
+    @Test
+    public void sameResults() {
+        for (ModelNode description : descriptions) {
+            AttributeCollection attributes = new ResourceDescription(description).attributes();
+            List<Property> properties = new ArrayList<>(attributes);
+            assertEquals(linearRequired(properties), attributes.required());
+            for (Property property : properties) {
+                String name = property.getName();
+                assertEquals(linearGet(properties, name), attributes.get(name));
+                assertEquals(linearAlternatives(properties, name), attributes.alternatives(name));
+                assertEquals(linearRequiredBy(properties, name), attributes.requiredBy(name));
+            }
+            for (String group : groups(properties)) {
+                assertEquals(linearGroup(properties, group), attributes.group(group));
+            }
+            assertEquals(new ModelNode(), attributes.get("not-there"));
+        }
+    }
+
+    @Test
+    public void modification() {
+        AttributeCollection attributes = new ResourceDescription(synthetic()).attributes();
+        assertFalse(attributes.requiredBy("attribute-0").isEmpty());
+
+        ModelNode description = new ModelNode();
+        description.get(TYPE).set(ModelType.STRING);
+        description.get(REQUIRES).add("attribute-0");
+        attributes.add(new Property("new-attribute", description));
+        assertEquals(description, attributes.get("new-attribute"));
+        assertEquals(asList("attribute-1", "new-attribute"), attributes.requiredBy("attribute-0"));
+
+        attributes.clear();
+        assertEquals(new ModelNode(), attributes.get("new-attribute"));
+        assertEquals(emptyList(), attributes.requiredBy("attribute-0"));
+    }
+
+    // ------------------------------------------------------ linear scans (the former implementation)
+
+    static ModelNode linearGet(List<Property> properties, String name) {
+        for (Property p : properties) {
+            if (p.getName().equals(name)) {
+                return p.getValue();
+            }
+        }
+        return new ModelNode();
+    }
+
+    static List<Property> linearGroup(List<Property> properties, String group) {
+        return properties.stream()
+                .filter(property -> property.getValue().hasDefined(ATTRIBUTE_GROUP) &&
+                        group.equals(property.getValue().get(ATTRIBUTE_GROUP).asString()))
+                .collect(toList());
+    }
+
+    static List<Property> linearRequired(List<Property> properties) {
+        return properties.stream()
+                .filter(property -> {
+                    ModelNode attributeDescription = property.getValue();
+                    if (attributeDescription.hasDefined(REQUIRED)) {
+                        return attributeDescription.get(REQUIRED).asBoolean();
+                    } else if (attributeDescription.hasDefined(NILLABLE)) {
+                        return !attributeDescription.get(NILLABLE).asBoolean();
+                    }
+                    return false;
+                })
+                .collect(toList());
+    }
+
+    static List<String> linearAlternatives(List<Property> properties, String name) {
+        ModelNode attribute = linearGet(properties, name);
+        if (attribute.hasDefined(ALTERNATIVES)) {
+            return attribute.get(ALTERNATIVES).asList().stream().map(ModelNode::asString).collect(toList());
+        }
+        return emptyList();
+    }
+
+    static List<String> linearRequiredBy(List<Property> properties, String name) {
+        return properties.stream()
+                .filter(attribute -> attribute.getValue().hasDefined(REQUIRES) &&
+                        attribute.getValue().get(REQUIRES).asList().stream()
+                                .map(ModelNode::asString)
+                                .collect(toList())
+                                .contains(name))
+                .map(Property::getName)
+                .collect(toList());
+    }
+
+    // ------------------------------------------------------ fixtures
+
+    private static void collect(ModelNode node, List<ModelNode> descriptions) {
+        if (node.getType() == ModelType.OBJECT) {
+            if (node.hasDefined(ATTRIBUTES) && node.get(ATTRIBUTES).getType() == ModelType.OBJECT) {
+                descriptions.add(node);
+            }
+            for (String key : node.keys()) {
+                collect(node.get(key), descriptions);
+            }
+        } else if (node.getType() == ModelType.LIST) {
+            for (ModelNode element : node.asList()) {
+                collect(element, descriptions);
+            }
+        } else if (node.getType() == ModelType.PROPERTY) {
+            collect(node.asProperty().getValue(), descriptions);
+        }
+    }
+
+    private static ModelNode synthetic() {
+        ModelNode description = new ModelNode();
+        for (int i = 0; i < SYNTHETIC_ATTRIBUTES; i++) {
+            ModelNode attribute = description.get(ATTRIBUTES, "attribute-" + i);
+            attribute.get(TYPE).set(ModelType.STRING);
+            attribute.get(NILLABLE).set(i % 3 != 0);
+            attribute.get(ATTRIBUTE_GROUP).set("group-" + (i % 10));
+            if (i % 7 == 1) {
+                attribute.get(REQUIRES).add("attribute-" + (i - 1));
+            }
+            if (i % 5 == 2) {
+                attribute.get(ALTERNATIVES).add("attribute-" + (i + 1));
+            }
+        }
+        return description;
+    }
+
+    private static Set<String> groups(List<Property> properties) {
+        Set<String> groups = new TreeSet<>();
+        for (Property property : properties) {
+            if (property.getValue().hasDefined(ATTRIBUTE_GROUP)) {
+                groups.add(property.getValue().get(ATTRIBUTE_GROUP).asString());
+            }
+        }
+        return groups;
+    }
+}
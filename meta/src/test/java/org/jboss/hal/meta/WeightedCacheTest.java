@@ -0,0 +1,85 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class WeightedCacheTest {
+
+    private final List<String> evicted = new ArrayList<>();
+
+    private WeightedCache<String, String> cache(long maxWeight) {
+        return new WeightedCache<>(maxWeight, String::length, (key, value) -> evicted.add(key));
+    }
+
+    @Test
+    public void weight() {
+        WeightedCache<String, String> cache = cache(10);
+        cache.put("a", "123");
+        cache.put("b", "1234");
+        assertEquals(7, cache.weight());
+        cache.put("a", "1");
+        assertEquals(5, cache.weight());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        WeightedCache<String, String> cache = cache(10);
+        cache.put("a", "1234");
+        cache.put("b", "1234");
+        cache.get("a");
+        cache.put("c", "1234");
+        assertEquals(singletonList("b"), evicted);
+        assertNull(cache.get("b"));
+        assertEquals(asList("a", "c"), new ArrayList<>(cache.asMap().keySet()));
+        assertEquals(8, cache.weight());
+        assertEquals(1, cache.evictions());
+    }
+
+    @Test
+    public void keepOversizedEntry() {
+        WeightedCache<String, String> cache = cache(10);
+        cache.put("a", "12");
+        cache.put("b", "123456789012");
+        assertEquals(singletonList("a"), evicted);
+        assertEquals(1, cache.size());
+        assertEquals("123456789012", cache.get("b"));
+    }
+
+    @Test
+    public void hitRate() {
+        WeightedCache<String, String> cache = cache(10);
+        assertEquals(1.0, cache.hitRate(), 0.0);
+        cache.put("a", "1");
+        cache.get("a");
+        cache.get("a");
+        cache.get("a");
+        cache.get("b");
+        assertEquals(3, cache.hits());
+        assertEquals(1, cache.misses());
+        assertEquals(0.75, cache.hitRate(), 0.0);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class BatchSizeTest {
+
+    @Test
+    public void initial() {
+        assertEquals(3, new BatchSize(3).get());
+        assertEquals(BatchSize.MIN, new BatchSize(0).get());
+        assertEquals(BatchSize.MAX, new BatchSize(100).get());
+    }
+
+    @Test
+    public void smallAndFast() {
+        BatchSize batchSize = new BatchSize(3);
+        batchSize.record(3, 3 * 1024, 30);
+        assertEquals(BatchSize.MAX, batchSize.get());
+    }
+
+    @Test
+    public void big() {
+        BatchSize batchSize = new BatchSize(3);
+        batchSize.record(3, 3 * BatchSize.TARGET_BYTES / 2, 30);
+        assertEquals(2, batchSize.get());
+    }
+
+    @Test
+    public void slow() {
+        BatchSize batchSize = new BatchSize(3);
+        batchSize.record(3, 1024, 3 * BatchSize.TARGET_MILLIS);
+        assertEquals(BatchSize.MIN, batchSize.get());
+    }
+
+    @Test
+    public void unknownSize() {
+        BatchSize batchSize = new BatchSize(3);
+        batchSize.record(2, -1, BatchSize.TARGET_MILLIS / 4);
+        assertEquals(8, batchSize.get());
+    }
+
+    @Test
+    public void average() {
+        BatchSize batchSize = new BatchSize(3);
+        batchSize.record(1, 1024, BatchSize.TARGET_MILLIS / 2); // 500 ms/op -> 2
+        assertEquals(2, batchSize.get());
+        batchSize.record(1, 1024, BatchSize.TARGET_MILLIS / 10); // (500 + 100) / 2 = 300 ms/op -> 3
+        assertEquals(3, batchSize.get());
+    }
+}
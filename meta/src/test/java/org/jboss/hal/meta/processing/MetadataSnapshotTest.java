@@ -0,0 +1,126 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.util.List;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ExternalModelNode;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.security.SecurityContext;
+import org.jboss.hal.meta.security.SecurityContextDatabase;
+import org.jboss.hal.meta.security.SecurityContextRegistry;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ;
+import static org.jboss.hal.meta.processing.MetadataSnapshot.RESOURCE_DESCRIPTION;
+import static org.jboss.hal.meta.processing.MetadataSnapshot.SECURITY_CONTEXT;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@SuppressWarnings({ "DuplicateStringLiteralInspection", "HardCodedStringLiteral" })
+public class MetadataSnapshotTest {
+
+    private ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private SecurityContextRegistry securityContextRegistry;
+    private MetadataSnapshot snapshot;
+
+    @Before
+    public void setUp() {
+        Environment environment = mock(Environment.class);
+        resourceDescriptionRegistry = new ResourceDescriptionRegistry(StatementContext.NOOP, environment, new Settings());
+        securityContextRegistry = new SecurityContextRegistry(StatementContext.NOOP, environment, new Settings());
+        snapshot = new MetadataSnapshot(environment, mock(ResourceDescriptionDatabase.class), resourceDescriptionRegistry,
+                mock(SecurityContextDatabase.class), securityContextRegistry);
+    }
+
+    @Test
+    public void apply() {
+        ResourceAddress address = new ResourceAddress().add("subsystem", "undertow");
+        int count = snapshot.apply(asList(
+                MetadataSnapshot.entry(RESOURCE_DESCRIPTION, address, resourceDescription(true)),
+                MetadataSnapshot.entry(SECURITY_CONTEXT, address, securityContext())));
+
+        assertEquals(2, count);
+        ResourceDescription resourceDescription = resourceDescriptionRegistry.asMap().get(address);
+        assertEquals("undertow", resourceDescription.get(DESCRIPTION).asString());
+        assertTrue(resourceDescription.get(HAL_RECURSIVE).asBoolean());
+        assertTrue(securityContextRegistry.asMap().get(address).get(READ).asBoolean());
+    }
+
+    @Test
+    public void unknownType() {
+        ResourceAddress address = new ResourceAddress().add("subsystem", "undertow");
+        int count = snapshot.apply(asList(MetadataSnapshot.entry("foo", address, resourceDescription(false))));
+
+        assertEquals(0, count);
+        assertTrue(resourceDescriptionRegistry.asMap().isEmpty());
+        assertTrue(securityContextRegistry.asMap().isEmpty());
+    }
+
+    @Test
+    public void binary() {
+        // values with '/' and '=' must survive the snapshot
+        ResourceAddress deployment = new ResourceAddress().add("deployment", "a=b/c.war");
+        ResourceAddress servlet = new ResourceAddress()
+                .add("deployment", "a=b/c.war")
+                .add("subsystem", "undertow")
+                .add("servlet", "/foo/*");
+        List<ModelNode> entries = asList(
+                MetadataSnapshot.entry(RESOURCE_DESCRIPTION, deployment, resourceDescription(false)),
+                MetadataSnapshot.entry(RESOURCE_DESCRIPTION, servlet, resourceDescription(true)),
+                MetadataSnapshot.entry(SECURITY_CONTEXT, servlet, securityContext()));
+
+        for (boolean lazy : new boolean[] { false, true }) {
+            setUp();
+            int count = snapshot.apply(ExternalModelNode.roundTrip(entries, lazy));
+
+            assertEquals(3, count);
+            assertEquals(2, resourceDescriptionRegistry.asMap().size());
+            assertTrue(resourceDescriptionRegistry.asMap().containsKey(deployment));
+            assertTrue(resourceDescriptionRegistry.asMap().get(servlet).get(HAL_RECURSIVE).asBoolean());
+            assertEquals(1, securityContextRegistry.asMap().size());
+            assertTrue(securityContextRegistry.asMap().containsKey(servlet));
+        }
+    }
+
+    // ------------------------------------------------------ helper methods
+
+    private ResourceDescription resourceDescription(boolean recursive) {
+        ModelNode modelNode = new ModelNode();
+        modelNode.get(DESCRIPTION).set("undertow");
+        modelNode.get(HAL_RECURSIVE).set(recursive);
+        return new ResourceDescription(modelNode);
+    }
+
+    private SecurityContext securityContext() {
+        ModelNode modelNode = new ModelNode();
+        modelNode.get(READ).set(true);
+        return new SecurityContext(modelNode);
+    }
+}
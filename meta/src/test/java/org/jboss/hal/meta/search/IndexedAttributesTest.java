@@ -0,0 +1,98 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class IndexedAttributesTest {
+
+    private IndexedAttributes indexedAttributes;
+
+    @Before
+    public void setUp() {
+        indexedAttributes = new IndexedAttributes();
+    }
+
+    @Test
+    public void escapedAddress() {
+        ResourceAddress address = new ResourceAddress()
+                .add("deployment", "a=b/c.war")
+                .add("subsystem", "undertow")
+                .add("servlet", "foo\\bar");
+        AddressKey key = AddressKey.of(address);
+        indexedAttributes.add(key, names("name"));
+
+        // the canonical string is escaped and must not be parsed
+        assertTrue(key.toString().contains("\\"));
+        assertEquals(address, indexedAttributes.address(key.toString()));
+    }
+
+    @Test
+    public void unknownAddress() {
+        assertNull(indexedAttributes.address("/subsystem=undertow"));
+        assertNull(indexedAttributes.address(null));
+    }
+
+    @Test
+    public void add() {
+        AddressKey key = AddressKey.of(new ResourceAddress().add("subsystem", "undertow"));
+
+        assertTrue(indexedAttributes.add(key, names("a", "b")).isEmpty());
+        assertEquals(1, indexedAttributes.size());
+    }
+
+    @Test
+    public void replace() {
+        AddressKey key = AddressKey.of(new ResourceAddress().add("subsystem", "undertow"));
+        indexedAttributes.add(key, names("a", "b"));
+
+        // 'a' is no longer an attribute
+        assertEquals(singletonList(IndexedAttributes.id(key, "a")), indexedAttributes.add(key, names("b", "c")));
+        assertEquals(1, indexedAttributes.size());
+    }
+
+    @Test
+    public void remove() {
+        AddressKey undertow = AddressKey.of(new ResourceAddress().add("subsystem", "undertow"));
+        AddressKey logging = AddressKey.of(new ResourceAddress().add("subsystem", "logging"));
+        indexedAttributes.add(undertow, names("a", "b"));
+        indexedAttributes.add(logging, names("c"));
+
+        assertEquals(asList(IndexedAttributes.id(undertow, "a"), IndexedAttributes.id(undertow, "b")),
+                indexedAttributes.remove(undertow));
+        assertNull(indexedAttributes.address(undertow.toString()));
+        assertEquals(1, indexedAttributes.size());
+        assertTrue(indexedAttributes.remove(undertow).isEmpty());
+    }
+
+    private Set<String> names(String... names) {
+        return new LinkedHashSet<>(asList(names));
+    }
+}
@@ -19,12 +19,17 @@ import java.util.Optional;
 
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
 import org.junit.Before;
 import org.junit.Test;
 
 import static org.jboss.hal.meta.security.SecurityContext.READ_ONLY;
 import static org.jboss.hal.meta.security.SecurityContext.RWX;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -106,4 +111,47 @@ public class AuthorisationDecisionTest {
         Constraints constraints = Constraints.or(foo, bar);
         assertTrue(AuthorisationDecision.from(rbac, c -> Optional.of(securityContext)).isAllowed(constraints));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void registryCached() {
+        CountingSecurityContext counting = new CountingSecurityContext();
+        SecurityContextRegistry registry = new SecurityContextRegistry(StatementContext.NOOP, rbac, new Settings());
+        registry.add(ResourceAddress.root(), counting, false);
+
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, registry);
+        assertTrue(decision.isAllowed(foo));
+        assertTrue(decision.isAllowed(foo));
+        assertTrue(AuthorisationDecision.from(rbac, registry).isAllowed(Constraints.single(foo)));
+        assertEquals(1, counting.count);
+
+        // modifying the registry drops the cached decisions
+        registry.add(ResourceAddress.root(), counting, false);
+        assertTrue(decision.isAllowed(foo));
+        assertEquals(2, counting.count);
+    }
+
+    @Test
+    public void registryMissing() {
+        SecurityContextRegistry registry = new SecurityContextRegistry(StatementContext.NOOP, rbac, new Settings());
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, registry);
+        assertFalse(decision.isAllowed(foo));
+
+        registry.add(ResourceAddress.root(), new CountingSecurityContext(), false);
+        assertTrue(decision.isAllowed(foo));
+    }
+
+    private static class CountingSecurityContext extends SecurityContext {
+
+        int count;
+
+        CountingSecurityContext() {
+            super(new ModelNode());
+        }
+
+        @Override
+        public boolean isExecutable(String operation) {
+            count++;
+            return true;
+        }
+    }
+}
@@ -22,6 +22,7 @@ import static org.jboss.hal.meta.security.Constraints.Operator.AND;
 import static org.jboss.hal.meta.security.Constraints.Operator.OR;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public class ConstraintsTest {
@@ -99,6 +100,16 @@ public class ConstraintsTest {
         assertEmpty(constraints);
     }
 
+    @Test
+    public void parseCached() {
+        assertSame(Constraints.parse(AND_DATA), Constraints.parse(AND_DATA));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void immutable() {
+        Constraints.parse(AND_DATA).getConstraints().clear();
+    }
+
     // ------------------------------------------------------ helper methods
 
     private void assertEmpty(Constraints empty) {
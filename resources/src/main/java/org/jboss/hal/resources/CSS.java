@@ -197,6 +197,7 @@ public interface CSS {
     String hasError = "has-error";
     String headerForm = "header-form";
     String header = "header";
+    String headerSearch = "header-search";
     String helpBlock = "help-block";
     String hidden = "hidden";
     String hiddenXs = "hidden-xs";
@@ -286,6 +287,7 @@ public interface CSS {
     String marginTopLarge = "margin-top-large";
     String messageDetails = "message-details";
     String messageDetailsPre = "message-details-pre";
+    String messagePager = "message-pager";
     String modal = "modal";
     String modalBody = "modal-body";
     String modalContent = "modal-content";
@@ -403,6 +405,8 @@ public interface CSS {
     String servers = "servers";
     String serverGroupContainer = "server-group-container";
     String smallLink = "small-link";
+    String spacer = "spacer";
+    String sparkline = "sparkline";
     String spinner = "spinner";
     String spinnerLg = "spinner-lg";
     String srOnly = "sr-only";
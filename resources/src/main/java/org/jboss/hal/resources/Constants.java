@@ -54,6 +54,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String backToNormalMode();
     String browse();
     String browseBy();
+    String browseMessages();
     String cacheMemory();
     String cacheStore();
     String callerThread();
@@ -189,9 +190,11 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String endpointSelectDescription();
     String endpointSelectTitle();
     String enterAddressMatch();
+    String entries();
     String entry();
     String environment();
     String error();
+    String evictionCount();
     String excludeRole();
     String excludes();
     String excludeUserGroup();
@@ -243,6 +246,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String hiddenColumns();
     String hideSensitive();
     String hitCount();
+    String hitRate();
     String homepageAccessControlSection();
     String homepageAccessControlSsoSubHeader();
     String homepageAccessControlStep1();
@@ -346,6 +350,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String invalidMetadata();
     String jcaConfiguration();
     String jgroupsRelayAlias();
+    String jmsSelector();
     String jndiNames();
     String jndiTree();
     String keys();
@@ -379,6 +384,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String message();
     String messageLarge();
     String messages();
+    String metadataCache();
     String milliseconds();
     String minimum();
     String minute();
@@ -506,6 +512,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String resolve();
     String resolvedValue();
     String resolveExpression();
+    String resourceDescriptions();
     String resourceName();
     String resourceRollback();
     String response();
@@ -539,6 +546,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String search();
     String second();
     String seconds();
+    String securityContexts();
     String selectAll();
     String sendToDeadLetter();
     String serverGroupScopedRole();
@@ -646,6 +654,7 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
     String view();
     String viewDetailsAlias();
     String viewInEditor();
+    String weight();
     String xaProperties();
     String yes();
 }
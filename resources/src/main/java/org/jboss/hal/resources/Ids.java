@@ -325,6 +325,7 @@ public interface Ids {
     String HAL_WIZARD_TITLE = "hal-wizard-title";
     String HEADER = "header";
     String HEADER_CONNECTED_TO = "header-connected-to";
+    String HEADER_SEARCH = "header-search";
     String HEADER_USERNAME = "header-username";
     String HOMEPAGE_ACCESS_CONTROL_MODULE = "homepage-access-control-module";
     String HOMEPAGE_ACCESS_CONTROL_SECTION = "homepage-access-control-section";
@@ -612,6 +613,7 @@ public interface Ids {
     String MODEL_BROWSER = "model-browser";
     String MODEL_BROWSER_CREATE_SINGLETON_FORM = "model-browser-create-singleton-form";
     String MODEL_BROWSER_ROOT = "model-browser-root";
+    String MODEL_BROWSER_SEARCH = "model-browser-search";
     String NO_MATCH = "no-match";
     String NONE_PROGRESSING_LINK = "none-progressing-link";
     String NATIVE_INTERFACE_ITEM = "native-interface-item";
@@ -311,6 +311,7 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     SafeHtml readAliasesError(String resource, String error);
     SafeHtml readAliasesSuccess(String resource);
     SafeHtml readIdentityError(String identity, String realm, String error);
+    SafeHtml readResourceError(String resource, String error);
     SafeHtml recordingStarted();
     SafeHtml recordingStopped();
     SafeHtml reloadConsoleRedirect(String url);
@@ -610,8 +611,10 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
     String logFilePreview(int lines);
     String mailColumnFilterDescription();
     String membershipColumnFilterDescription();
+    String messagesPage(int page, int messages);
     String microprofileHealthNoChecks();
     String microprofileHealthPreviewDescription();
+    String modelBrowserMoreChildren(int remaining);
     String modifyResourceTitle(String type);
     String moreThanOneCacheStoreDetails();
     String noBootErrors();